@@ -0,0 +1,79 @@
+package edu.kit.cargame.game.common;
+
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the seeded, headless games all benchmarks run on.
+ */
+public final class BenchmarkGames {
+    /**
+     * The seed of every benchmark game, so runs are comparable.
+     */
+    public static final long SEED = 1234;
+
+    private BenchmarkGames() {
+        // Utility
+    }
+
+    /**
+     * Creates a headless game with an invincible player car which never steers, so it never ends.
+     *
+     * @param obstacleAmount       the OBSTACLE_AMOUNT config value
+     * @param movingObstacleFactor the MOVING_OBSTACLE_FACTOR config value
+     * @return the game
+     */
+    public static Game create(int obstacleAmount, float movingObstacleFactor) {
+        return create(obstacleAmount, movingObstacleFactor, Map.of());
+    }
+
+    /**
+     * Creates a game like {@link #create(int, float)} with further config values replaced.
+     *
+     * @param obstacleAmount       the OBSTACLE_AMOUNT config value
+     * @param movingObstacleFactor the MOVING_OBSTACLE_FACTOR config value
+     * @param overrides            the further config values, by their JSON name
+     * @return the game
+     */
+    public static Game create(int obstacleAmount, float movingObstacleFactor, Map<String, Object> overrides) {
+        Map<String, Object> values = new HashMap<>(overrides);
+        values.put("SEED", SEED);
+        values.put("INVINCIBLE", true);
+        values.put("OBSTACLE_AMOUNT", obstacleAmount);
+        values.put("MOVING_OBSTACLE_FACTOR", movingObstacleFactor);
+        Config config = Config.defaultConfig().withOverrides(values);
+        UserInput<ActionTypes> idle = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(idle, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    /**
+     * Creates a game like {@link #create(int, float)} and ticks it until the screen is filled with chunks.
+     *
+     * @param obstacleAmount       the OBSTACLE_AMOUNT config value
+     * @param movingObstacleFactor the MOVING_OBSTACLE_FACTOR config value
+     * @param ticks                how many ticks to simulate
+     * @return the game
+     */
+    public static Game createWarmedUp(int obstacleAmount, float movingObstacleFactor, int ticks) {
+        Game game = create(obstacleAmount, movingObstacleFactor);
+        for (int i = 0; i < ticks; i++) {
+            game.tick();
+        }
+        return game;
+    }
+}
@@ -0,0 +1,76 @@
+package edu.kit.cargame.game.common;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole simulation step, i.e. {@link Game#tick()}.
+ * Next to the throughput it reports how many game objects and colliding objects take part in collisions,
+ * since both drive the cost of a tick.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTickBenchmark {
+    @Param({"7", "20", "50"})
+    int obstacleAmount;
+
+    @Param({"0.5", "1.0"})
+    float movingObstacleFactor;
+
+    private Game game;
+
+    /**
+     * The amount of game objects below the colliders, counted after each iteration.
+     */
+    public int gameObjects;
+    /**
+     * The amount of colliding objects below the colliders, counted after each iteration.
+     */
+    public int collidingObjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkGames.create(obstacleAmount, movingObstacleFactor);
+    }
+
+    @Benchmark
+    public void tick() {
+        game.tick();
+    }
+
+    @TearDown(Level.Iteration)
+    public void countObjects() {
+        gameObjects = 0;
+        collidingObjects = 0;
+        count(game.getColliders());
+    }
+
+    private void count(GameObject parent) {
+        for (GameObject child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            gameObjects++;
+            if (child instanceof CollidingGameObject) {
+                collidingObjects++;
+            }
+            count(child);
+        }
+    }
+}
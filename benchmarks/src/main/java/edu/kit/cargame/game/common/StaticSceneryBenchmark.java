@@ -0,0 +1,75 @@
+package edu.kit.cargame.game.common;
+
+import edu.kit.cargame.game.geometry.Point;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Game#tick()} with a growing amount of static scenery, i.e. objects without a tick of their own.
+ * The scenery is put next to the chunks below the colliders, so it shares a subtree with ticked objects.
+ * Ticking only visits ticked objects, the scenery is just walked past when the ticked objects are collected again
+ * after some were added or taken out. So the tick time should barely grow with the amount of scenery.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticSceneryBenchmark {
+    private static final int WARM_UP_TICKS = 500;
+
+    @Param({"0", "100", "1000", "10000"})
+    int staticObjects;
+
+    private Game game;
+
+    /**
+     * The amount of objects ticked in the last tick, counted after each iteration.
+     */
+    public int tickedObjects;
+
+    /**
+     * An object without a tick of its own and without a bounding box, so it does not take part in collisions either.
+     */
+    private static final class Scenery extends GameObject {
+        Scenery(GameObject parent, Game game) {
+            super(parent, game, Point.zero());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkGames.createWarmedUp(7, 0.5f, WARM_UP_TICKS);
+        for (int i = 0; i < staticObjects; i++) {
+            new Scenery(game.getColliders(), game);
+        }
+        // Adds the scenery at the end of the tick
+        game.tick();
+    }
+
+    @Benchmark
+    public void tick() {
+        game.tick();
+    }
+
+    @TearDown(Level.Iteration)
+    public void countTickedObjects() {
+        tickedObjects = game.getTickedObjectCount();
+    }
+}
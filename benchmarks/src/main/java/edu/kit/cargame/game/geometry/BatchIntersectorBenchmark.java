@@ -0,0 +1,106 @@
+package edu.kit.cargame.game.geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares testing a set of queries against a batch of boxes one {@link BoundingBox#intersects(BoundingBox)} call
+ * at a time with the scalar and the vectorized {@link BatchIntersector}.
+ * The boxes are spread like obstacles on the road, so most of them miss a query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchIntersectorBenchmark {
+    private static final int QUERIES = 16;
+    private static final float WORLD_WIDTH = 1920;
+    private static final float WORLD_HEIGHT = 1080;
+    private static final float BOX_SIZE = 80;
+
+    @Param({"RECORD", "SCALAR", "VECTOR"})
+    String path;
+
+    @Param({"16", "128", "1024"})
+    int boxAmount;
+
+    private BoundingBox[] boxes;
+    private float[] minX;
+    private float[] minY;
+    private float[] maxX;
+    private float[] maxY;
+    private BoundingBox[] queries;
+    private BatchIntersector intersector;
+    private int[] hits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        intersector = "VECTOR".equals(path) ? BatchIntersector.getDefault() : BatchIntersector.scalar();
+        if ("VECTOR".equals(path) && !intersector.isVectorized()) {
+            throw new IllegalStateException("The jdk.incubator.vector module is missing");
+        }
+        Random random = new Random(1);
+        boxes = new BoundingBox[boxAmount];
+        minX = new float[boxAmount];
+        minY = new float[boxAmount];
+        maxX = new float[boxAmount];
+        maxY = new float[boxAmount];
+        for (int i = 0; i < boxAmount; i++) {
+            boxes[i] = randomBox(random);
+            minX[i] = boxes[i].bottomLeft().x();
+            minY[i] = boxes[i].bottomLeft().y();
+            maxX[i] = boxes[i].topRight().x();
+            maxY[i] = boxes[i].topRight().y();
+        }
+        queries = new BoundingBox[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = randomBox(random);
+        }
+        hits = new int[boxAmount];
+    }
+
+    @Benchmark
+    public int intersect() {
+        int total = 0;
+        for (BoundingBox query : queries) {
+            if ("RECORD".equals(path)) {
+                total += intersectRecords(query);
+            } else {
+                total += intersector.intersecting(minX, minY, maxX, maxY, 0, boxAmount, query.bottomLeft().x(),
+                    query.bottomLeft().y(), query.topRight().x(), query.topRight().y(), hits);
+            }
+        }
+        return total;
+    }
+
+    private int intersectRecords(BoundingBox query) {
+        int hitCount = 0;
+        for (int i = 0; i < boxes.length; i++) {
+            if (boxes[i].intersects(query)) {
+                hits[hitCount++] = i;
+            }
+        }
+        return hitCount;
+    }
+
+    private static BoundingBox randomBox(Random random) {
+        float x = random.nextFloat() * WORLD_WIDTH;
+        float y = random.nextFloat() * WORLD_HEIGHT;
+        return new BoundingBox(new Point(x, y), new Point(x + BOX_SIZE, y + BOX_SIZE));
+    }
+}
@@ -0,0 +1,137 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.BenchmarkGames;
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.common.TickProfiler;
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Broadphase} implementations on a collision phase, i.e. preparing the broadphase
+ * and colliding a set of probes the size of the player car, which are spread over the road.
+ * Like in {@link CollisionBenchmark} nothing reacts to the probes, so the world stays unchanged between invocations.
+ * The collision phase of a running game, which also finds the moved objects, is measured by {@link #tick(RunningGame)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadphaseBenchmark {
+    private static final int WARM_UP_TICKS = 300;
+    private static final int PROBES = 16;
+
+    @Param({"HIERARCHY", "GRID", "SWEEP_AND_PRUNE"})
+    String broadphaseType;
+
+    @Param({"7", "50", "500"})
+    int obstacleAmount;
+
+    private Colliders colliders;
+    private Broadphase broadphase;
+    private Probe[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Game game = BenchmarkGames.create(obstacleAmount, 0.5f, Map.of("COLLISION_BROADPHASE", broadphaseType));
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            game.tick();
+        }
+        colliders = game.getColliders();
+        broadphase = BroadphaseType.fromString(broadphaseType).create();
+
+        BoundingBox carBox = game.getPlayerCar().getBoundingBox();
+        BoundingBox probeBox = new BoundingBox(new Point(carBox.getWidth(), carBox.getHeight()));
+        float height = game.getConfig().worldHeight();
+        float width = game.getConfig().worldWidth();
+        probes = new Probe[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = new Probe(game, probeBox);
+        }
+        // Attaches the probes to their own, detached holders
+        game.tick();
+        for (int i = 0; i < PROBES; i++) {
+            probes[i].setPosition(new Point(width * (i % 4) / 4, height * (i / 4) / 4));
+        }
+    }
+
+    @Benchmark
+    public void collisionPhase() {
+        broadphase.prepare(colliders);
+        for (Probe probe : probes) {
+            broadphase.collide(probe);
+        }
+    }
+
+    /**
+     * Ticks a running game, whose chunks carry their obstacles and collectables along every tick.
+     * The carried objects are only checked for collisions while they are near an object which moved differently,
+     * e.g. the road borders, the player car or an obstacle driving by itself.
+     * The median time of the collision phase is reported next to the time of the whole tick.
+     *
+     * @param running the running game
+     */
+    @Benchmark
+    public void tick(RunningGame running) {
+        running.game.tick();
+    }
+
+    /**
+     * A game with the same settings as the probed one, which is ticked with the profiler enabled.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RunningGame {
+        private Game game;
+
+        /**
+         * The median time of the collision phase of the last ticks in nanoseconds, taken after each iteration.
+         */
+        public long collisionPhaseNanos;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            game = BenchmarkGames.create(Integer.parseInt(params.getParam("obstacleAmount")), 0.5f,
+                Map.of("COLLISION_BROADPHASE", params.getParam("broadphaseType"), "SHOW_FPS_COUNTER", true));
+            for (int i = 0; i < WARM_UP_TICKS; i++) {
+                game.tick();
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void readCollisionPhase() {
+            collisionPhaseNanos = game.getProfiler().getPhase(TickProfiler.Phase.COLLISION).getPercentile(0.5);
+        }
+    }
+
+    private static final class Probe extends CollidingGameObject {
+        private Probe(Game game, BoundingBox boundingBox) {
+            super(null, game, Point.zero(), boundingBox);
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+            // Only the query is measured
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.BenchmarkGames;
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a collision query against the whole collision hierarchy, i.e. {@link SweptCollisions#collide}.
+ * A probe the size of the player car is moved over the road, it collides like a moving object but
+ * nothing reacts to it, so the world stays unchanged between invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final int WARM_UP_TICKS = 300;
+    private static final int PROBE_POSITIONS = 64;
+
+    @Param({"7", "20", "50"})
+    int obstacleAmount;
+
+    @Param({"0.5", "1.0"})
+    float movingObstacleFactor;
+
+    private final SweptCollisions sweptCollisions = new SweptCollisions();
+    private Colliders colliders;
+    private Probe probe;
+    private Point[] positions;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Game game = BenchmarkGames.createWarmedUp(obstacleAmount, movingObstacleFactor, WARM_UP_TICKS);
+        colliders = game.getColliders();
+        BoundingBox carBox = game.getPlayerCar().getBoundingBox();
+        probe = new Probe(game, new BoundingBox(new Point(carBox.getWidth(), carBox.getHeight())));
+        // Attaches the probe to its own, detached holder
+        game.tick();
+
+        positions = new Point[PROBE_POSITIONS];
+        float height = game.getConfig().worldHeight();
+        float width = game.getConfig().worldWidth();
+        for (int i = 0; i < PROBE_POSITIONS; i++) {
+            positions[i] = new Point(width * (i % 8) / 8, height * (i / 8) / 8);
+        }
+    }
+
+    @Benchmark
+    public void doCollision() {
+        probe.setPosition(positions[next]);
+        next = (next + 1) % PROBE_POSITIONS;
+        sweptCollisions.collide(colliders, probe);
+    }
+
+    private static final class Probe extends CollidingGameObject {
+        private Probe(Game game, BoundingBox boundingBox) {
+            super(null, game, Point.zero(), boundingBox);
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+            // Only the query is measured
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package edu.kit.cargame.game.logic.spawning;
+
+import edu.kit.cargame.game.common.BenchmarkGames;
+import edu.kit.cargame.game.common.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Spawner#createChunk}, including sampling, pruning, pathfinding and spawning the objects.
+ * <p>
+ * Each created chunk is removed again by a tick after the invocation, so the world keeps its size.
+ * That tick is not timed, but the gc profiler counts its allocations, compare with {@code GameTickBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkCreationBenchmark {
+    private static final int WARM_UP_TICKS = 300;
+
+    @Param({"7", "20", "50"})
+    int obstacleAmount;
+
+    @Param({"0.5", "1.0"})
+    float movingObstacleFactor;
+
+    private Game game;
+    private Spawner spawner;
+    private Chunk chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkGames.createWarmedUp(obstacleAmount, movingObstacleFactor, WARM_UP_TICKS);
+        spawner = game.getSpawner();
+    }
+
+    /**
+     * Removes the created chunk again, so neither pending children nor chunks pile up.
+     */
+    @TearDown(Level.Invocation)
+    public void flush() {
+        chunk.kill();
+        game.tick();
+    }
+
+    @Benchmark
+    public Chunk createChunk() {
+        chunk = spawner.createChunk(false);
+        return chunk;
+    }
+}
@@ -0,0 +1,59 @@
+package edu.kit.cargame.game.logic.spawning;
+
+import edu.kit.cargame.game.common.BenchmarkGames;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Pathfinding#configureKeypoints} on the candidates of a freshly spawned chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+    private static final int WARM_UP_TICKS = 300;
+
+    @Param({"7", "20", "50"})
+    int obstacleAmount;
+
+    @Param({"0.5", "1.0"})
+    float movingObstacleFactor;
+
+    private Game game;
+    private Spawner spawner;
+    private Chunk chunk;
+    private List<SpawnCandidate> candidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkGames.createWarmedUp(obstacleAmount, movingObstacleFactor, WARM_UP_TICKS);
+        spawner = game.getSpawner();
+        chunk = spawner.createChunk(false);
+        game.tick();
+        candidates = spawner.sampleCandidates(chunk);
+    }
+
+    @Benchmark
+    public List<SpawnCandidate> configureKeypoints() {
+        return Pathfinding.configureKeypoints(candidates, Spawner.getLaneCount(), spawner.getChunkHeight(),
+            game, chunk, spawner);
+    }
+}
@@ -0,0 +1,84 @@
+package edu.kit.cargame.game.logic.spawning;
+
+import edu.kit.cargame.game.common.BenchmarkGames;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidate;
+import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the spawning hot paths {@link Spawner#pruneByRadius} and {@link Spawner#sampleLineY}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnerBenchmark {
+    private static final int WARM_UP_TICKS = 300;
+    private static final int SAMPLE_POSITIONS = 64;
+    private static final float CANDIDATE_SIZE = 30;
+    private static final float PRUNING_FACTOR = 1.25f;
+
+    @Param({"7", "20", "50"})
+    int obstacleAmount;
+
+    @Param({"0.5", "1.0"})
+    float movingObstacleFactor;
+
+    private Spawner spawner;
+    private List<SpawnCandidate> candidates;
+    private float[] sampleXs;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Game game = BenchmarkGames.createWarmedUp(obstacleAmount, movingObstacleFactor, WARM_UP_TICKS);
+        spawner = game.getSpawner();
+
+        float width = game.getConfig().worldWidth();
+        sampleXs = new float[SAMPLE_POSITIONS];
+        for (int i = 0; i < SAMPLE_POSITIONS; i++) {
+            sampleXs[i] = width * i / SAMPLE_POSITIONS;
+        }
+
+        // Same distribution as the immobile candidates of a chunk
+        Random random = new Random(BenchmarkGames.SEED);
+        candidates = new ArrayList<>();
+        float chunkWidth = width / 3;
+        for (int i = 0; i < obstacleAmount; i++) {
+            Point position = new Point(random.nextFloat() * chunkWidth, random.nextFloat() * spawner.getChunkHeight());
+            candidates.add(new SpawnCandidate(position, SpawnCandidateType.IMMOBILE, CANDIDATE_SIZE, true));
+        }
+    }
+
+    @Benchmark
+    public List<SpawnCandidate> pruneByRadius() {
+        return Spawner.pruneByRadius(candidates, false, PRUNING_FACTOR);
+    }
+
+    @Benchmark
+    public float sampleLineY() {
+        float x = sampleXs[next];
+        next = (next + 1) % SAMPLE_POSITIONS;
+        return spawner.sampleLineY(x);
+    }
+}
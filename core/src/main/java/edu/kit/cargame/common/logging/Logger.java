@@ -1,17 +1,18 @@
 package edu.kit.cargame.common.logging;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * The type Logger.
  */
 public class Logger {
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    // Unlike SimpleDateFormat, the formatter can be shared by games logging from several threads
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     // Log format with line number padded to 3 characters and loglevel to 6
     // Time stamp, class name, line number, loglevel, message
     private String loggingFormat = "<%s> |%s:%-3s| [%-8s]: %s";
-    private LogLevel minimalLevel;
+    private volatile LogLevel minimalLevel;
     private final String name;
 
     /**
@@ -58,7 +59,7 @@ public class Logger {
             return;
         }
         int callersLineNumber = Thread.currentThread().getStackTrace()[3].getLineNumber();
-        String timestamp = dateFormat.format(new Date());
+        String timestamp = DATE_FORMAT.format(LocalDateTime.now());
         String logMessage = loggingFormat.formatted(timestamp, name, callersLineNumber, level, message);
         System.out.println(logMessage);
     }
@@ -1,13 +1,15 @@
 package edu.kit.cargame.common.logging;
 
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Logger management.
+ * Loggers can be requested from any thread, e.g. by games simulated in parallel.
  */
 public final class LoggerManagement {
-    private static final HashMap<String, Logger> LOGGERS = new HashMap<>();
-    private static LogLevel defaultMinimalLevel = LogLevel.INFO;
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static volatile LogLevel defaultMinimalLevel = LogLevel.INFO;
 
     private LoggerManagement() {
         //Do not instantiate
@@ -22,12 +24,8 @@ public final class LoggerManagement {
      * @return the logger
      */
     private static Logger getLogger(String name, LogLevel minimalLevel) {
-        if (LOGGERS.containsKey(name)) {
-            LOGGERS.get(name).setMinimalLevel(minimalLevel);
-            return LOGGERS.get(name);
-        }
-        Logger logger = new Logger(name, minimalLevel);
-        LOGGERS.put(name, logger);
+        Logger logger = LOGGERS.computeIfAbsent(name, key -> new Logger(key, minimalLevel));
+        logger.setMinimalLevel(minimalLevel);
         return logger;
     }
 
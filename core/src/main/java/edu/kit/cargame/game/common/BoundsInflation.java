@@ -0,0 +1,57 @@
+package edu.kit.cargame.game.common;
+
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+
+/**
+ * The type BoundsInflation measures how much larger the bounding boxes of a GameObject tree are than they need to be.
+ * The tight box of an object is its own bounding box joined with the tight boxes of its children, computed from scratch.
+ * For every object with children the area of its bounding box is divided by the area of its tight box,
+ * the inflation is the average of these ratios. A perfectly fitted tree has an inflation of 1.
+ */
+final class BoundsInflation {
+    private double ratioSum;
+    private int objectCount;
+
+    private BoundsInflation() {
+    }
+
+    /**
+     * Measures the inflation of the bounding boxes of the given tree.
+     * Walks the whole tree and allocates, so it is meant for diagnostics and not for every tick.
+     *
+     * @param root the root of the tree
+     * @return the average ratio of bounding box area to tight area, 1 if no object has children
+     */
+    static double measure(GameObject root) {
+        BoundsInflation inflation = new BoundsInflation();
+        inflation.tightBounds(root, new MutableBoundingBox());
+        return inflation.objectCount == 0 ? 1 : inflation.ratioSum / inflation.objectCount;
+    }
+
+    /**
+     * Computes the tight bounding box of the object in the coordinate space of its parent and records its ratio.
+     */
+    private MutableBoundingBox tightBounds(GameObject object, MutableBoundingBox out) {
+        object.getOwnBoundingBoxInto(out);
+        if (object.getFirstChild() == null || !object.boundsIncludeChildren()) {
+            return out;
+        }
+        // Objects with children are never colliding objects, so this is their own position
+        MutablePoint position = object.getLocalPositionInto(new MutablePoint());
+        MutableBoundingBox child = new MutableBoundingBox();
+        for (GameObject current = object.getFirstChild(); current != null; current = current.getNextSibling()) {
+            out.combineInPlace(tightBounds(current, child), position);
+        }
+        double tightArea = area(out);
+        if (tightArea > 0) {
+            ratioSum += area(object.getBoundingBoxInto(child)) / tightArea;
+            objectCount++;
+        }
+        return out;
+    }
+
+    private static double area(MutableBoundingBox box) {
+        return (double) box.getWidth() * box.getHeight();
+    }
+}
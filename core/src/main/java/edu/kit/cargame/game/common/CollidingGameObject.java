@@ -3,13 +3,21 @@ package edu.kit.cargame.game.common;
 
 import edu.kit.cargame.common.logging.LoggerManagement;
 import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
 import edu.kit.cargame.game.geometry.Point;
 
+import java.util.function.Consumer;
+
 /**
  * The interface Collidable enforces an object to have a {@link BoundingBox} to check for collisions
  * and for the object to handle a collision in some way.
  */
 public abstract class CollidingGameObject extends GameObject {
+    private int collisionCategory = CollisionCategory.ALL;
+    private int collisionMask = CollisionCategory.ALL;
+    // Reused by the swept collision checks, so they do not allocate
+    private final MutablePoint displacement = new MutablePoint();
 
     /**
      * Instantiates a new CollidingGameObject.
@@ -20,19 +28,113 @@ public abstract class CollidingGameObject extends GameObject {
      * @param boundingBox the bounding box of the collidable
      */
     protected CollidingGameObject(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(new GameObject(parent, game, position) {
-        }, game, Point.zero());
+        this(game);
+        spawn(parent, position, boundingBox);
+    }
+
+    /**
+     * Instantiates a new CollidingGameObject which is not part of the game yet.
+     * Used for pooled objects, which are put into the game by {@link #spawn(GameObject, Point, BoundingBox)}.
+     *
+     * @param game the game in which this collidable lives
+     */
+    protected CollidingGameObject(Game game) {
+        super(game);
+        setOwnCollisionCategories(collisionCategory);
+    }
+
+    /**
+     * Sets the category of this object and the categories it collides with.
+     * Two objects only collide if each one's category is in the other one's mask,
+     * so pairs which nobody handles are skipped before their bounding boxes are compared.
+     * Objects which do not set a filter collide with everything. Should be called from the constructor.
+     *
+     * @param category     the category of this object
+     * @param collidesWith the categories this object collides with
+     */
+    protected final void setCollisionFilter(CollisionCategory category, CollisionCategory... collidesWith) {
+        collisionCategory = category.getBit();
+        collisionMask = CollisionCategory.maskOf(collidesWith);
+        setOwnCollisionCategories(collisionCategory);
+    }
+
+    /**
+     * Gets the bit of the category of this object.
+     *
+     * @return the category bit
+     */
+    public final int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * Gets the mask of the categories this object collides with.
+     *
+     * @return the mask
+     */
+    public final int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Checks whether the categories of this object and the given one allow them to collide.
+     *
+     * @param other the other object
+     * @return boolean
+     */
+    public final boolean canCollideWith(CollidingGameObject other) {
+        return (collisionCategory & other.collisionMask) != 0 && (other.collisionCategory & collisionMask) != 0;
+    }
+
+    /**
+     * Puts this object into the game as if it was newly created.
+     *
+     * @param parent      the parent Object
+     * @param position    the position of the collidable
+     * @param boundingBox the bounding box of the collidable
+     */
+    protected final void spawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position);
         super.setBoundingBox(boundingBox);
     }
 
     /**
      * Lets this object know that it has collided with the given object.
-     * Should probably not be called directly; Use {@link CollidingGameObject#collide(CollidingGameObject, CollidingGameObject)} instead.
+     * Called once when the two objects start to overlap, see {@link #onCollisionEnter(CollidingGameObject)}.
      *
      * @param other object to be collided with
      */
     protected abstract void handleCollision(CollidingGameObject other);
 
+    /**
+     * Called when this object starts to overlap the given object. Handles the collision by default.
+     *
+     * @param other the other object
+     */
+    protected void onCollisionEnter(CollidingGameObject other) {
+        handleCollision(other);
+    }
+
+    /**
+     * Called once per tick in which the collision checks find this object still overlapping the given object.
+     * Does nothing by default, so a lasting overlap is only handled once.
+     *
+     * @param other the other object
+     */
+    protected void onCollisionStay(CollidingGameObject other) {
+
+    }
+
+    /**
+     * Called at the end of the collision checks once this object no longer overlaps the given object,
+     * or one of them left the game.
+     *
+     * @param other the other object
+     */
+    protected void onCollisionExit(CollidingGameObject other) {
+
+    }
+
 
     /**
      * Checks whether this Object collides with the given Collidable.
@@ -41,10 +143,116 @@ public abstract class CollidingGameObject extends GameObject {
      * @return boolean
      */
     public boolean collides(GameObject other) {
-        return getGlobalBoundingBox().intersects(other.getGlobalBoundingBox());
+        return globalBounds().intersects(other.globalBounds());
     }
 
 
+    /**
+     * Checks whether this object collides with the given one at the end of the tick, or passed through it during the tick.
+     * Both objects are taken to move in a straight line from where they were at the start of the tick,
+     * so fast objects can not tunnel through each other, no matter how far they move in one tick.
+     * The sweep is only checked for objects which move more than half of the smaller box relative to each other,
+     * slower ones collide exactly when their boxes overlap at the end of the tick.
+     * Objects which overlapped at the start of the tick and moved apart do not collide.
+     *
+     * @param other the other object
+     * @return boolean
+     */
+    public boolean collidesDuringTick(CollidingGameObject other) {
+        if (collides(other)) {
+            return true;
+        }
+        getDisplacementInto(displacement);
+        other.getDisplacementInto(other.displacement);
+        float moveX = displacement.x() - other.displacement.x();
+        float moveY = displacement.y() - other.displacement.y();
+        MutableBoundingBox bounds = globalBounds();
+        MutableBoundingBox otherBounds = other.globalBounds();
+        if (Math.abs(moveX) * 2 < Math.min(bounds.getWidth(), otherBounds.getWidth())
+            && Math.abs(moveY) * 2 < Math.min(bounds.getHeight(), otherBounds.getHeight())) {
+            // Moving less than half of the smaller box, the objects can not pass through each other between two ticks.
+            // Grazing a corner in between stays a miss, like without the sweep
+            return false;
+        }
+        // Going back in time by the share s of the tick moves this object by -s * move relative to the other one
+        float enterX = entry(bounds.minX(), bounds.maxX(), otherBounds.minX(), otherBounds.maxX(), moveX);
+        float exitX = exit(bounds.minX(), bounds.maxX(), otherBounds.minX(), otherBounds.maxX(), moveX);
+        float enterY = entry(bounds.minY(), bounds.maxY(), otherBounds.minY(), otherBounds.maxY(), moveY);
+        float exitY = exit(bounds.minY(), bounds.maxY(), otherBounds.minY(), otherBounds.maxY(), moveY);
+        float enter = Math.max(enterX, enterY);
+        float exit = Math.min(exitX, exitY);
+        // The boxes overlap for all shares between enter and exit, overlapping at the start of the tick means exit > 1
+        return enter >= 0 && enter < exit && exit <= 1;
+    }
+
+    /**
+     * Checks whether this object was only carried along by its ancestors in the current tick.
+     *
+     * @return boolean
+     */
+    public final boolean isCarried() {
+        if (hasMovedItself()) {
+            return false;
+        }
+        for (GameObject ancestor = getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            if (ancestor.hasMovedItself()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the collision checks of this object can skip the given one.
+     * A carried object keeps its position relative to everything carried exactly as far,
+     * and objects which moved by themselves are checked for collisions on their own.
+     * So a carried object only needs checking against unmoved objects and objects carried differently.
+     *
+     * @param other the other object
+     * @return boolean
+     */
+    public final boolean skipsCheckWith(CollidingGameObject other) {
+        if (!isCarried()) {
+            return false;
+        }
+        if (other.hasMovedItself()) {
+            return true;
+        }
+        getDisplacementInto(displacement);
+        other.getDisplacementInto(other.displacement);
+        return displacement.x() == other.displacement.x() && displacement.y() == other.displacement.y();
+    }
+
+    /**
+     * Gets the share of the tick one has to go back in time until the intervals start to overlap along one axis.
+     *
+     * @return the share, negative infinity if they overlap without moving, positive infinity if they never overlap
+     */
+    private static float entry(float min, float max, float otherMin, float otherMax, float move) {
+        if (move > 0) {
+            return (min - otherMax) / move;
+        }
+        if (move < 0) {
+            return (max - otherMin) / move;
+        }
+        return max > otherMin && min < otherMax ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Gets the share of the tick one has to go back in time until the intervals stop to overlap along one axis.
+     *
+     * @return the share, positive infinity if they overlap without moving, negative infinity if they never overlap
+     */
+    private static float exit(float min, float max, float otherMin, float otherMax, float move) {
+        if (move > 0) {
+            return (max - otherMin) / move;
+        }
+        if (move < 0) {
+            return (min - otherMax) / move;
+        }
+        return max > otherMin && min < otherMax ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+    }
+
     /**
      * Checks whether this Object collides with the given Rectangle.
      *
@@ -52,12 +260,12 @@ public abstract class CollidingGameObject extends GameObject {
      * @return boolean
      */
     public boolean collides(BoundingBox rectangle) {
-        return getGlobalBoundingBox().intersects(rectangle);
+        return globalBounds().intersects(rectangle);
     }
 
     /**
      * Collides the two objects, unless they are the same object.
-     * Calls {@link CollidingGameObject#handleCollision(CollidingGameObject)} on both objects.
+     * Passes them to the contact cache of the game, which calls the enter or stay callbacks on both objects.
      *
      * @param c1 the first object
      * @param c2 the second object
@@ -66,39 +274,62 @@ public abstract class CollidingGameObject extends GameObject {
         if (c1 == c2) {
             return;
         }
-        c1.handleCollision(c2);
-        c2.handleCollision(c1);
+        c1.getGame().getContacts().collide(c1, c2);
     }
 
     @Override
-    public void setPosition(Point position) {
-        getGame().collidableHasMoved(this);
-        this.getParent().setPosition(position);
+    public final void setBoundingBox(BoundingBox boundingBox) {
+        super.setBoundingBox(boundingBox);
+        LoggerManagement.getLogger().warning("Yo, you just changed the size/shape of a colliding object on screen(e.g. Player Car). Are you sure you want to do this?");
     }
 
+    /**
+     * Colliding objects expose their local position, e.g. to push the player car back from the road borders.
+     *
+     * @return the local position
+     */
     @Override
-    public void addChild(GameObject child) {
-        if (getParent() != null) {
-            getParent().addChild(child);
-        } else {
-            LoggerManagement.getLogger().warning("Parent of colliding gameobject is null");
-        }
+    public Point getLocalPosition() {
+        return super.getLocalPosition();
     }
 
+    /**
+     * The bounding box of a colliding object is only its own, the children of it are never checked for collisions.
+     *
+     * @return boolean
+     */
     @Override
-    public final void setBoundingBox(BoundingBox boundingBox) {
-        super.setBoundingBox(boundingBox);
-        LoggerManagement.getLogger().warning("Yo, you just changed the size/shape of a colliding object on screen(e.g. Player Car). Are you sure you want to do this?");
+    protected final boolean boundsIncludeChildren() {
+        return false;
     }
 
+    /**
+     * The children of a colliding object, e.g. the explosion of an obstacle, play out after it left the game.
+     *
+     * @return boolean
+     */
     @Override
-    public Point getLocalPosition() {
-        return getParent().getLocalPosition();
+    protected final boolean handsOverChildren() {
+        return true;
     }
 
-    @Override
+    /**
+     * Collides the given object with this one, if their categories allow it.
+     * Called by the broadphase for every object the other one touched during the tick.
+     *
+     * @param other the moved object
+     */
     public final void doCollision(CollidingGameObject other) {
-        collide(other, this);
+        if (canCollideWith(other)) {
+            collide(other, this);
+        }
+    }
+
+    @Override
+    public final void query(MutableBoundingBox area, int categoryMask, Consumer<? super CollidingGameObject> visitor) {
+        if ((collisionCategory & categoryMask) != 0) {
+            visitor.accept(this);
+        }
     }
 
 }
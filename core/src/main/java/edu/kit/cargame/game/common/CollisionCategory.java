@@ -0,0 +1,55 @@
+package edu.kit.cargame.game.common;
+
+/**
+ * The enum CollisionCategory sorts colliding objects into layers, so pairs which nobody handles are never checked.
+ * Every {@link CollidingGameObject} belongs to one category and has a mask of the categories it collides with,
+ * see {@link CollidingGameObject#setCollisionFilter(CollisionCategory, CollisionCategory...)}.
+ */
+public enum CollisionCategory {
+    /**
+     * The player car.
+     */
+    PLAYER,
+    /**
+     * Obstacles on the road.
+     */
+    OBSTACLE,
+    /**
+     * Collectables, which are picked up by the player car and destroyed by obstacles.
+     */
+    COLLECTABLE,
+    /**
+     * The invisible borders at the sides of the road.
+     */
+    BORDER;
+
+    /**
+     * The mask containing every category, used by colliding objects which do not set a filter.
+     */
+    public static final int ALL = ~0;
+
+    private final int bit = 1 << ordinal();
+
+    /**
+     * Gets the bit of this category.
+     *
+     * @return the bit
+     */
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * Gets the mask containing the given categories.
+     *
+     * @param categories the categories
+     * @return the mask
+     */
+    public static int maskOf(CollisionCategory... categories) {
+        int mask = 0;
+        for (CollisionCategory category : categories) {
+            mask |= category.bit;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,112 @@
+package edu.kit.cargame.game.common;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The type CommandBuffer records changes to the GameObject tree which are requested while the tree is being walked,
+ * and applies them at the end of the tick.
+ * Each kind of command is double buffered, so commands recorded while executing go to the next tick
+ * and the buffers are reused instead of being reallocated every tick.
+ */
+final class CommandBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private GameObject[] addParents = new GameObject[INITIAL_CAPACITY];
+    private GameObject[] addChildren = new GameObject[INITIAL_CAPACITY];
+    private int addCount;
+    private GameObject[] spareAddParents = new GameObject[INITIAL_CAPACITY];
+    private GameObject[] spareAddChildren = new GameObject[INITIAL_CAPACITY];
+
+    private GameObject[] kills = new GameObject[INITIAL_CAPACITY];
+    private int killCount;
+    private GameObject[] spareKills = new GameObject[INITIAL_CAPACITY];
+
+    /**
+     * Records that the child should be added to the parent.
+     *
+     * @param parent the parent
+     * @param child  the child
+     */
+    void add(GameObject parent, GameObject child) {
+        if (addCount == addParents.length) {
+            addParents = Arrays.copyOf(addParents, addCount * 2);
+            addChildren = Arrays.copyOf(addChildren, addCount * 2);
+        }
+        addParents[addCount] = parent;
+        addChildren[addCount] = child;
+        addCount++;
+    }
+
+    /**
+     * Records that the object should be taken out of the game.
+     *
+     * @param gameObject the object
+     */
+    void kill(GameObject gameObject) {
+        if (killCount == kills.length) {
+            kills = Arrays.copyOf(kills, killCount * 2);
+        }
+        kills[killCount++] = gameObject;
+    }
+
+    /**
+     * Checks whether there are recorded additions.
+     *
+     * @return boolean
+     */
+    boolean hasAdds() {
+        return addCount > 0;
+    }
+
+    /**
+     * Checks whether there are recorded kills.
+     *
+     * @return boolean
+     */
+    boolean hasKills() {
+        return killCount > 0;
+    }
+
+    /**
+     * Adds all recorded children to their parents, in the order they were recorded,
+     * and then passes every added child to the given consumer.
+     *
+     * @param onAdded called for every added child, after all children were added
+     */
+    void executeAdds(Consumer<GameObject> onAdded) {
+        GameObject[] parents = addParents;
+        GameObject[] children = addChildren;
+        int count = addCount;
+        addParents = spareAddParents;
+        addChildren = spareAddChildren;
+        addCount = 0;
+        spareAddParents = parents;
+        spareAddChildren = children;
+
+        for (int i = 0; i < count; i++) {
+            parents[i].addChild(children[i]);
+            parents[i] = null;
+        }
+        for (int i = 0; i < count; i++) {
+            onAdded.accept(children[i]);
+            children[i] = null;
+        }
+    }
+
+    /**
+     * Takes all recorded objects out of the game, in the order they were recorded.
+     */
+    void executeKills() {
+        GameObject[] current = kills;
+        int count = killCount;
+        kills = spareKills;
+        killCount = 0;
+        spareKills = current;
+
+        for (int i = 0; i < count; i++) {
+            current[i].takeOut();
+            current[i] = null;
+        }
+    }
+}
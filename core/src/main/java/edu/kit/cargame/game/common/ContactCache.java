@@ -0,0 +1,188 @@
+package edu.kit.cargame.game.common;
+
+import java.util.Arrays;
+
+/**
+ * The type ContactCache remembers which pairs of colliding objects overlap, so a pair is only handled once per contact.
+ * A pair found by the collision checks for the first time enters the contact, finding it again in a later tick
+ * stays in it, and once the two objects stop overlapping or one of them leaves the game the contact is exited.
+ * Each pair is dispatched at most once per tick, even if both objects moved.
+ * <p>
+ * The contacts are kept in the order they began, so the callbacks run in the same order in every run.
+ * The contacts of an object are exited when it is taken out, so they are gone before its pool can hand it out again.
+ * Every contact also remembers the generation of its objects, so a reused object is never mistaken for its former use.
+ */
+final class ContactCache {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private CollidingGameObject[] firsts = new CollidingGameObject[INITIAL_CAPACITY];
+    private CollidingGameObject[] seconds = new CollidingGameObject[INITIAL_CAPACITY];
+    private int[] firstGenerations = new int[INITIAL_CAPACITY];
+    private int[] secondGenerations = new int[INITIAL_CAPACITY];
+    // Whether the contact was found during the current collision phase
+    private boolean[] found = new boolean[INITIAL_CAPACITY];
+    private int count;
+
+    // Open addressing table of contact index + 1, 0 marks an empty slot
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * Dispatches the collision of the two overlapping objects, depending on whether they were in contact before.
+     *
+     * @param first  the first object, its callback runs first
+     * @param second the second object
+     */
+    void collide(CollidingGameObject first, CollidingGameObject second) {
+        int index = find(first, second);
+        if (index < 0) {
+            index = insert(first, second);
+            found[index] = true;
+            first.onCollisionEnter(second);
+            second.onCollisionEnter(first);
+        } else if (!found[index]) {
+            found[index] = true;
+            first.onCollisionStay(second);
+            second.onCollisionStay(first);
+        }
+    }
+
+    /**
+     * Exits all contacts whose objects no longer overlap or left the game. Called at the end of every collision phase.
+     * Contacts which were not found again but still overlap, because neither object moved, are kept.
+     */
+    void update() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            CollidingGameObject first = firsts[i];
+            CollidingGameObject second = seconds[i];
+            boolean current = first.getGeneration() == firstGenerations[i] && second.getGeneration() == secondGenerations[i];
+            if (current && first.isInGame() && second.isInGame() && first.collides(second)) {
+                firsts[kept] = first;
+                seconds[kept] = second;
+                firstGenerations[kept] = firstGenerations[i];
+                secondGenerations[kept] = secondGenerations[i];
+                found[kept] = false;
+                kept++;
+            } else if (current) {
+                first.onCollisionExit(second);
+                second.onCollisionExit(first);
+            }
+        }
+        if (kept == count) {
+            return;
+        }
+        for (int i = kept; i < count; i++) {
+            firsts[i] = null;
+            seconds[i] = null;
+        }
+        count = kept;
+        rebuildTable();
+    }
+
+    /**
+     * Exits all contacts of an object which is taken out of the game, before it can be reused by its pool.
+     * The remaining contacts keep their order.
+     *
+     * @param gameObject the object which leaves the game
+     */
+    void remove(CollidingGameObject gameObject) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            CollidingGameObject first = firsts[i];
+            CollidingGameObject second = seconds[i];
+            if (first == gameObject || second == gameObject) {
+                first.onCollisionExit(second);
+                second.onCollisionExit(first);
+                continue;
+            }
+            firsts[kept] = first;
+            seconds[kept] = second;
+            firstGenerations[kept] = firstGenerations[i];
+            secondGenerations[kept] = secondGenerations[i];
+            found[kept] = found[i];
+            kept++;
+        }
+        if (kept == count) {
+            return;
+        }
+        for (int i = kept; i < count; i++) {
+            firsts[i] = null;
+            seconds[i] = null;
+        }
+        count = kept;
+        rebuildTable();
+    }
+
+    /**
+     * Gets the amount of contacts.
+     *
+     * @return the contact count
+     */
+    int size() {
+        return count;
+    }
+
+    private int find(CollidingGameObject first, CollidingGameObject second) {
+        int mask = table.length - 1;
+        for (int slot = hash(first, second) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (matches(index, first, second) || matches(index, second, first)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int index, CollidingGameObject first, CollidingGameObject second) {
+        return firsts[index] == first && seconds[index] == second
+            && firstGenerations[index] == first.getGeneration() && secondGenerations[index] == second.getGeneration();
+    }
+
+    private int insert(CollidingGameObject first, CollidingGameObject second) {
+        if (count == firsts.length) {
+            int capacity = count * 2;
+            firsts = Arrays.copyOf(firsts, capacity);
+            seconds = Arrays.copyOf(seconds, capacity);
+            firstGenerations = Arrays.copyOf(firstGenerations, capacity);
+            secondGenerations = Arrays.copyOf(secondGenerations, capacity);
+            found = Arrays.copyOf(found, capacity);
+        }
+        int index = count++;
+        firsts[index] = first;
+        seconds[index] = second;
+        firstGenerations[index] = first.getGeneration();
+        secondGenerations[index] = second.getGeneration();
+        if (count * 2 > table.length) {
+            table = new int[table.length * 2];
+            rebuildTable();
+        } else {
+            put(index);
+        }
+        return index;
+    }
+
+    private void rebuildTable() {
+        Arrays.fill(table, 0);
+        for (int i = 0; i < count; i++) {
+            put(i);
+        }
+    }
+
+    private void put(int index) {
+        int mask = table.length - 1;
+        int slot = hash(firsts[index], seconds[index]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * Hashes the pair independently of its order.
+     */
+    private static int hash(CollidingGameObject first, CollidingGameObject second) {
+        int hash = System.identityHashCode(first) ^ System.identityHashCode(second);
+        hash *= 0x9E3779B1;
+        return hash ^ (hash >>> 16);
+    }
+}
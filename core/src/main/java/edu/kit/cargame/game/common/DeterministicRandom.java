@@ -7,21 +7,41 @@ import java.util.Random;
  * This allows for set seed inside the game.
  */
 public class DeterministicRandom {
-    private final Random random;
+    private final StatefulRandom random;
+    private final long seed;
 
     /**
      * Creates a new DeterministicRandom with set seed.
      * @param seed the seed for Random
      */
     public DeterministicRandom(long seed) {
-        random = new Random(seed);
+        this.seed = seed;
+        random = new StatefulRandom(seed);
     }
 
     /**
      * Creates a DeterministicRandom with random seed.
+     * The seed is never 0, as a seed of 0 in the config stands for a random one.
      */
     public DeterministicRandom() {
-        random = new Random();
+        this(randomSeed());
+    }
+
+    private static long randomSeed() {
+        Random seeds = new Random();
+        long seed;
+        do {
+            seed = seeds.nextLong();
+        } while (seed == 0);
+        return seed;
+    }
+
+    /**
+     * Returns the seed the random number generator was created with, so the game can be played again.
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
     }
 
     /**
@@ -31,4 +51,42 @@ public class DeterministicRandom {
     public Random getRandom() {
         return random;
     }
+
+    /**
+     * Gets the current state of the random number generator, which determines all numbers it generates next.
+     * @return the state
+     */
+    public long getState() {
+        return random.state;
+    }
+
+    /**
+     * Generates the same numbers as {@link Random}, with the same linear congruential generator,
+     * but keeps its state readable.
+     */
+    private static final class StatefulRandom extends Random {
+        private static final long serialVersionUID = 1L;
+        private static final long MULTIPLIER = 0x5DEECE66DL;
+        private static final long ADDEND = 0xBL;
+        private static final long MASK = (1L << 48) - 1;
+
+        private long state;
+
+        StatefulRandom(long seed) {
+            super(seed);
+        }
+
+        @Override
+        public synchronized void setSeed(long seed) {
+            // Called by the constructor of Random, so the state can not have an initializer
+            super.setSeed(seed);
+            state = (seed ^ MULTIPLIER) & MASK;
+        }
+
+        @Override
+        protected int next(int bits) {
+            state = (state * MULTIPLIER + ADDEND) & MASK;
+            return (int) (state >>> (48 - bits));
+        }
+    }
 }
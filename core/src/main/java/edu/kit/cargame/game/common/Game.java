@@ -2,12 +2,17 @@ package edu.kit.cargame.game.common;
 
 
 import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.logic.Broadphase;
+import edu.kit.cargame.game.logic.BroadphaseType;
 import edu.kit.cargame.game.logic.Colliders;
+import edu.kit.cargame.game.logic.SweptCollisions;
+import edu.kit.cargame.game.logic.scheduler.ScheduleEvent;
 import edu.kit.cargame.game.logic.scheduler.ScheduleJob;
 import edu.kit.cargame.game.logic.scheduler.Scheduler;
 import edu.kit.cargame.game.logic.spawning.Spawner;
 import edu.kit.cargame.game.object.eyecandy.Background;
 import edu.kit.cargame.game.object.eyecandy.Foreground;
+import edu.kit.cargame.game.object.obstacle.CloseCallDetector;
 import edu.kit.cargame.game.overlay.OverlayManager;
 import edu.kit.cargame.game.playercar.CarSettings;
 import edu.kit.cargame.game.playercar.CarType;
@@ -16,15 +21,15 @@ import edu.kit.cargame.io.config.Config;
 import edu.kit.cargame.io.config.MetaData;
 import edu.kit.cargame.io.input.ActionTypes;
 import edu.kit.cargame.io.input.UserInput;
-import edu.kit.cargame.io.view.gamerenderers.Renderer;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
-import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The type Game holds and manages all objects (some only indirectly) needed to simulate an
@@ -32,7 +37,7 @@ import java.util.Random;
  */
 public class Game {
     private static final int DAY_LENGTH = 54;
-    private final Collection<GameObject> gameObjects;
+    private final List<GameObject> gameObjects;
 
     private final Config config;
 
@@ -42,8 +47,13 @@ public class Game {
     private final PlayerCar playerCar;
     private final Colliders colliders;
     private final Scheduler scheduler;
+    private final Spawner spawner;
 
     private double currentTime = 0;
+    // The game time before the current tick, or before the next one between ticks
+    private double tickStartTime = 0;
+    private long tickCount = 0;
+    private float renderInterpolation = 1;
     private final double baseTimeScale;
 
     //Cached timescales to stop timescales changing inside a single tick
@@ -56,11 +66,33 @@ public class Game {
     private boolean gameOver = false;
     private boolean duringTime = false;
 
-    private final Collection<GameObject> delete = new ArrayList<>();
-    private final Collection<CollidingGameObject> moved = new ArrayList<>();
-
-    private final List<Entry<GameObject, GameObject>> childCreationJobs = new ArrayList<>();
-    private boolean muted;
+    // The objects with colliding descendants which moved during the current tick, each one once
+    private final List<GameObject> movedSubtrees = new ArrayList<>();
+    private final List<CollidingGameObject> moved = new ArrayList<>();
+    private final SweptCollisions sweptCollisions = new SweptCollisions();
+    private int queuedColliders;
+    private final Broadphase broadphase;
+
+    private final CommandBuffer commands = new CommandBuffer();
+    // The ticked objects of each top level subtree, in tick order, collected again after ticked objects were added or taken out
+    private final List<List<GameObject>> tickedObjects = new ArrayList<>();
+    private boolean tickedObjectsChanged = true;
+    // Ticks children added at the end of the tick, kept in a field so adding children does not allocate
+    private final Consumer<GameObject> tickAddedChild = child -> {
+        if (child.isTicked()) {
+            child.tickScaled(getTimeScale());
+        }
+    };
+    private final Map<Class<?>, GameObjectPool<?>> pools = new HashMap<>();
+    private final GameStatistics statistics = new GameStatistics();
+    private final ContactCache contacts = new ContactCache();
+    private final CloseCallDetector closeCalls = new CloseCallDetector(this);
+    private final TickProfiler profiler;
+    // Only created once the state is hashed
+    private StateHasher stateHasher;
+    // Set by the render thread while the game may simulate on its own thread
+    private volatile boolean muted;
+    private final boolean headless;
 
     /**
      * Marks a GameObject for deletion at the end of the tick.
@@ -68,7 +100,7 @@ public class Game {
      * @param gameObject the GameObject to be deleted
      */
     public void markForExecution(GameObject gameObject) {
-        delete.add(gameObject);
+        commands.kill(gameObject);
     }
 
     /**
@@ -80,8 +112,27 @@ public class Game {
      * @param metaData    the metadata of the game
      */
     public Game(UserInput<ActionTypes> userInput, CarSettings carSettings, Config config, MetaData metaData) {
+        this(userInput, carSettings, config, metaData, false);
+    }
+
+    /**
+     * Instantiates a new Game, which optionally runs without any rendering.
+     * A headless game creates no renderers and therefore loads no textures or sounds,
+     * so it can be ticked without a graphics context, e.g. for soak tests or balancing.
+     *
+     * @param userInput   the user input
+     * @param carSettings the car settings
+     * @param config      the config
+     * @param metaData    the metadata of the game
+     * @param headless    whether the game runs without rendering
+     */
+    public Game(UserInput<ActionTypes> userInput, CarSettings carSettings, Config config, MetaData metaData,
+                boolean headless) {
         gameObjects = new ArrayList<>();
         this.config = config;
+        this.headless = headless;
+        profiler = new TickProfiler(config.showFpsCounter());
+        broadphase = BroadphaseType.fromString(config.collisionBroadphase()).create();
 
         long seed = config.seed();
         if (seed == 0) {
@@ -105,36 +156,44 @@ public class Game {
 
         playerCar = carType.getCar(colliders, this, userInput, carSettings.color());
         boostTimeScale = playerCar.getBoostAmount();
-        new Spawner(colliders, this, new Point(0, 0));
+        spawner = new Spawner(colliders, this, new Point(0, 0));
         gameObjects.add(new Foreground(null, this, new Point(0, 0), config.worldWidth(), config.worldHeight()));
 
         OverlayManager overlayManager = new OverlayManager(null, this, new Point(0, 0));
         gameObjects.add(overlayManager);
+
+        for (GameObject gameObject : gameObjects) {
+            gameObject.updateTicked();
+            profiler.addSubtree(gameObject.getClass().getSimpleName());
+        }
     }
 
     /**
-     * Returns a collection of all current renderers.
+     * Captures the state of the game and the sprites of all game objects into the given snapshot,
+     * without collecting their renderers first. The snapshot can then be drawn on another thread.
      *
-     * @return the collection
+     * @param snapshot the emptied snapshot to capture into
      */
-    public Collection<Renderer> getRenderers() {
-        Collection<Renderer> renderers = new ArrayList<>();
-        for (GameObject gameObject : gameObjects) {
-            renderers.addAll(gameObject.getAllRenderers());
+    public void capture(RenderSnapshot snapshot) {
+        snapshot.setGame(tickCount, currentTime, getScore(), isSlowdown(), gameOver);
+        snapshot.setPlayerCar(playerCar, playerCar.getDirection().toInt());
+        for (int i = 0; i < gameObjects.size(); i++) {
+            gameObjects.get(i).captureTree(snapshot);
         }
-        return Collections.unmodifiableCollection(renderers);
     }
 
     /**
-     * Register a Collidable GO as having moved, this schedules a collision check for this GO at the end of the tick.
+     * Registers an object as having moved for the first time in the current tick.
+     * This schedules a collision check at the end of the tick for every colliding object in its subtree,
+     * as their world position changed with it.
      *
-     * @param collidingGameObject the colliding GO which has moved
+     * @param gameObject the object which has moved and has colliding objects in its subtree
      */
-    public void collidableHasMoved(CollidingGameObject collidingGameObject) {
+    void subtreeHasMoved(GameObject gameObject) {
         if (!duringTime) {
             return;
         }
-        moved.add(collidingGameObject);
+        movedSubtrees.add(gameObject);
     }
 
     /**
@@ -145,7 +204,7 @@ public class Game {
      * @param child  the child gameobject
      */
     public void registerAddChild(GameObject parent, GameObject child) {
-        childCreationJobs.add(new SimpleEntry<>(parent, child));
+        commands.add(parent, child);
     }
 
     /**
@@ -157,13 +216,9 @@ public class Game {
      * Also ticks the newly created children at the end of the tick instead of at the middle
      */
     private void executeChildCreationJobs() {
-        for (Entry<GameObject, GameObject> entry : childCreationJobs) {
-            entry.getKey().addChild(entry.getValue());
-        }
-        for (GameObject child : childCreationJobs.stream().map(Entry::getValue).toList()) {
-            child.tick(getTimeScale() * (child.needAllTimescales() ? getBonusTimescale() : 1));
+        if (commands.hasAdds()) {
+            commands.executeAdds(tickAddedChild);
         }
-        childCreationJobs.clear();
     }
 
 
@@ -174,7 +229,15 @@ public class Game {
      * @param object the game object to remove
      */
     public void removeGameObject(GameObject object) {
-        gameObjects.remove(object);
+        int index = gameObjects.indexOf(object);
+        if (index >= 0) {
+            gameObjects.remove(index);
+            if (index < tickedObjects.size()) {
+                tickedObjects.remove(index);
+            }
+            tickedObjectsChanged = true;
+            profiler.removeSubtree(index);
+        }
     }
 
     /**
@@ -188,36 +251,134 @@ public class Game {
         cachedTimeScale = baseTimeScale * getSlowDownTimeMultiplier();
         cachedBonusTimeScale = getBoostTimeMultiplier() * getScoreTimeMultiplier() * getCoinTimeMultiplier() * playerCar.getSpeed();
 
+        long tickStart = profiler.start();
+        long start = tickStart;
         doTime();
+        profiler.stop(TickProfiler.Phase.TIME, start);
+        start = profiler.start();
+        refitBounds();
+        profiler.stop(TickProfiler.Phase.REFIT, start);
+        start = profiler.start();
         doCollision();
+        profiler.stop(TickProfiler.Phase.COLLISION, start);
+        start = profiler.start();
         executeChildCreationJobs();
+        profiler.stop(TickProfiler.Phase.CHILD_CREATION, start);
+        start = profiler.start();
         doDelete();
+        profiler.stop(TickProfiler.Phase.DELETE, start);
+        profiler.stopTick(tickStart);
+        if (profiler.isEnabled()) {
+            countObjects();
+        }
+        tickStartTime = currentTime;
+    }
+
+    private void countObjects() {
+        for (int i = 0; i < gameObjects.size(); i++) {
+            profiler.getSubtree(i).setObjectCount(gameObjects.get(i).countTree());
+        }
+    }
+
+    /**
+     * Shrinks the bounding boxes which grew while ticking, so the collision checks can skip as many subtrees as possible.
+     */
+    private void refitBounds() {
+        for (int i = 0; i < gameObjects.size(); i++) {
+            gameObjects.get(i).refitTree();
+        }
     }
 
     private void doCollision() {
-        for (CollidingGameObject gameObject : moved) {
-            colliders.doCollision(gameObject);
+        queuedColliders = 0;
+        if (!movedSubtrees.isEmpty()) {
+            for (int i = 0; i < movedSubtrees.size(); i++) {
+                sweptCollisions.collectMovedColliders(movedSubtrees.get(i), colliders, moved);
+            }
+            movedSubtrees.clear();
+            broadphase.prepare(colliders);
+            for (int i = 0; i < moved.size(); i++) {
+                broadphase.collide(moved.get(i));
+            }
+            // The player car moves every tick while it is alive, so the broadphase is prepared for the query
+            closeCalls.detect(broadphase);
+            queuedColliders = moved.size();
+            moved.clear();
         }
-        moved.clear();
+        contacts.update();
     }
 
     /**
-     * Simulate one time step in the game
+     * Simulate one time step in the game.
+     * Only the objects which ask for it are ticked, see {@link GameObject#isTicked()}.
      */
     private void doTime() {
         duringTime = true;
+        tickCount++;
         currentTime += getTimeScale();
-        for (GameObject gameObject : gameObjects) {
-            gameObject.tickTree(getTimeScale());
+        if (tickedObjectsChanged) {
+            collectTickedObjects();
+        }
+        for (int i = 0; i < gameObjects.size(); i++) {
+            long start = profiler.start();
+            List<GameObject> ticked = tickedObjects.get(i);
+            for (int j = 0; j < ticked.size(); j++) {
+                ticked.get(j).tickScaled(getTimeScale());
+            }
+            profiler.stopSubtree(i, start);
         }
         duringTime = false;
     }
 
+    /**
+     * Collects the ticked objects of every top level subtree in the order the tree is walked.
+     * The tree does not change while ticking, objects are only added and taken out at the end of the tick.
+     */
+    private void collectTickedObjects() {
+        tickedObjectsChanged = false;
+        for (int i = 0; i < gameObjects.size(); i++) {
+            if (i == tickedObjects.size()) {
+                tickedObjects.add(new ArrayList<>());
+            }
+            List<GameObject> ticked = tickedObjects.get(i);
+            ticked.clear();
+            gameObjects.get(i).collectTicked(ticked);
+        }
+    }
+
+    /**
+     * Tells the game that ticked objects were added to or taken out of the tree,
+     * so it collects them again before the next tick.
+     */
+    void tickedObjectsChanged() {
+        tickedObjectsChanged = true;
+    }
+
+    /**
+     * Gets the amount of colliding objects which were checked for collisions in the last tick.
+     *
+     * @return the amount of checked colliding objects
+     */
+    int getQueuedColliderCount() {
+        return queuedColliders;
+    }
+
+    /**
+     * Gets the amount of objects which were ticked in the last tick.
+     *
+     * @return the amount of ticked objects
+     */
+    int getTickedObjectCount() {
+        int count = 0;
+        for (int i = 0; i < tickedObjects.size(); i++) {
+            count += tickedObjects.get(i).size();
+        }
+        return count;
+    }
+
     private void doDelete() {
-        List<GameObject> toRemove = new ArrayList<>(delete);
-        delete.clear();
-        for (GameObject gameObject : toRemove) {
-            gameObject.takeOut();
+        if (commands.hasKills()) {
+            commands.executeKills();
         }
     }
 
@@ -279,6 +440,44 @@ public class Game {
     }
 
 
+    /**
+     * Gets the in game time at which the current tick started. Between ticks, this is the time at which the next one starts.
+     * Anything scheduled during a tick counts from here, so the whole tick counts towards its delay.
+     *
+     * @return double the in game time
+     */
+    public double getTickStartTime() {
+        return tickStartTime;
+    }
+
+    /**
+     * Gets the number of ticks simulated so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Sets how far the renderer currently is between the last and the next tick.
+     * Renderers use it to interpolate positions, see {@link GameObject#getRenderPosition()}.
+     *
+     * @param renderInterpolation the fraction of a tick between 0 (last tick) and 1 (current state)
+     */
+    public void setRenderInterpolation(float renderInterpolation) {
+        this.renderInterpolation = Math.clamp(renderInterpolation, 0, 1);
+    }
+
+    /**
+     * Gets how far the renderer currently is between the previous and the current tick.
+     *
+     * @return the fraction of a tick between 0 (previous tick) and 1 (current state)
+     */
+    public float getRenderInterpolation() {
+        return renderInterpolation;
+    }
+
     /**
      * Marks the game as ended. No further actions will be taken.
      */
@@ -327,6 +526,48 @@ public class Game {
         return -1;
     }
 
+    /**
+     * Gets the seed of the random number generator. If the config asked for a random seed, this is the one picked.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Hashes the simulation state of the game, see {@link #writeState(StateSink)}.
+     * Two games which took the same course have the same hash after every tick, so comparing the hashes
+     * of two runs finds the first tick where they diverged. Walks all objects, so it should only be called if needed.
+     *
+     * @return the hash
+     */
+    public long hashState() {
+        if (stateHasher == null) {
+            stateHasher = new StateHasher();
+        }
+        stateHasher.reset();
+        writeState(stateHasher);
+        return stateHasher.get();
+    }
+
+    /**
+     * Adds the simulation state of the game to the sink: the time, the state of the random number generator and every
+     * game object in tick order, including the score, lives and coins of the player car and the pending scheduled events.
+     *
+     * @param sink the sink
+     */
+    public void writeState(StateSink sink) {
+        sink.add(tickCount);
+        sink.add(currentTime);
+        sink.add(slowdownLayers);
+        sink.add(gameOver);
+        sink.add(random.getState());
+        for (int i = 0; i < gameObjects.size(); i++) {
+            gameObjects.get(i).writeStateTree(sink);
+        }
+    }
+
     /**
      * Gets the random number generator.
      *
@@ -341,9 +582,10 @@ public class Game {
      *
      * @param remainingGameTicks in how many game ticks
      * @param event              the to be scheduled event
+     * @return the scheduled event, which can be used to cancel it
      */
-    public void addScheduledEvent(double remainingGameTicks, ScheduleJob event) {
-        scheduler.insert(remainingGameTicks, event);
+    public ScheduleEvent addScheduledEvent(double remainingGameTicks, ScheduleJob event) {
+        return scheduler.insert(remainingGameTicks, event);
     }
 
     /**
@@ -355,6 +597,25 @@ public class Game {
         return config;
     }
 
+    /**
+     * Gets the profiler measuring the ticks of this game.
+     * It is enabled from the start if the FPS counter is shown.
+     *
+     * @return the profiler
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the statistics of this game.
+     *
+     * @return the statistics
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Gets the player car.
      *
@@ -364,6 +625,62 @@ public class Game {
         return playerCar;
     }
 
+    /**
+     * Gets the colliders, the root of all objects which are checked for collisions.
+     *
+     * @return the colliders
+     */
+    public Colliders getColliders() {
+        return colliders;
+    }
+
+    /**
+     * Gets the contacts between colliding objects.
+     *
+     * @return the contact cache
+     */
+    ContactCache getContacts() {
+        return contacts;
+    }
+
+    /**
+     * Gets how much larger the bounding boxes below the colliders are than they need to be,
+     * as the average ratio of bounding box area to the area of the tightest box around the children.
+     * Walks the whole collision tree, so it should not be called every tick.
+     *
+     * @return the bounds inflation, 1 if the boxes are tight
+     */
+    public double getBoundsInflation() {
+        return BoundsInflation.measure(colliders);
+    }
+
+    /**
+     * Gets the spawner.
+     *
+     * @return the spawner
+     */
+    public Spawner getSpawner() {
+        return spawner;
+    }
+
+    /**
+     * Gets the pool for the given type of GameObject, creating it on first use.
+     *
+     * @param type    the type of the pooled objects
+     * @param factory creates a new detached object whenever the pool is empty
+     * @param <T>     the type of the pooled objects
+     * @return the pool
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameObject> GameObjectPool<T> getPool(Class<T> type, Function<Game, T> factory) {
+        GameObjectPool<?> pool = pools.get(type);
+        if (pool == null) {
+            pool = new GameObjectPool<>(type, factory, this);
+            pools.put(type, pool);
+        }
+        return (GameObjectPool<T>) pool;
+    }
+
     /**
      * Set the muted state of the game.
      * @param muted the muted state
@@ -379,4 +696,14 @@ public class Game {
     public boolean getMuted() {
         return muted;
     }
+
+    /**
+     * Checks whether the game runs without rendering.
+     * Game objects of a headless game never create renderers.
+     *
+     * @return whether the game is headless
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
 }
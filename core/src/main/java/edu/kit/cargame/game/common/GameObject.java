@@ -2,25 +2,36 @@ package edu.kit.cargame.game.common;
 
 
 import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.io.view.gamerenderers.Renderer;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * The type Game object is a parent class for all possible things which are in the game.
  * This includes the player car and obstacles but also the invisible borders at the side of
  * the road and the animations.
  * <p>
- * The bounding boxes are updated via a greedy resizing algorithm:
- * Bounding boxes get scaled up when a child gets added that would be outside the current bounds.
- * If a child gets removed the current bounding box never gets scaled down, this could lead to some boxes
- * growing over time, this is not a massive concern tho since it will still be faster to do slightly suboptimal
- * collision checks then having to completely recalculate the entire collision hierarchy on every leaf position change.
+ * The bounding boxes are updated in two steps:
+ * While ticking, bounding boxes get scaled up greedily when a child moves or gets added outside the current bounds,
+ * so a box always contains all of its descendants.
+ * Once per tick {@link #refitTree()} shrinks the boxes back to their own box joined with the boxes of their children.
+ * Moving, resizing and removing a child marks the path to the root, so the refit only visits the changed parts of the tree
+ * instead of recalculating the entire collision hierarchy on every leaf position change.
+ * <p>
+ * Positions and bounding boxes are stored in mutable form, so moving an object does not allocate.
+ * The {@link Point} and {@link BoundingBox} getters create copies, the {@code ...Into} variants
+ * and {@link #translate(float, float)} should be preferred on code paths that run on every tick.
+ * <p>
+ * Only objects which ask for it by {@link #isTicked()} are ticked. Every object counts the ticked objects
+ * in its subtree, so the game can collect them into flat lists without visiting static scenery,
+ * and only has to do so again after ticked objects were added or taken out.
  */
 public abstract class GameObject {
     /**
@@ -31,7 +42,14 @@ public abstract class GameObject {
     /**
      * The Position relative to the parent.
      */
-    private Point position;
+    private final MutablePoint position = new MutablePoint();
+
+    /**
+     * The position before the first move in the tick {@link #previousPositionTick}.
+     * Used to interpolate between ticks while rendering.
+     */
+    private final MutablePoint previousPosition = new MutablePoint();
+    private long previousPositionTick = -1;
 
     /**
      * The Game in which this object lives.
@@ -44,18 +62,81 @@ public abstract class GameObject {
      */
     private Renderer renderer;
 
-    private final double creationTime;
+    private double creationTime;
 
     /**
      * The bounding box of the Object.
      * If not changed malformed so nothing intersects with it.
      */
-    private BoundingBox boundingBox = BoundingBox.empty();
+    private final MutableBoundingBox boundingBox = new MutableBoundingBox();
+    /**
+     * The bounding box set by {@link #setBoundingBox(BoundingBox)}, without the children.
+     * The bounding box never gets refitted smaller than this.
+     */
+    private final MutableBoundingBox ownBoundingBox = new MutableBoundingBox();
+    // Whether a child moved, changed its bounding box or was removed since the last refit
+    private boolean boundsStale;
+    // Whether this object or one of its descendants has stale bounds
+    private boolean refitPending;
+    /**
+     * How far the descendants moved relative to this object in the tick {@link #sweepTick}, along each axis.
+     * Computed by the refit, objects which were not refitted in the current tick had no moving descendants.
+     */
+    private float sweepX;
+    private float sweepY;
+    private long sweepTick = -1;
+    /**
+     * Whether there are colliding objects below which did not move by themselves in the tick {@link #sweepTick},
+     * and whether any of them moved relative to this object. Computed by the refit like the sweep.
+     */
+    private boolean stillColliders;
+    private boolean stillCollidersMoved;
+    // The last tick in which the colliding objects of this subtree were scheduled for collision checks
+    private long collisionCheckTick = -1;
 
     /**
-     * The Children of this object.
+     * The collision category bits of this object and of all colliding objects below it.
+     * Grows when children are added and is shrunk by the refit, like the bounding box.
      */
-    private final List<GameObject> children = new ArrayList<>();
+    private int collisionCategories;
+    // The collision category bit of this object itself, 0 unless it is a colliding object
+    private int ownCollisionCategories;
+
+    /**
+     * Cached world space position and bounding box.
+     * Invalid while the transform is dirty, moving an object marks it and all its descendants dirty.
+     * Descendants of a dirty object are always dirty as well.
+     */
+    private final MutablePoint globalPosition = new MutablePoint();
+    private final MutableBoundingBox globalBoundingBox = new MutableBoundingBox();
+    private boolean transformDirty = true;
+    private boolean globalBoundingBoxDirty = true;
+
+    /**
+     * The Children of this object, linked through their sibling references in the order they were added,
+     * so children can be appended and removed in constant time.
+     */
+    private GameObject firstChild;
+    private GameObject lastChild;
+    private int childCount;
+    private GameObject previousSibling;
+    private GameObject nextSibling;
+    // Whether this object is currently linked into the children of its parent
+    private boolean linked;
+
+    // The result of isTicked as of the last updateTicked
+    private boolean ticked;
+    // The amount of ticked objects in this subtree, including this object
+    private int tickedCount;
+
+    /**
+     * The pool this object returns to once it is taken out, may be null.
+     */
+    private GameObjectPool<?> pool;
+    private boolean markedForDeletion;
+    private boolean removed;
+    // Counts how often this object was put into the game, pooled objects are put in again after they were taken out
+    private int generation;
 
 
     /**
@@ -66,52 +147,201 @@ public abstract class GameObject {
      * @param position the position of the object
      */
     protected GameObject(GameObject parent, Game game, Point position) {
+        this(game);
+        spawn(parent, position);
+    }
+
+    /**
+     * Instantiates a new Game object which is not part of the game yet.
+     * Used for pooled objects, which are put into the game by {@link #spawn(GameObject, Point)}.
+     *
+     * @param game the game in which this object lives
+     */
+    protected GameObject(Game game) {
         this.creationTime = game.getCurrentTime();
         this.game = game;
-        this.position = position;
+    }
+
+    /**
+     * Puts this object into the game as if it was newly created.
+     * Resets the creation time, position and bounding box and registers the object with its new parent.
+     *
+     * @param parent   the parent Object
+     * @param position the position of the object
+     */
+    protected final void spawn(GameObject parent, Point position) {
+        creationTime = game.getCurrentTime();
+        removed = false;
+        generation++;
+        this.position.set(position);
+        previousPositionTick = -1;
+        sweepTick = -1;
+        collisionCheckTick = -1;
+        boundingBox.setEmpty();
+        ownBoundingBox.setEmpty();
+        boundsStale = false;
+        refitPending = false;
+        collisionCategories = ownCollisionCategories;
+        globalBoundingBoxDirty = true;
         if (parent != null) {
             game.registerAddChild(parent, this);
         }
     }
 
+    /**
+     * Called before this object is returned to its {@link GameObjectPool}.
+     * Subclasses should drop references to other objects and restore their initial state here.
+     */
+    protected void reset() {
+
+    }
+
+    /**
+     * Checks whether this object is part of the game and not about to be taken out.
+     *
+     * @return boolean
+     */
+    final boolean isInGame() {
+        return !removed && !markedForDeletion;
+    }
 
     /**
-     * Check if other collides with any of the children of this GameObject.
-     * If so, call doCollision on the child.
+     * Gets how often this object was put into the game, which tells apart the uses of a pooled object.
      *
-     * @param other the other GameObject
+     * @return the generation
      */
-    public void doCollision(CollidingGameObject other) {
-        for (GameObject child : children) {
-            if (other.collides(child)) {
-                child.doCollision(other);
+    final int getGeneration() {
+        return generation;
+    }
+
+    final void setPool(GameObjectPool<?> pool) {
+        this.pool = pool;
+    }
+
+
+    /**
+     * Passes every colliding object below this GameObject whose category is in the given mask
+     * and whose bounding box intersects the given area to the visitor, in tree order.
+     *
+     * @param area         the area in global coordinates
+     * @param categoryMask the categories of the wanted objects
+     * @param visitor      receives the found objects
+     */
+    public void query(MutableBoundingBox area, int categoryMask, Consumer<? super CollidingGameObject> visitor) {
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            if ((child.collisionCategories & categoryMask) != 0 && area.intersects(child.globalBounds())) {
+                child.query(area, categoryMask, visitor);
             }
         }
     }
 
     private void setParent(GameObject parent) {
         this.parent = parent;
+        invalidateTransform();
+    }
+
+    /**
+     * Marks the cached world space position and bounding box of this object and all descendants as outdated.
+     * Stops at objects which are already dirty, as their descendants are dirty as well.
+     */
+    private void invalidateTransform() {
+        if (transformDirty) {
+            return;
+        }
+        transformDirty = true;
+        globalBoundingBoxDirty = true;
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            child.invalidateTransform();
+        }
+    }
+
+    /**
+     * Sets the collision category bits of this object itself and adds them to the categories of its ancestors.
+     *
+     * @param categories the category bits
+     */
+    final void setOwnCollisionCategories(int categories) {
+        ownCollisionCategories = categories;
+        collisionCategories = categories;
+        addCollisionCategories(categories);
+    }
+
+    /**
+     * Adds the given category bits to this object and its ancestors.
+     * Stops at the first object which has them already, as its ancestors have them as well.
+     */
+    private void addCollisionCategories(int categories) {
+        for (GameObject object = this; object != null && (object.collisionCategories | categories) != object.collisionCategories;
+             object = object.parent) {
+            object.collisionCategories |= categories;
+        }
     }
 
     /**
-     * Gets the children of this GameObject.
+     * Gets the collision category bits of this object and of all colliding objects below it.
+     * May contain categories of objects which were removed since the last refit.
      *
-     * @return the children
+     * @return the category bits
      */
-    protected List<GameObject> getChildren() {
-        return Collections.unmodifiableList(children);
+    public final int getCollisionCategories() {
+        return collisionCategories;
     }
 
     /**
-     * Attach a renderer to this GO
+     * Gets the first child of this GameObject, the following ones are reached through {@link #getNextSibling()}.
      *
-     * @param renderer the renderer which will handle this GO
+     * @return the first child, null if there are no children
      */
-    protected void setRenderer(Renderer renderer) {
-        if (this.renderer != null) {
-            this.renderer.cleanup();
+    public final GameObject getFirstChild() {
+        return firstChild;
+    }
+
+    /**
+     * Gets the child of this GameObject which was added last.
+     *
+     * @return the last child, null if there are no children
+     */
+    protected final GameObject getLastChild() {
+        return lastChild;
+    }
+
+    /**
+     * Gets the amount of children of this GameObject.
+     *
+     * @return the child count
+     */
+    protected final int getChildCount() {
+        return childCount;
+    }
+
+    /**
+     * Gets the child of the same parent which was added after this object.
+     *
+     * @return the next sibling, null if this is the last child
+     */
+    public final GameObject getNextSibling() {
+        return nextSibling;
+    }
+
+    /**
+     * Attach a renderer to this GO.
+     * The renderer is only created if the game is rendered at all, headless games never create renderers,
+     * so no textures or sounds are loaded for them.
+     *
+     * @param rendererFactory creates the renderer which will handle this GO
+     */
+    protected void setRenderer(Supplier<? extends Renderer> rendererFactory) {
+        clearRenderer();
+        if (!game.isHeadless()) {
+            this.renderer = rendererFactory.get();
         }
-        this.renderer = renderer;
+    }
+
+    private void clearRenderer() {
+        if (renderer != null) {
+            renderer.cleanup();
+        }
+        renderer = null;
     }
 
     /**
@@ -125,17 +355,95 @@ public abstract class GameObject {
 
     /**
      * Recursively updates parents bounding boxes if necessary.
+     * The bounding box only grows here, it is shrunk again by the next {@link #refitTree()}.
      *
      * @param updatedChild the {@link GameObject} child which got changed
      */
     protected void updateBounds(GameObject updatedChild) {
-        BoundingBox newBoundingBox = BoundingBox.combine(boundingBox, updatedChild.getBoundingBox());
+        if (!boundsIncludeChildren()) {
+            return;
+        }
+        markBoundsStale();
+        if (boundingBox.combineInPlace(updatedChild.boundingBox, updatedChild.position)) {
+            boundingBoxChanged();
+        }
+    }
+
+    /**
+     * Whether the bounding box of this object contains the bounding boxes of its children.
+     * Objects whose children are never checked for collisions can keep their own bounding box instead.
+     *
+     * @return boolean
+     */
+    protected boolean boundsIncludeChildren() {
+        return true;
+    }
 
-        if (!boundingBox.equals(newBoundingBox)) {
-            setBoundingBox(newBoundingBox);
+    /**
+     * Marks the bounding box of this object for the next refit, and all ancestors as leading to it.
+     */
+    private void markBoundsStale() {
+        boundsStale = true;
+        for (GameObject object = this; object != null && !object.refitPending; object = object.parent) {
+            object.refitPending = true;
         }
     }
 
+    /**
+     * Shrinks the bounding boxes of this object and its descendants to their own bounding box joined with the bounding
+     * boxes of their children, and drops the collision categories of removed children.
+     * Also records how far the descendants moved in the current tick, which the swept collision checks need.
+     * Only visits objects which were marked since the last refit, children are refitted first.
+     */
+    public final void refitTree() {
+        if (!refitPending) {
+            return;
+        }
+        refitPending = false;
+        long tick = game.getTickCount();
+        float childSweepX = 0;
+        float childSweepY = 0;
+        boolean still = false;
+        boolean stillMoved = false;
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            child.refitTree();
+            childSweepX = Math.max(childSweepX, child.reachX(tick));
+            childSweepY = Math.max(childSweepY, child.reachY(tick));
+            if (child.hasStillColliders(tick)) {
+                still = true;
+                stillMoved |= child.stillCollidersMoved(tick) || child.stepX(tick) != 0 || child.stepY(tick) != 0;
+            }
+        }
+        sweepX = childSweepX;
+        sweepY = childSweepY;
+        stillColliders = still || ownCollisionCategories != 0;
+        stillCollidersMoved = stillMoved;
+        sweepTick = tick;
+        if (!boundsStale) {
+            return;
+        }
+        boundsStale = false;
+        float minX = boundingBox.minX();
+        float minY = boundingBox.minY();
+        float maxX = boundingBox.maxX();
+        float maxY = boundingBox.maxY();
+        int categories = collisionCategories;
+        boundingBox.set(ownBoundingBox.minX(), ownBoundingBox.minY(), ownBoundingBox.maxX(), ownBoundingBox.maxY());
+        collisionCategories = ownCollisionCategories;
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            boundingBox.combineInPlace(child.boundingBox, child.position);
+            collisionCategories |= child.collisionCategories;
+        }
+        boolean boxChanged = boundingBox.minX() != minX || boundingBox.minY() != minY
+            || boundingBox.maxX() != maxX || boundingBox.maxY() != maxY;
+        if (boxChanged) {
+            globalBoundingBoxDirty = true;
+        }
+        if ((boxChanged || collisionCategories != categories) && parent != null && parent.boundsIncludeChildren()) {
+            // The parent is refitted after its children, as it is pending as well
+            parent.boundsStale = true;
+        }
+    }
 
     /**
      * Sets this GameObjects bounding box.
@@ -144,7 +452,16 @@ public abstract class GameObject {
      * @param boundingBox the new bounding box
      */
     protected void setBoundingBox(BoundingBox boundingBox) {
-        this.boundingBox = boundingBox;
+        this.boundingBox.set(boundingBox);
+        ownBoundingBox.set(boundingBox);
+        if (firstChild != null && boundsIncludeChildren()) {
+            markBoundsStale();
+        }
+        boundingBoxChanged();
+    }
+
+    private void boundingBoxChanged() {
+        globalBoundingBoxDirty = true;
 
         if (parent != null) {
             parent.updateBounds(this);
@@ -157,7 +474,28 @@ public abstract class GameObject {
      * @return the BB
      */
     public BoundingBox getBoundingBox() {
-        return boundingBox.offset(position);
+        return boundingBox.toBoundingBox(position.x(), position.y());
+    }
+
+    /**
+     * Writes the bounding box set by {@link #setBoundingBox(BoundingBox)}, without the children,
+     * in the coordinate space of its parent into the given box.
+     *
+     * @param out the box receiving the result
+     * @return the given out box
+     */
+    final MutableBoundingBox getOwnBoundingBoxInto(MutableBoundingBox out) {
+        return ownBoundingBox.offsetInto(position, out);
+    }
+
+    /**
+     * Writes the bounding box of this GO in the coordinate space of its parent into the given box.
+     *
+     * @param out the box receiving the result
+     * @return the given out box
+     */
+    public final MutableBoundingBox getBoundingBoxInto(MutableBoundingBox out) {
+        return boundingBox.offsetInto(position, out);
     }
 
     /**
@@ -166,20 +504,313 @@ public abstract class GameObject {
      * @return the bounding box of the object in global coordinate space.
      */
     public BoundingBox getGlobalBoundingBox() {
-        return boundingBox.offset(getGlobalPosition());
+        return globalBounds().toBoundingBox();
+    }
+
+    /**
+     * Writes the bounding box of the object in global coordinate space into the given box.
+     *
+     * @param out the box receiving the result
+     * @return the given out box
+     */
+    public final MutableBoundingBox getGlobalBoundingBoxInto(MutableBoundingBox out) {
+        MutableBoundingBox bounds = globalBounds();
+        return out.set(bounds.minX(), bounds.minY(), bounds.maxX(), bounds.maxY());
+    }
+
+    /**
+     * Gets the cached bounding box in global coordinate space.
+     * The returned box is owned by this object and must not be changed.
+     *
+     * @return the global bounding box
+     */
+    final MutableBoundingBox globalBounds() {
+        updateTransform();
+        if (globalBoundingBoxDirty) {
+            globalBoundingBox.setOffset(boundingBox, globalPosition);
+            globalBoundingBoxDirty = false;
+        }
+        return globalBoundingBox;
     }
 
     /**
      * Gets the current total position in the world.
+     * The position is cached until this object or one of its ancestors moves.
      *
      * @return the position
      */
     public final Point getGlobalPosition() {
-        if (parent == null) {
-            return position;
+        updateTransform();
+        return globalPosition.toPoint();
+    }
+
+    /**
+     * Writes the current total position in the world into the given point.
+     *
+     * @param out the point receiving the result
+     * @return the given out point
+     */
+    public final MutablePoint getGlobalPositionInto(MutablePoint out) {
+        updateTransform();
+        return out.set(globalPosition);
+    }
+
+    private void updateTransform() {
+        if (!transformDirty) {
+            return;
         }
+        globalPosition.set(position);
+        if (parent != null) {
+            parent.updateTransform();
+            globalPosition.addInPlace(parent.globalPosition);
+        }
+        transformDirty = false;
+    }
+
+    /**
+     * Gets the position in the world at which this object should be rendered.
+     * This interpolates between the position before the last tick and the current one,
+     * using {@link Game#getRenderInterpolation()}, so movement stays smooth when rendering and
+     * simulation run at different rates.
+     *
+     * @return the interpolated global position
+     */
+    public final Point getRenderPosition() {
+        float alpha = game.getRenderInterpolation();
+        return new Point(getInterpolatedX(alpha), getInterpolatedY(alpha));
+    }
+
+    /**
+     * Writes the position in the world at which this object should be rendered into the given point.
+     *
+     * @param out the point receiving the result
+     * @return the given out point
+     * @see #getRenderPosition()
+     */
+    public final MutablePoint getRenderPositionInto(MutablePoint out) {
+        return getRenderPositionInto(out, game.getRenderInterpolation());
+    }
+
+    /**
+     * Writes the position in the world at the given point of time between the last and the current tick
+     * into the given point.
+     *
+     * @param out   the point receiving the result
+     * @param alpha the fraction of a tick between 0 (last tick) and 1 (current state)
+     * @return the given out point
+     */
+    public final MutablePoint getRenderPositionInto(MutablePoint out, float alpha) {
+        return out.set(getInterpolatedX(alpha), getInterpolatedY(alpha));
+    }
+
+    /**
+     * Gets the bounding box at the position at which this object should be rendered.
+     *
+     * @return the bounding box offset by {@link #getRenderPosition()}
+     * @see #getRenderPosition()
+     */
+    public BoundingBox getRenderBoundingBox() {
+        float alpha = game.getRenderInterpolation();
+        return boundingBox.toBoundingBox(getInterpolatedX(alpha), getInterpolatedY(alpha));
+    }
 
-        return position.add(parent.getGlobalPosition());
+    /**
+     * Writes the bounding box at the position at which this object should be rendered into the given box.
+     *
+     * @param out the box receiving the result
+     * @return the given out box
+     * @see #getRenderPosition()
+     */
+    public final MutableBoundingBox getRenderBoundingBoxInto(MutableBoundingBox out) {
+        return getRenderBoundingBoxInto(out, game.getRenderInterpolation());
+    }
+
+    /**
+     * Writes the bounding box at the given point of time between the last and the current tick into the given box.
+     *
+     * @param out   the box receiving the result
+     * @param alpha the fraction of a tick between 0 (last tick) and 1 (current state)
+     * @return the given out box
+     */
+    public final MutableBoundingBox getRenderBoundingBoxInto(MutableBoundingBox out, float alpha) {
+        return out.setOffset(boundingBox, getInterpolatedX(alpha), getInterpolatedY(alpha));
+    }
+
+    private boolean isInterpolated(float alpha) {
+        return previousPositionTick == game.getTickCount() && alpha < 1;
+    }
+
+    private float getInterpolatedX(float alpha) {
+        float x = position.x();
+        if (isInterpolated(alpha)) {
+            x = previousPosition.x() + (x - previousPosition.x()) * alpha;
+        }
+        return parent == null ? x : x + parent.getInterpolatedX(alpha);
+    }
+
+    private float getInterpolatedY(float alpha) {
+        float y = position.y();
+        if (isInterpolated(alpha)) {
+            y = previousPosition.y() + (y - previousPosition.y()) * alpha;
+        }
+        return parent == null ? y : y + parent.getInterpolatedY(alpha);
+    }
+
+    /**
+     * Writes how far this object moved in the world during the current tick into the given point,
+     * counting the moves of its ancestors.
+     *
+     * @param out the point receiving the result
+     * @return the given out point
+     */
+    public final MutablePoint getDisplacementInto(MutablePoint out) {
+        long tick = game.getTickCount();
+        return out.set(displacementX(tick), displacementY(tick));
+    }
+
+    /**
+     * Writes the box covering the global bounding box of this object at the start of the current tick
+     * and its current one into the given box.
+     *
+     * @param out the box receiving the result
+     * @return the given out box
+     */
+    public final MutableBoundingBox getSweptBoundingBoxInto(MutableBoundingBox out) {
+        long tick = game.getTickCount();
+        float x = displacementX(tick);
+        float y = displacementY(tick);
+        MutableBoundingBox bounds = globalBounds();
+        return out.set(Math.min(bounds.minX(), bounds.minX() - x), Math.min(bounds.minY(), bounds.minY() - y),
+            Math.max(bounds.maxX(), bounds.maxX() - x), Math.max(bounds.maxY(), bounds.maxY() - y));
+    }
+
+    // Summed from the root down, in the same order as the collision checks walk the tree
+    private float displacementX(long tick) {
+        return parent == null ? stepX(tick) : parent.displacementX(tick) + stepX(tick);
+    }
+
+    private float displacementY(long tick) {
+        return parent == null ? stepY(tick) : parent.displacementY(tick) + stepY(tick);
+    }
+
+    /**
+     * Checks whether this object was moved by {@link #setPosition(float, float)} in the current tick,
+     * not counting the moves of its ancestors.
+     *
+     * @return boolean
+     */
+    public final boolean hasMovedItself() {
+        return previousPositionTick == game.getTickCount();
+    }
+
+    /**
+     * Gets how far this object moved relative to its parent along the x axis in the current tick.
+     *
+     * @return the distance, 0 if it did not move
+     */
+    public final float getStepX() {
+        return stepX(game.getTickCount());
+    }
+
+    /**
+     * Gets how far this object moved relative to its parent along the y axis in the current tick.
+     *
+     * @return the distance, 0 if it did not move
+     */
+    public final float getStepY() {
+        return stepY(game.getTickCount());
+    }
+
+    /**
+     * Gets how far the descendants of this object moved relative to it along the x axis in the current tick,
+     * as recorded by the last {@link #refitTree()}.
+     *
+     * @return the distance, 0 if no descendant moved
+     */
+    public final float getSweepX() {
+        return sweepX(game.getTickCount());
+    }
+
+    /**
+     * Gets how far the descendants of this object moved relative to it along the y axis in the current tick,
+     * as recorded by the last {@link #refitTree()}.
+     *
+     * @return the distance, 0 if no descendant moved
+     */
+    public final float getSweepY() {
+        return sweepY(game.getTickCount());
+    }
+
+    /**
+     * Checks whether there are colliding objects in this subtree which did not move by themselves in the current tick.
+     *
+     * @return boolean
+     */
+    public final boolean hasStillColliders() {
+        return hasStillColliders(game.getTickCount());
+    }
+
+    /**
+     * Checks whether any of the colliding objects in this subtree which did not move by themselves
+     * moved relative to this object in the current tick.
+     *
+     * @return boolean
+     */
+    public final boolean haveStillCollidersMoved() {
+        return stillCollidersMoved(game.getTickCount());
+    }
+
+    /**
+     * Marks the colliding objects of this subtree as scheduled for collision checks in the current tick.
+     *
+     * @return false if they were already marked in the current tick
+     */
+    public final boolean markCollisionCheck() {
+        long tick = game.getTickCount();
+        if (collisionCheckTick == tick) {
+            return false;
+        }
+        collisionCheckTick = tick;
+        return true;
+    }
+
+    private float stepX(long tick) {
+        return previousPositionTick == tick ? position.x() - previousPosition.x() : 0;
+    }
+
+    private float stepY(long tick) {
+        return previousPositionTick == tick ? position.y() - previousPosition.y() : 0;
+    }
+
+    private float sweepX(long tick) {
+        return sweepTick == tick ? sweepX : 0;
+    }
+
+    private float sweepY(long tick) {
+        return sweepTick == tick ? sweepY : 0;
+    }
+
+    // Whether there are colliding objects below which did not move by themselves in the given tick
+    private boolean hasStillColliders(long tick) {
+        if (sweepTick == tick) {
+            return stillColliders;
+        }
+        // Nothing below moved relative to this object, so only a colliding object itself can have moved by itself.
+        // Colliding objects do not hold colliding children, so nothing below it is left
+        return collisionCategories != 0 && !(ownCollisionCategories != 0 && hasMovedItself());
+    }
+
+    private boolean stillCollidersMoved(long tick) {
+        return sweepTick == tick && stillCollidersMoved;
+    }
+
+    // How far this object and its descendants moved relative to the parent in the given tick
+    private float reachX(long tick) {
+        return Math.abs(stepX(tick)) + sweepX(tick);
+    }
+
+    private float reachY(long tick) {
+        return Math.abs(stepY(tick)) + sweepY(tick);
     }
 
     /**
@@ -188,7 +819,17 @@ public abstract class GameObject {
      * @return the GameObjects local position
      */
     protected Point getLocalPosition() {
-        return position;
+        return position.toPoint();
+    }
+
+    /**
+     * Writes the GameObjects position in local Coordinate space into the given point.
+     *
+     * @param out the point receiving the result
+     * @return the given out point
+     */
+    public final MutablePoint getLocalPositionInto(MutablePoint out) {
+        return out.set(position);
     }
 
     /**
@@ -196,8 +837,38 @@ public abstract class GameObject {
      *
      * @param position the new Position for this GO
      */
-    public void setPosition(Point position) {
-        this.position = position;
+    public final void setPosition(Point position) {
+        setPosition(position.x(), position.y());
+    }
+
+    /**
+     * Move the GO by the given amount.
+     *
+     * @param x the amount to move along the x axis
+     * @param y the amount to move along the y axis
+     */
+    public void translate(float x, float y) {
+        setPosition(position.x() + x, position.y() + y);
+    }
+
+    /**
+     * Move the GO to a new Position.
+     *
+     * @param x the new x coordinate for this GO
+     * @param y the new y coordinate for this GO
+     */
+    public void setPosition(float x, float y) {
+        long tick = game.getTickCount();
+        if (previousPositionTick != tick) {
+            previousPosition.set(position);
+            previousPositionTick = tick;
+            if (collisionCategories != 0) {
+                // Moves the colliding objects below as well, only the first move per tick has to be reported
+                game.subtreeHasMoved(this);
+            }
+        }
+        position.set(x, y);
+        invalidateTransform();
         if (parent != null) {
             parent.updateBounds(this);
         }
@@ -206,6 +877,7 @@ public abstract class GameObject {
     /**
      * Tells the GameObject to compute one step of the game.
      * This may move the object in a certain direction, or do nothing.
+     * Only called while {@link #isTicked()} says so.
      *
      * @param timeScale global time scale which should be multiplied with all changes
      */
@@ -214,16 +886,63 @@ public abstract class GameObject {
     }
 
     /**
-     * Ticks the game object and all of its children.
+     * Ticks the game object with the timescale it asks for.
      *
-     * @param timeScale the global timescale to apply to all ticks
+     * @param timeScale the global timescale
      */
-    public final void tickTree(double timeScale) {
-
+    final void tickScaled(double timeScale) {
         tick(timeScale * (needAllTimescales() ? getGame().getBonusTimescale() : 1));
-        for (GameObject child : children) {
-            child.tickTree(timeScale);
+    }
+
+    /**
+     * Checks whether this object has to be ticked. Objects which override {@link #tick(double)} should override this
+     * as well, all others are skipped when ticking. Read whenever the object is added to the tree,
+     * an object whose answer changes later on, e.g. once it has nothing left to do, calls {@link #updateTicked()}.
+     *
+     * @return boolean
+     */
+    protected boolean isTicked() {
+        return false;
+    }
+
+    /**
+     * Reads {@link #isTicked()} again and adds this object to the ticked objects or takes it out of them.
+     * The change takes effect from the next tick on.
+     */
+    protected final void updateTicked() {
+        boolean nowTicked = isTicked();
+        if (nowTicked != ticked) {
+            ticked = nowTicked;
+            addTickedCount(nowTicked ? 1 : -1);
+        }
+    }
+
+    /**
+     * Adds this object and all of its descendants which are ticked to the list, in the order they used to be ticked
+     * by walking the tree: every object before its children. Subtrees without ticked objects are skipped.
+     *
+     * @param ticked the list to add to
+     */
+    final void collectTicked(List<GameObject> ticked) {
+        if (this.ticked) {
+            ticked.add(this);
+        }
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            if (child.tickedCount > 0) {
+                child.collectTicked(ticked);
+            }
+        }
+    }
+
+    // Changes the count of ticked objects along the path to the root of the tree this object is linked into
+    private void addTickedCount(int delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (GameObject current = this; current != null; current = current.linked ? current.parent : null) {
+            current.tickedCount += delta;
         }
+        game.tickedObjectsChanged();
     }
 
     /**
@@ -236,6 +955,33 @@ public abstract class GameObject {
         return false;
     }
 
+    /**
+     * Adds the state of this object and all of its descendants to the sink, in the order they are ticked.
+     * Covers the type and local position of every object, anything else a subclass adds in {@link #writeState}.
+     *
+     * @param sink the sink
+     */
+    final void writeStateTree(StateSink sink) {
+        sink.add(getClass().getName().hashCode());
+        sink.add(position.x());
+        sink.add(position.y());
+        writeState(sink);
+        sink.add(childCount);
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            child.writeStateTree(sink);
+        }
+    }
+
+    /**
+     * Adds the simulation state of this object which is not covered by its type and position to the sink,
+     * see {@link Game#writeState(StateSink)}. Objects whose other state influences the game should override this.
+     *
+     * @param sink the sink
+     */
+    protected void writeState(StateSink sink) {
+
+    }
+
 
     /**
      * Adds child to the GameObject.
@@ -245,8 +991,32 @@ public abstract class GameObject {
      * @param child the child to add
      */
     public void addChild(GameObject child) {
-        children.add(child);
+        link(child, lastChild);
+    }
+
+    /**
+     * Links the child into the children of this object right after the given sibling, or first if it is null.
+     */
+    private void link(GameObject child, GameObject previous) {
+        // The child is constructed completely by now, so it can tell whether it has to be ticked
+        child.updateTicked();
+        child.previousSibling = previous;
+        child.nextSibling = previous == null ? firstChild : previous.nextSibling;
+        if (previous == null) {
+            firstChild = child;
+        } else {
+            previous.nextSibling = child;
+        }
+        if (child.nextSibling == null) {
+            lastChild = child;
+        } else {
+            child.nextSibling.previousSibling = child;
+        }
+        child.linked = true;
+        childCount++;
         child.setParent(this);
+        addTickedCount(child.tickedCount);
+        addCollisionCategories(child.collisionCategories);
         updateBounds(child);
     }
 
@@ -255,36 +1025,135 @@ public abstract class GameObject {
      * Allows this object to be garbage collected.
      */
     public final void kill() {
+        if (removed || markedForDeletion) {
+            return;
+        }
+        markedForDeletion = true;
         getGame().markForExecution(this);
     }
 
 
     /**
      * Removes this object and its renderer from the Game or parent which hold it.
-     * Allows this object to be garbage collected.
+     * Allows this object to be garbage collected, pooled objects are returned to their pool instead.
+     * Taking out an object more than once has no effect.
      */
     public final void takeOut() {
+        if (removed) {
+            return;
+        }
+        removed = true;
+        markedForDeletion = false;
         if (parent != null) {
+            if (linked && handsOverChildren()) {
+                handOverChildren();
+            }
             parent.remove(this);
         }
-        parent = null;
-        for (GameObject child : children) {
-            game.markForExecution(child);
+        setParent(null);
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            child.kill();
         }
-        if (renderer != null) {
-            renderer.cleanup();
+        clearChildren();
+        clearRenderer();
+        if (this instanceof CollidingGameObject colliding) {
+            // Exits the contacts while the object still holds its state, before its pool can hand it out again
+            game.getContacts().remove(colliding);
+        }
+        if (pool != null) {
+            reset();
+            pool.free(this);
+        }
+    }
+
+    /**
+     * Whether the children of this object outlive it once it is taken out.
+     * They are moved to the parent instead of being killed, keeping their place in the tree and in the world.
+     *
+     * @return boolean
+     */
+    protected boolean handsOverChildren() {
+        return false;
+    }
+
+    // Moves the children to the parent right after this object, in their order, without moving them in the world
+    private void handOverChildren() {
+        boolean moved = hasMovedItself();
+        long tick = game.getTickCount();
+        GameObject previous = this;
+        GameObject child = firstChild;
+        while (child != null) {
+            GameObject next = child.nextSibling;
+            if (moved) {
+                // Keeps interpolating between where the child was and is in the world
+                if (child.previousPositionTick != tick) {
+                    child.previousPosition.set(child.position);
+                    child.previousPositionTick = tick;
+                }
+                child.previousPosition.addInPlace(previousPosition);
+            } else if (child.previousPositionTick == tick) {
+                child.previousPosition.addInPlace(position);
+            }
+            child.position.addInPlace(position);
+            addTickedCount(-child.tickedCount);
+            child.unlink();
+            parent.link(child, previous);
+            previous = child;
+            child = next;
         }
-        children.clear();
-        setRenderer(null);
+        firstChild = null;
+        lastChild = null;
+        childCount = 0;
     }
 
     /**
      * Remove a GameObject from the list of children.
+     * Children that were already detached by {@link #clearChildren()} are ignored.
      *
      * @param gameObject the Object to remove
      */
     private void remove(GameObject gameObject) {
-        children.remove(gameObject);
+        if (!gameObject.linked) {
+            return;
+        }
+        if (gameObject.previousSibling == null) {
+            firstChild = gameObject.nextSibling;
+        } else {
+            gameObject.previousSibling.nextSibling = gameObject.nextSibling;
+        }
+        if (gameObject.nextSibling == null) {
+            lastChild = gameObject.previousSibling;
+        } else {
+            gameObject.nextSibling.previousSibling = gameObject.previousSibling;
+        }
+        addTickedCount(-gameObject.tickedCount);
+        gameObject.unlink();
+        childCount--;
+        if (boundsIncludeChildren()) {
+            markBoundsStale();
+        }
+    }
+
+    /**
+     * Detaches all children, they keep their parent until they are taken out themselves.
+     */
+    private void clearChildren() {
+        GameObject child = firstChild;
+        while (child != null) {
+            GameObject next = child.nextSibling;
+            child.unlink();
+            child = next;
+        }
+        firstChild = null;
+        lastChild = null;
+        childCount = 0;
+        tickedCount = ticked ? 1 : 0;
+    }
+
+    private void unlink() {
+        previousSibling = null;
+        nextSibling = null;
+        linked = false;
     }
 
     /**
@@ -294,23 +1163,35 @@ public abstract class GameObject {
      * @return the renderer as an Optional
      */
     public final Optional<Renderer> getRenderer() {
-        return Optional.of(renderer);
+        return Optional.ofNullable(renderer);
+    }
+
+    /**
+     * Counts this object and all of its descendants.
+     *
+     * @return the amount of objects in this subtree
+     */
+    final int countTree() {
+        int count = 1;
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            count += child.countTree();
+        }
+        return count;
     }
 
     /**
-     * Returns a collection of all renderers, which should currently display something to the user.
+     * Captures this object and then all of its children into the snapshot, in the order in which they were added.
+     * Walks the tree in place, so capturing does not allocate.
      *
-     * @return a collection
+     * @param snapshot the snapshot to add the sprites to
      */
-    public final Collection<Renderer> getAllRenderers() {
-        Collection<Renderer> renderers = new ArrayList<>();
+    public final void captureTree(RenderSnapshot snapshot) {
         if (renderer != null) {
-            renderers.add(renderer);
+            renderer.capture(snapshot);
         }
-        for (GameObject child : children) {
-            renderers.addAll(child.getAllRenderers());
+        for (GameObject child = firstChild; child != null; child = child.nextSibling) {
+            child.captureTree(snapshot);
         }
-        return renderers;
     }
 
     /**
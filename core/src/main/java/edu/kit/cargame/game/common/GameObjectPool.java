@@ -0,0 +1,87 @@
+package edu.kit.cargame.game.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The type GameObjectPool recycles GameObjects of one type within one {@link Game}.
+ * Objects obtained from a pool return to it when they are taken out of the game,
+ * after {@link GameObject#reset()} has been called on them.
+ * Pooled objects have to be brought back into the game by the type specific spawn methods of their class.
+ *
+ * @param <T> the type of the pooled objects
+ */
+public final class GameObjectPool<T extends GameObject> {
+    private final Class<T> type;
+    private final Function<Game, T> factory;
+    private final Game game;
+    private final List<T> free = new ArrayList<>();
+    private int createdCount;
+    private int obtainedCount;
+
+    /**
+     * Instantiates a new GameObjectPool.
+     *
+     * @param type    the type of the pooled objects
+     * @param factory creates a new detached object whenever the pool is empty
+     * @param game    the game in which the objects live
+     */
+    GameObjectPool(Class<T> type, Function<Game, T> factory, Game game) {
+        this.type = type;
+        this.factory = factory;
+        this.game = game;
+    }
+
+    /**
+     * Gets a detached object, either a recycled one or a newly created one.
+     *
+     * @return the object
+     */
+    public T obtain() {
+        obtainedCount++;
+        if (!free.isEmpty()) {
+            return free.removeLast();
+        }
+        T object = factory.apply(game);
+        object.setPool(this);
+        createdCount++;
+        return object;
+    }
+
+    /**
+     * Returns a taken out object to this pool.
+     *
+     * @param object the object
+     */
+    void free(GameObject object) {
+        free.add(type.cast(object));
+    }
+
+    /**
+     * Gets the amount of objects waiting to be reused.
+     *
+     * @return the free count
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * Gets the amount of objects this pool had to create.
+     *
+     * @return the created count
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Gets the amount of objects handed out by this pool, including reused ones.
+     *
+     * @return the obtained count
+     */
+    public int getObtainedCount() {
+        return obtainedCount;
+    }
+}
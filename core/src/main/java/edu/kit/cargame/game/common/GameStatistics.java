@@ -0,0 +1,47 @@
+package edu.kit.cargame.game.common;
+
+import edu.kit.cargame.game.object.collectable.CollectableType;
+
+/**
+ * The type GameStatistics counts what happened to the player during one {@link Game}.
+ * It is only used to evaluate games, e.g. when balancing the config with many simulated games.
+ */
+public final class GameStatistics {
+    private int collisions;
+    private final int[] pickups = new int[CollectableType.values().length];
+
+    /**
+     * Counts a collision of the player car with an obstacle, even if it did not cost a life.
+     */
+    public void recordCollision() {
+        collisions++;
+    }
+
+    /**
+     * Counts a collectable the player car drove over.
+     *
+     * @param type the type of the collectable
+     */
+    public void recordPickup(CollectableType type) {
+        pickups[type.ordinal()]++;
+    }
+
+    /**
+     * Gets the amount of collisions of the player car with obstacles.
+     *
+     * @return the collisions
+     */
+    public int getCollisions() {
+        return collisions;
+    }
+
+    /**
+     * Gets the amount of collectables of the given type the player car drove over.
+     *
+     * @param type the type of the collectable
+     * @return the pickups
+     */
+    public int getPickups(CollectableType type) {
+        return pickups[type.ordinal()];
+    }
+}
@@ -0,0 +1,51 @@
+package edu.kit.cargame.game.common;
+
+/**
+ * The type StateHasher folds the simulation state of a game into a 64 bit hash, one value after the other.
+ * The order of the values matters, so two games only hash alike if their objects are also in the same order.
+ * Floating point values are hashed by their bits, so even the smallest rounding difference changes the hash.
+ */
+public final class StateHasher implements StateSink {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long hash;
+
+    /**
+     * Starts a new hash.
+     */
+    public void reset() {
+        hash = 0;
+    }
+
+    /**
+     * Gets the hash of all values added since the last reset.
+     *
+     * @return the hash
+     */
+    public long get() {
+        return hash;
+    }
+
+    @Override
+    public void add(long value) {
+        hash = mix(hash * GOLDEN_GAMMA + value);
+    }
+
+    /**
+     * Combines two hashes into one, in an order dependent way.
+     *
+     * @param first  the first hash
+     * @param second the second hash
+     * @return the combined hash
+     */
+    public static long combine(long first, long second) {
+        return mix(first * GOLDEN_GAMMA + second);
+    }
+
+    // The finalizer of SplitMix64, every input bit affects every output bit
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
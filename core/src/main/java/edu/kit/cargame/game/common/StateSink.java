@@ -0,0 +1,41 @@
+package edu.kit.cargame.game.common;
+
+/**
+ * The type StateSink receives the simulation state of a game as a flat sequence of values, see
+ * {@link Game#writeState(StateSink)}. A sink may hash the values, see {@link Game#hashState()}.
+ */
+public interface StateSink {
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+    void add(long value);
+
+    /**
+     * Adds a value by its bits, so even the smallest rounding difference counts.
+     *
+     * @param value the value
+     */
+    default void add(double value) {
+        add(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Adds a value by its bits, so even the smallest rounding difference counts.
+     *
+     * @param value the value
+     */
+    default void add(float value) {
+        add(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+    default void add(boolean value) {
+        add(value ? 1 : 0);
+    }
+}
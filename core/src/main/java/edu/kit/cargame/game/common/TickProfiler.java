@@ -0,0 +1,316 @@
+package edu.kit.cargame.game.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type TickProfiler measures how long the phases of {@link Game#tick()} and the ticks of the top level
+ * subtrees of the game take, in nanoseconds.
+ * Each section keeps the durations of the last {@link #WINDOW} ticks, from which min, average and percentiles are computed.
+ * While the profiler is disabled no clock is read, so it costs nothing.
+ */
+public final class TickProfiler {
+    /**
+     * The amount of ticks the stats are computed over.
+     */
+    public static final int WINDOW = 240;
+
+    /**
+     * The phases of a single tick.
+     */
+    public enum Phase {
+        /**
+         * Ticking all game objects.
+         */
+        TIME,
+        /**
+         * Shrinking the bounding boxes which grew while ticking.
+         */
+        REFIT,
+        /**
+         * Checking the moved colliding objects for collisions.
+         */
+        COLLISION,
+        /**
+         * Adding the objects created during the tick.
+         */
+        CHILD_CREATION,
+        /**
+         * Taking out the killed objects.
+         */
+        DELETE
+    }
+
+    private boolean enabled;
+    private final Section total = new Section("TICK");
+    private final Section[] phases = new Section[Phase.values().length];
+    private final List<Section> subtrees = new ArrayList<>();
+
+    /**
+     * Instantiates a new TickProfiler.
+     *
+     * @param enabled whether the profiler measures from the start
+     */
+    TickProfiler(boolean enabled) {
+        this.enabled = enabled;
+        for (Phase phase : Phase.values()) {
+            phases[phase.ordinal()] = new Section(phase.name().replace('_', '-'));
+        }
+    }
+
+    /**
+     * Adds a section for the next top level subtree of the game.
+     *
+     * @param name the name of the subtree
+     */
+    void addSubtree(String name) {
+        subtrees.add(new Section(name));
+    }
+
+    /**
+     * Removes the section of the top level subtree with the given index.
+     *
+     * @param index the index of the subtree
+     */
+    void removeSubtree(int index) {
+        subtrees.remove(index);
+    }
+
+    /**
+     * Reads the clock if the profiler is enabled.
+     *
+     * @return the start time in nanoseconds, 0 if disabled
+     */
+    long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time passed since the given start for the whole tick.
+     *
+     * @param start the start time returned by {@link #start()}
+     */
+    void stopTick(long start) {
+        if (enabled) {
+            total.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the time passed since the given start for the given phase.
+     *
+     * @param phase the phase
+     * @param start the start time returned by {@link #start()}
+     */
+    void stop(Phase phase, long start) {
+        if (enabled) {
+            phases[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the time passed since the given start for the subtree with the given index.
+     *
+     * @param subtree the index of the subtree, in the order the subtrees are ticked
+     * @param start   the start time returned by {@link #start()}
+     */
+    void stopSubtree(int subtree, long start) {
+        if (enabled) {
+            getSubtree(subtree).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Checks whether the profiler is measuring.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops measuring. Collected stats are kept.
+     *
+     * @param enabled whether the profiler should measure
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the section for whole ticks.
+     *
+     * @return the section
+     */
+    public Section getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the section for the given phase of the tick.
+     *
+     * @param phase the phase
+     * @return the section
+     */
+    public Section getPhase(Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Gets the section of the top level subtree with the given index.
+     *
+     * @param index the index of the subtree, in the order the subtrees are ticked
+     * @return the section
+     */
+    public Section getSubtree(int index) {
+        return subtrees.get(index);
+    }
+
+    /**
+     * Gets the amount of top level subtrees.
+     *
+     * @return the subtree count
+     */
+    public int getSubtreeCount() {
+        return subtrees.size();
+    }
+
+    /**
+     * Gets the sections of the top level subtrees, in the order they are ticked.
+     *
+     * @return the sections
+     */
+    public List<Section> getSubtrees() {
+        return Collections.unmodifiableList(subtrees);
+    }
+
+    /**
+     * The type Section holds the durations of one measured part of the tick and, for subtrees, its object count.
+     */
+    public static final class Section {
+        private final String name;
+        private final long[] samples = new long[WINDOW];
+        // Sorted copy of the samples, reused for computing percentiles
+        private final long[] sorted = new long[WINDOW];
+        private int sampleCount;
+        private int nextSample;
+        private int objectCount;
+
+        private Section(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds a duration, replacing the oldest one once the window is full.
+         *
+         * @param nanos the duration in nanoseconds
+         */
+        void record(long nanos) {
+            samples[nextSample] = nanos;
+            nextSample = (nextSample + 1) % WINDOW;
+            if (sampleCount < WINDOW) {
+                sampleCount++;
+            }
+        }
+
+        /**
+         * Sets the amount of game objects in the measured subtree.
+         *
+         * @param objectCount the object count
+         */
+        void setObjectCount(int objectCount) {
+            this.objectCount = objectCount;
+        }
+
+        /**
+         * Gets the name of the section.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the amount of durations the stats are computed from.
+         *
+         * @return the sample count
+         */
+        public int getSampleCount() {
+            return sampleCount;
+        }
+
+        /**
+         * Gets the shortest duration in the window.
+         *
+         * @return the duration in nanoseconds, 0 if nothing was measured
+         */
+        public long getMin() {
+            if (sampleCount == 0) {
+                return 0;
+            }
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < sampleCount; i++) {
+                min = Math.min(min, samples[i]);
+            }
+            return min;
+        }
+
+        /**
+         * Gets the average duration in the window.
+         *
+         * @return the duration in nanoseconds, 0 if nothing was measured
+         */
+        public long getAverage() {
+            if (sampleCount == 0) {
+                return 0;
+            }
+            long sum = 0;
+            for (int i = 0; i < sampleCount; i++) {
+                sum += samples[i];
+            }
+            return sum / sampleCount;
+        }
+
+        /**
+         * Gets the duration which the given share of the durations in the window does not exceed.
+         *
+         * @param percentile the share, between 0 and 1
+         * @return the duration in nanoseconds, 0 if nothing was measured
+         * @throws IllegalArgumentException if the percentile is not between 0 and 1
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("Percentile has to be between 0 and 1, got " + percentile);
+            }
+            if (sampleCount == 0) {
+                return 0;
+            }
+            System.arraycopy(samples, 0, sorted, 0, sampleCount);
+            Arrays.sort(sorted, 0, sampleCount);
+            int index = (int) Math.ceil(percentile * sampleCount) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        /**
+         * Gets the 99th percentile of the durations in the window.
+         *
+         * @return the duration in nanoseconds, 0 if nothing was measured
+         */
+        public long getP99() {
+            return getPercentile(0.99);
+        }
+
+        /**
+         * Gets the amount of game objects in the measured subtree at the end of the last measured tick.
+         *
+         * @return the object count, 0 for phases
+         */
+        public int getObjectCount() {
+            return objectCount;
+        }
+    }
+}
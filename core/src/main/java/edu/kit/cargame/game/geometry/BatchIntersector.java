@@ -0,0 +1,95 @@
+package edu.kit.cargame.game.geometry;
+
+/**
+ * The type BatchIntersector tests one box against many boxes at once. The boxes are stored as flat float arrays
+ * of their corners, so a batch can be compared lane by lane with SIMD instructions instead of one
+ * {@link BoundingBox#intersects(BoundingBox)} call per box.
+ * Like {@link BoundingBox#intersects(BoundingBox)}, boxes which only touch do not intersect.
+ * The Vector API is still incubating, so it is only used if the jdk.incubator.vector module was added to the JVM,
+ * otherwise {@link #getDefault()} falls back to a plain loop with the same results.
+ */
+public abstract class BatchIntersector {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_IMPLEMENTATION = "edu.kit.cargame.game.geometry.VectorBatchIntersector";
+
+    private static final BatchIntersector SCALAR = new ScalarBatchIntersector();
+    private static final BatchIntersector DEFAULT = loadDefault();
+
+    BatchIntersector() {
+        // Only the implementations in this package
+    }
+
+    /**
+     * Gets the fastest intersector available on this JVM.
+     *
+     * @return the vectorized intersector if the Vector API is available, otherwise the scalar one
+     */
+    public static BatchIntersector getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the intersector which tests one box after the other.
+     *
+     * @return the scalar intersector
+     */
+    public static BatchIntersector scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Checks whether the intersector compares several boxes per instruction.
+     *
+     * @return boolean
+     */
+    public abstract boolean isVectorized();
+
+    /**
+     * Finds the boxes with an index in [from, to) which intersect the query box and writes their indices
+     * to the hits array, in ascending order.
+     *
+     * @param minX      the smallest x coordinates of the boxes
+     * @param minY      the smallest y coordinates of the boxes
+     * @param maxX      the largest x coordinates of the boxes
+     * @param maxY      the largest y coordinates of the boxes
+     * @param from      the first index to test
+     * @param to        the index after the last one to test
+     * @param queryMinX the smallest x coordinate of the query box
+     * @param queryMinY the smallest y coordinate of the query box
+     * @param queryMaxX the largest x coordinate of the query box
+     * @param queryMaxY the largest y coordinate of the query box
+     * @param hits      receives the indices of the intersecting boxes, must hold at least to - from entries
+     * @return the amount of intersecting boxes
+     */
+    public abstract int intersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                                     float queryMinX, float queryMinY, float queryMaxX, float queryMaxY, int[] hits);
+
+    /**
+     * Checks whether any box with an index in [from, to) intersects the query box.
+     *
+     * @param minX      the smallest x coordinates of the boxes
+     * @param minY      the smallest y coordinates of the boxes
+     * @param maxX      the largest x coordinates of the boxes
+     * @param maxY      the largest y coordinates of the boxes
+     * @param from      the first index to test
+     * @param to        the index after the last one to test
+     * @param queryMinX the smallest x coordinate of the query box
+     * @param queryMinY the smallest y coordinate of the query box
+     * @param queryMaxX the largest x coordinate of the query box
+     * @param queryMaxY the largest y coordinate of the query box
+     * @return boolean
+     */
+    public abstract boolean anyIntersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                                            float queryMinX, float queryMinY, float queryMaxX, float queryMaxY);
+
+    private static BatchIntersector loadDefault() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (BatchIntersector) Class.forName(VECTOR_IMPLEMENTATION).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package edu.kit.cargame.game.geometry;
+
+/**
+ * The type MutableBoundingBox is the in-place counterpart of {@link BoundingBox}.
+ * It stores the corners as plain floats, so moving, growing and intersecting boxes inside the simulation
+ * does not allocate. Instances should not leave the object owning them, use {@link #toBoundingBox()} to hand out a value.
+ */
+public final class MutableBoundingBox {
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+
+    /**
+     * Creates a new empty MutableBoundingBox, nothing intersects with it.
+     */
+    public MutableBoundingBox() {
+        setEmpty();
+    }
+
+    /**
+     * Creates a new MutableBoundingBox with the corners of the given box.
+     *
+     * @param boundingBox the box to copy
+     */
+    public MutableBoundingBox(BoundingBox boundingBox) {
+        set(boundingBox);
+    }
+
+    /**
+     * Makes this box empty, nothing intersects with it and combining it with another box yields the other box.
+     *
+     * @return this box
+     */
+    public MutableBoundingBox setEmpty() {
+        return set(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Sets all corners.
+     *
+     * @param minX the x coordinate of the bottom left corner
+     * @param minY the y coordinate of the bottom left corner
+     * @param maxX the x coordinate of the top right corner
+     * @param maxY the y coordinate of the top right corner
+     * @return this box
+     */
+    public MutableBoundingBox set(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        return this;
+    }
+
+    /**
+     * Sets the corners to the ones of the given box.
+     *
+     * @param boundingBox the box to copy
+     * @return this box
+     */
+    public MutableBoundingBox set(BoundingBox boundingBox) {
+        return set(boundingBox.bottomLeft().x(), boundingBox.bottomLeft().y(),
+            boundingBox.topRight().x(), boundingBox.topRight().y());
+    }
+
+    /**
+     * Sets this box to the given box moved along the given vector.
+     *
+     * @param boundingBox the box to copy
+     * @param offset      the vector to move along
+     * @return this box
+     */
+    public MutableBoundingBox setOffset(MutableBoundingBox boundingBox, MutablePoint offset) {
+        return setOffset(boundingBox, offset.x(), offset.y());
+    }
+
+    /**
+     * Sets this box to the given box moved along the given vector.
+     *
+     * @param boundingBox the box to copy
+     * @param offsetX     the x component of the vector to move along
+     * @param offsetY     the y component of the vector to move along
+     * @return this box
+     */
+    public MutableBoundingBox setOffset(MutableBoundingBox boundingBox, float offsetX, float offsetY) {
+        return set(boundingBox.minX + offsetX, boundingBox.minY + offsetY,
+            boundingBox.maxX + offsetX, boundingBox.maxY + offsetY);
+    }
+
+    /**
+     * Writes this box moved along the given vector into the given box.
+     *
+     * @param offset the vector to move along
+     * @param out    the box receiving the result
+     * @return the given out box
+     */
+    public MutableBoundingBox offsetInto(MutablePoint offset, MutableBoundingBox out) {
+        return out.setOffset(this, offset);
+    }
+
+    /**
+     * Grows this box so it also contains the given box moved along the given vector.
+     * Works like {@link BoundingBox#combine(BoundingBox, BoundingBox)}.
+     *
+     * @param boundingBox the box to include
+     * @param offset      the vector the included box is moved along
+     * @return true if this box changed
+     */
+    public boolean combineInPlace(MutableBoundingBox boundingBox, MutablePoint offset) {
+        float newMinX = Math.min(minX, boundingBox.minX + offset.x());
+        float newMinY = Math.min(minY, boundingBox.minY + offset.y());
+        float newMaxX = Math.max(maxX, boundingBox.maxX + offset.x());
+        float newMaxY = Math.max(maxY, boundingBox.maxY + offset.y());
+        if (newMinX == minX && newMinY == minY && newMaxX == maxX && newMaxY == maxY) {
+            return false;
+        }
+        set(newMinX, newMinY, newMaxX, newMaxY);
+        return true;
+    }
+
+    /**
+     * Check if this box intersects with the given other box.
+     * Works like {@link BoundingBox#intersects(BoundingBox)}.
+     *
+     * @param other the other box
+     * @return boolean
+     */
+    public boolean intersects(MutableBoundingBox other) {
+        return maxY > other.minY && minY < other.maxY && maxX > other.minX && minX < other.maxX;
+    }
+
+    /**
+     * Check if this box intersects with the given other box.
+     *
+     * @param other the other box
+     * @return boolean
+     */
+    public boolean intersects(BoundingBox other) {
+        return maxY > other.bottomLeft().y() && minY < other.topRight().y()
+            && maxX > other.bottomLeft().x() && minX < other.topRight().x();
+    }
+
+    /**
+     * Gets the x coordinate of the bottom left corner.
+     *
+     * @return the smallest x coordinate
+     */
+    public float minX() {
+        return minX;
+    }
+
+    /**
+     * Gets the y coordinate of the bottom left corner.
+     *
+     * @return the smallest y coordinate
+     */
+    public float minY() {
+        return minY;
+    }
+
+    /**
+     * Gets the x coordinate of the top right corner.
+     *
+     * @return the largest x coordinate
+     */
+    public float maxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the y coordinate of the top right corner.
+     *
+     * @return the largest y coordinate
+     */
+    public float maxY() {
+        return maxY;
+    }
+
+    /**
+     * Gets the width of this box.
+     *
+     * @return the width
+     */
+    public float getWidth() {
+        return maxX - minX;
+    }
+
+    /**
+     * Gets the height of this box.
+     *
+     * @return the height
+     */
+    public float getHeight() {
+        return maxY - minY;
+    }
+
+    /**
+     * Creates an immutable copy of this box.
+     *
+     * @return a new BoundingBox
+     */
+    public BoundingBox toBoundingBox() {
+        return new BoundingBox(new Point(minX, minY), new Point(maxX, maxY));
+    }
+
+    /**
+     * Creates an immutable copy of this box moved along the given vector.
+     *
+     * @param offsetX the x component of the vector to move along
+     * @param offsetY the y component of the vector to move along
+     * @return a new BoundingBox
+     */
+    public BoundingBox toBoundingBox(float offsetX, float offsetY) {
+        return new BoundingBox(new Point(minX + offsetX, minY + offsetY), new Point(maxX + offsetX, maxY + offsetY));
+    }
+
+    @Override
+    public String toString() {
+        return "MutableBoundingBox[minX=" + minX + ", minY=" + minY + ", maxX=" + maxX + ", maxY=" + maxY + "]";
+    }
+}
@@ -0,0 +1,127 @@
+package edu.kit.cargame.game.geometry;
+
+/**
+ * The type MutablePoint is the in-place counterpart of {@link Point}.
+ * It is used inside the simulation, where creating a new {@link Point} for every change would allocate on every tick.
+ * Instances should not leave the object owning them, use {@link #toPoint()} to hand out a value.
+ */
+public final class MutablePoint {
+    private float x;
+    private float y;
+
+    /**
+     * Creates a new MutablePoint at the origin.
+     */
+    public MutablePoint() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a new MutablePoint with the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    public MutablePoint(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the x coordinate.
+     *
+     * @return the x coordinate
+     */
+    public float x() {
+        return x;
+    }
+
+    /**
+     * Gets the y coordinate.
+     *
+     * @return the y coordinate
+     */
+    public float y() {
+        return y;
+    }
+
+    /**
+     * Sets both coordinates.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     * @return this point
+     */
+    public MutablePoint set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets both coordinates to the ones of the given point.
+     *
+     * @param point the point to copy
+     * @return this point
+     */
+    public MutablePoint set(Point point) {
+        return set(point.x(), point.y());
+    }
+
+    /**
+     * Sets both coordinates to the ones of the given point.
+     *
+     * @param point the point to copy
+     * @return this point
+     */
+    public MutablePoint set(MutablePoint point) {
+        return set(point.x, point.y);
+    }
+
+    /**
+     * Adds the given values to the coordinates of this point.
+     *
+     * @param x the value added to the x coordinate
+     * @param y the value added to the y coordinate
+     * @return this point
+     */
+    public MutablePoint addInPlace(float x, float y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this point.
+     *
+     * @param other the vector to add
+     * @return this point
+     */
+    public MutablePoint addInPlace(MutablePoint other) {
+        return addInPlace(other.x, other.y);
+    }
+
+    /**
+     * Checks whether this point has the same coordinates as the given point.
+     *
+     * @param point the point to compare to
+     * @return boolean
+     */
+    public boolean equalsPoint(Point point) {
+        return x == point.x() && y == point.y();
+    }
+
+    /**
+     * Creates an immutable copy of this point.
+     *
+     * @return a new Point
+     */
+    public Point toPoint() {
+        return new Point(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutablePoint[x=" + x + ", y=" + y + "]";
+    }
+}
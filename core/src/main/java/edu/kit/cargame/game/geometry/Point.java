@@ -54,7 +54,20 @@ public record Point(float x, float y) {
      * @return the distance
      */
     public float distance(Point other) {
-        return (float) Math.sqrt(Math.pow(this.x - other.x, 2) + Math.pow(this.y - other.y, 2));
+        return distance(x, y, other.x, other.y);
+    }
+
+    /**
+     * Calculates the distance between two points given by their coordinates, without creating any Points.
+     *
+     * @param x1 the x coordinate of the first point
+     * @param y1 the y coordinate of the first point
+     * @param x2 the x coordinate of the second point
+     * @param y2 the y coordinate of the second point
+     * @return the distance
+     */
+    public static float distance(float x1, float y1, float x2, float y2) {
+        return (float) Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
     }
 
     /**
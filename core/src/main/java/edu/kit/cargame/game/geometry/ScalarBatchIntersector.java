@@ -0,0 +1,35 @@
+package edu.kit.cargame.game.geometry;
+
+/**
+ * Tests the boxes one after the other, used when the Vector API is not available.
+ */
+final class ScalarBatchIntersector extends BatchIntersector {
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    @Override
+    public int intersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                            float queryMinX, float queryMinY, float queryMaxX, float queryMaxY, int[] hits) {
+        int hitCount = 0;
+        for (int i = from; i < to; i++) {
+            if (maxY[i] > queryMinY && minY[i] < queryMaxY && maxX[i] > queryMinX && minX[i] < queryMaxX) {
+                hits[hitCount++] = i;
+            }
+        }
+        return hitCount;
+    }
+
+    @Override
+    public boolean anyIntersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                                   float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        for (int i = from; i < to; i++) {
+            if (maxY[i] > queryMinY && minY[i] < queryMaxY && maxX[i] > queryMinX && minX[i] < queryMaxX) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
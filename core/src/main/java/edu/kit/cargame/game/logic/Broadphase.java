@@ -0,0 +1,42 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+
+import java.util.function.Consumer;
+
+/**
+ * The interface Broadphase finds the colliding objects a moved object touched during the tick,
+ * see {@link CollidingGameObject#collidesDuringTick(CollidingGameObject)}.
+ * Every implementation reports the same objects in the same order, the order in which they appear in the
+ * GameObject tree, so the game plays out the same no matter which broadphase is used.
+ */
+public interface Broadphase {
+
+    /**
+     * Prepares the collision checks of one tick. Called once before the moved objects are collided.
+     *
+     * @param root the root of all objects which take part in collisions
+     */
+    void prepare(GameObject root);
+
+    /**
+     * Collides the moved object with every colliding object below the root which it touched during the tick,
+     * by calling {@link CollidingGameObject#doCollision(CollidingGameObject)} on each of them in tree order.
+     *
+     * @param moved the moved object
+     */
+    void collide(CollidingGameObject moved);
+
+    /**
+     * Passes every colliding object below the root whose category is in the given mask
+     * and whose bounding box intersects the given area to the visitor, in tree order.
+     * Only valid after {@link #prepare(GameObject)} was called in the current tick.
+     *
+     * @param area         the area in global coordinates
+     * @param categoryMask the categories of the wanted objects
+     * @param visitor      receives the found objects, must not move any colliding object
+     */
+    void query(MutableBoundingBox area, int categoryMask, Consumer<? super CollidingGameObject> visitor);
+}
@@ -0,0 +1,52 @@
+package edu.kit.cargame.game.logic;
+
+import java.util.function.Supplier;
+
+/**
+ * The enum BroadphaseType lists the available {@link Broadphase} implementations, selected by the COLLISION_BROADPHASE config value.
+ */
+public enum BroadphaseType {
+    /**
+     * Walks the GameObject tree, skipping subtrees whose bounding box does not intersect the moved object.
+     */
+    HIERARCHY(HierarchyBroadphase::new),
+    /**
+     * Sorts the colliding objects into the cells of a uniform grid.
+     */
+    GRID(UniformGridBroadphase::new),
+    /**
+     * Sorts the colliding objects along the x axis, which the road scrolls along.
+     */
+    SWEEP_AND_PRUNE(SweepAndPruneBroadphase::new);
+
+    private final Supplier<Broadphase> factory;
+
+    BroadphaseType(Supplier<Broadphase> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new broadphase of this type.
+     *
+     * @return the broadphase
+     */
+    public Broadphase create() {
+        return factory.get();
+    }
+
+    /**
+     * Gets the broadphase type with the given name, ignoring case.
+     *
+     * @param name the name
+     * @return the broadphase type
+     * @throws IllegalArgumentException if there is no type with the given name
+     */
+    public static BroadphaseType fromString(String name) {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid collision broadphase: " + name);
+    }
+}
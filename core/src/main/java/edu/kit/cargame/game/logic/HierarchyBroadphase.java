@@ -0,0 +1,32 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+
+import java.util.function.Consumer;
+
+/**
+ * The type HierarchyBroadphase uses the bounding boxes of the GameObject tree itself.
+ * It needs no preparation, as the boxes of inner objects are refit to their children once per tick before the collisions,
+ * so a subtree is only checked when one of its objects is actually near the moved one, see {@link SweptCollisions}.
+ */
+public class HierarchyBroadphase implements Broadphase {
+    private final SweptCollisions sweptCollisions = new SweptCollisions();
+    private GameObject root;
+
+    @Override
+    public void prepare(GameObject root) {
+        this.root = root;
+    }
+
+    @Override
+    public void collide(CollidingGameObject moved) {
+        sweptCollisions.collide(root, moved);
+    }
+
+    @Override
+    public void query(MutableBoundingBox area, int categoryMask, Consumer<? super CollidingGameObject> visitor) {
+        root.query(area, categoryMask, visitor);
+    }
+}
@@ -0,0 +1,221 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The type IndexedBroadphase collects the colliding objects below the root into flat arrays once per tick,
+ * indexed in tree order. Subclasses build their structure from these arrays and find candidates for a query.
+ * Candidates are checked with {@link CollidingGameObject#collidesDuringTick(CollidingGameObject)}
+ * and collided in tree order, like the hierarchy does.
+ */
+abstract class IndexedBroadphase implements Broadphase {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The colliding objects, in tree order.
+     */
+    protected CollidingGameObject[] objects = new CollidingGameObject[INITIAL_CAPACITY];
+    /**
+     * The swept bounding boxes of the objects at the time of {@link #prepare(GameObject)}, in global coordinates,
+     * covering where each object was at the start of the tick and where it is now.
+     */
+    protected float[] minX = new float[INITIAL_CAPACITY];
+    protected float[] minY = new float[INITIAL_CAPACITY];
+    protected float[] maxX = new float[INITIAL_CAPACITY];
+    protected float[] maxY = new float[INITIAL_CAPACITY];
+    /**
+     * The collision category bits of the objects.
+     */
+    protected int[] categories = new int[INITIAL_CAPACITY];
+    /**
+     * The categories wanted by the current query, the collision mask of the moved object when colliding.
+     */
+    protected int queryMask;
+    /**
+     * The amount of collected objects.
+     */
+    protected int count;
+
+    private int[] candidates = new int[INITIAL_CAPACITY];
+    private int candidateCount;
+    private final MutableBoundingBox bounds = new MutableBoundingBox();
+    private final MutableBoundingBox queryBounds = new MutableBoundingBox();
+    private GameObject root;
+    // Whether an object moved while handling a collision, so the prepared bounding boxes are outdated
+    private boolean outdated;
+
+    @Override
+    public final void prepare(GameObject root) {
+        this.root = root;
+        rebuild();
+    }
+
+    private void rebuild() {
+        for (int i = 0; i < count; i++) {
+            objects[i] = null;
+        }
+        count = 0;
+        collect(root);
+        build();
+        outdated = false;
+    }
+
+    private void collect(GameObject parent) {
+        for (GameObject child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof CollidingGameObject collidingGameObject) {
+                add(collidingGameObject);
+            }
+            collect(child);
+        }
+    }
+
+    private void add(CollidingGameObject collidingGameObject) {
+        if (count == objects.length) {
+            int capacity = count * 2;
+            objects = Arrays.copyOf(objects, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+        collidingGameObject.getSweptBoundingBoxInto(bounds);
+        if (!(bounds.minX() < bounds.maxX() && bounds.minY() < bounds.maxY())) {
+            // Nothing intersects with an empty box
+            return;
+        }
+        objects[count] = collidingGameObject;
+        minX[count] = bounds.minX();
+        minY[count] = bounds.minY();
+        maxX[count] = bounds.maxX();
+        maxY[count] = bounds.maxY();
+        categories[count] = collidingGameObject.getCollisionCategory();
+        count++;
+    }
+
+    /**
+     * Collides the candidates in tree order, like the hierarchy walks the tree.
+     * Handling a collision may move the involved objects, e.g. the road edges push the player car back.
+     * Then the prepared boxes are rebuilt and the remaining candidates are searched again with the new box,
+     * so the same collisions happen as when walking the hierarchy.
+     */
+    @Override
+    public final void collide(CollidingGameObject moved) {
+        int last = -1;
+        boolean moving = true;
+        while (moving) {
+            moving = false;
+            if (outdated) {
+                rebuild();
+            }
+            moved.getSweptBoundingBoxInto(queryBounds);
+            queryMask = moved.getCollisionMask();
+            candidateCount = 0;
+            findCandidates(queryBounds.minX(), queryBounds.minY(), queryBounds.maxX(), queryBounds.maxY());
+            Arrays.sort(candidates, 0, candidateCount);
+            for (int i = 0; i < candidateCount && !moving; i++) {
+                int index = candidates[i];
+                CollidingGameObject candidate = objects[index];
+                if (index <= last || moved.skipsCheckWith(candidate) || !moved.collidesDuringTick(candidate)) {
+                    continue;
+                }
+                candidate.doCollision(moved);
+                last = index;
+                if (hasMoved(candidate, index)) {
+                    outdated = true;
+                }
+                if (!sameBox(moved.getSweptBoundingBoxInto(bounds), queryBounds)) {
+                    outdated = true;
+                    moving = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public final void query(MutableBoundingBox area, int categoryMask, Consumer<? super CollidingGameObject> visitor) {
+        if (outdated) {
+            rebuild();
+        }
+        queryMask = categoryMask;
+        candidateCount = 0;
+        findCandidates(area.minX(), area.minY(), area.maxX(), area.maxY());
+        Arrays.sort(candidates, 0, candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            CollidingGameObject candidate = objects[candidates[i]];
+            if (area.intersects(candidate.getGlobalBoundingBoxInto(bounds))) {
+                visitor.accept(candidate);
+            }
+        }
+    }
+
+    private boolean hasMoved(CollidingGameObject candidate, int index) {
+        candidate.getSweptBoundingBoxInto(bounds);
+        return bounds.minX() != minX[index] || bounds.minY() != minY[index]
+            || bounds.maxX() != maxX[index] || bounds.maxY() != maxY[index];
+    }
+
+    private static boolean sameBox(MutableBoundingBox first, MutableBoundingBox second) {
+        return first.minX() == second.minX() && first.minY() == second.minY()
+            && first.maxX() == second.maxX() && first.maxY() == second.maxY();
+    }
+
+    /**
+     * Builds the structure used to find candidates from the collected objects.
+     */
+    protected abstract void build();
+
+    /**
+     * Reports the index of every object whose prepared bounding box may intersect the given box,
+     * by calling {@link #addCandidate(int)} once per object.
+     *
+     * @param queryMinX the smallest x coordinate of the box
+     * @param queryMinY the smallest y coordinate of the box
+     * @param queryMaxX the largest x coordinate of the box
+     * @param queryMaxY the largest y coordinate of the box
+     */
+    protected abstract void findCandidates(float queryMinX, float queryMinY, float queryMaxX, float queryMaxY);
+
+    /**
+     * Adds the object with the given index to the candidates of the current query.
+     *
+     * @param index the index of the object
+     */
+    protected final void addCandidate(int index) {
+        if (candidateCount == candidates.length) {
+            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+        }
+        candidates[candidateCount++] = index;
+    }
+
+    /**
+     * Checks whether the object with the given index is in a category wanted by the current query,
+     * and whether its prepared bounding box intersects the given box.
+     *
+     * @param index     the index of the object
+     * @param queryMinX the smallest x coordinate of the box
+     * @param queryMinY the smallest y coordinate of the box
+     * @param queryMaxX the largest x coordinate of the box
+     * @param queryMaxY the largest y coordinate of the box
+     * @return boolean
+     */
+    protected final boolean intersects(int index, float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        return isQueried(index)
+            && maxY[index] > queryMinY && minY[index] < queryMaxY && maxX[index] > queryMinX && minX[index] < queryMaxX;
+    }
+
+    /**
+     * Checks whether the object with the given index is in a category wanted by the current query.
+     *
+     * @param index the index of the object
+     * @return boolean
+     */
+    protected final boolean isQueried(int index) {
+        return (categories[index] & queryMask) != 0;
+    }
+}
@@ -0,0 +1,92 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.geometry.BatchIntersector;
+
+import java.util.Arrays;
+
+/**
+ * The type SweepAndPruneBroadphase sorts the colliding objects by the left edge of their bounding box.
+ * A query only scans the objects whose left edge lies between the left edge of the query minus the widest object
+ * and the right edge of the query. The road scrolls along the x axis, so the objects are spread out along it.
+ * The boxes are copied in sorted order, so the scanned range is contiguous and tested by a {@link BatchIntersector}.
+ */
+class SweepAndPruneBroadphase extends IndexedBroadphase {
+    private final BatchIntersector intersector = BatchIntersector.getDefault();
+    // Sortable bits of minX in the upper half, index of the object in the lower half
+    private long[] keys = new long[64];
+    // The prepared boxes and indices of the objects in the order of the keys
+    private float[] sortedMinX = new float[64];
+    private float[] sortedMinY = new float[64];
+    private float[] sortedMaxX = new float[64];
+    private float[] sortedMaxY = new float[64];
+    private int[] sortedIndices = new int[64];
+    private int[] hits = new int[64];
+    private float maxWidth;
+
+    @Override
+    protected void build() {
+        if (keys.length < count) {
+            keys = new long[objects.length];
+            sortedMinX = new float[objects.length];
+            sortedMinY = new float[objects.length];
+            sortedMaxX = new float[objects.length];
+            sortedMaxY = new float[objects.length];
+            sortedIndices = new int[objects.length];
+            hits = new int[objects.length];
+        }
+        maxWidth = 0;
+        for (int i = 0; i < count; i++) {
+            keys[i] = (long) sortable(minX[i]) << 32 | i;
+            maxWidth = Math.max(maxWidth, maxX[i] - minX[i]);
+        }
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            int index = (int) keys[i];
+            sortedMinX[i] = minX[index];
+            sortedMinY[i] = minY[index];
+            sortedMaxX[i] = maxX[index];
+            sortedMaxY[i] = maxY[index];
+            sortedIndices[i] = index;
+        }
+    }
+
+    @Override
+    protected void findCandidates(float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        int from = lowerBound(sortable(queryMinX - maxWidth));
+        int to = lowerBound(sortable(queryMaxX));
+        int hitCount = intersector.intersecting(sortedMinX, sortedMinY, sortedMaxX, sortedMaxY, from, to,
+            queryMinX, queryMinY, queryMaxX, queryMaxY, hits);
+        for (int i = 0; i < hitCount; i++) {
+            int index = sortedIndices[hits[i]];
+            if (isQueried(index)) {
+                addCandidate(index);
+            }
+        }
+    }
+
+    /**
+     * Finds the first key whose minX is not smaller than the given one.
+     */
+    private int lowerBound(int sortableMinX) {
+        long key = (long) sortableMinX << 32;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Maps a float to an int with the same order.
+     */
+    private static int sortable(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+}
@@ -0,0 +1,214 @@
+package edu.kit.cargame.game.logic;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+
+import java.util.List;
+
+/**
+ * The type SweptCollisions walks the GameObject tree for the collision checks of one tick.
+ * It finds the colliding objects which have to be checked after their subtrees moved,
+ * and collides a moved object with everything below the root it touched during the tick.
+ * <p>
+ * A subtree is skipped when it stayed too far away from the moved object during the whole tick,
+ * using how far each object moved and how far its descendants moved relative to it, see {@link GameObject#getSweepX()}.
+ * Objects which were only carried along by their ancestors keep their position relative to everything carried
+ * exactly as far, so they are only checked against colliding objects which moved differently.
+ * The walks reuse their boxes, so one instance must not be used by two walks at the same time.
+ */
+public final class SweptCollisions {
+    private final MutableBoundingBox bounds = new MutableBoundingBox();
+    private final MutableBoundingBox swept = new MutableBoundingBox();
+    private final MutablePoint displacement = new MutablePoint();
+    private final MutablePoint position = new MutablePoint();
+
+    /**
+     * Collides the moved object with every colliding object below the root which it touched during the tick,
+     * in tree order, by calling {@link CollidingGameObject#doCollision(CollidingGameObject)} on them.
+     *
+     * @param root  the root of all colliding objects
+     * @param moved the moved object
+     */
+    public void collide(GameObject root, CollidingGameObject moved) {
+        moved.getSweptBoundingBoxInto(swept);
+        float carriedX = Float.NaN;
+        float carriedY = Float.NaN;
+        if (moved.isCarried()) {
+            moved.getDisplacementInto(displacement);
+            carriedX = displacement.x();
+            carriedY = displacement.y();
+        }
+        root.getDisplacementInto(displacement);
+        collideChildren(root, moved, displacement.x(), displacement.y(), carriedX, carriedY);
+    }
+
+    private void collideChildren(GameObject parent, CollidingGameObject moved, float displacementX, float displacementY,
+                                 float carriedX, float carriedY) {
+        int mask = moved.getCollisionMask();
+        for (GameObject child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if ((child.getCollisionCategories() & mask) != 0) {
+                collideSwept(child, moved, displacementX, displacementY, carriedX, carriedY);
+            }
+        }
+    }
+
+    /**
+     * Collides the moved object with the colliding objects below the given one, unless this subtree was too far away
+     * from it during the whole tick. Everything below the object moved at most as far as the object itself
+     * plus the sweep of its descendants, so the current bounding box grown by that distance
+     * contains everything the subtree touched during the tick.
+     * <p>
+     * For a carried object the subtrees are skipped which hold no colliding objects it has to be checked against,
+     * see {@link CollidingGameObject#skipsCheckWith(CollidingGameObject)}.
+     *
+     * @param object              the object whose subtree is checked
+     * @param moved               the moved object
+     * @param parentDisplacementX how far the parent of the object moved along the x axis in the current tick
+     * @param parentDisplacementY how far the parent of the object moved along the y axis in the current tick
+     * @param carriedX            how far the moved object was carried along the x axis, NaN if it moved by itself
+     * @param carriedY            how far the moved object was carried along the y axis, NaN if it moved by itself
+     */
+    private void collideSwept(GameObject object, CollidingGameObject moved, float parentDisplacementX,
+                              float parentDisplacementY, float carriedX, float carriedY) {
+        if (object instanceof CollidingGameObject collidingGameObject) {
+            if (!moved.skipsCheckWith(collidingGameObject) && moved.collidesDuringTick(collidingGameObject)) {
+                collidingGameObject.doCollision(moved);
+                // Handling the collision may have moved the object
+                moved.getSweptBoundingBoxInto(swept);
+            }
+            return;
+        }
+        float displacementX = parentDisplacementX + object.getStepX();
+        float displacementY = parentDisplacementY + object.getStepY();
+        if (!Float.isNaN(carriedX) && (!object.hasStillColliders()
+            || displacementX == carriedX && displacementY == carriedY && !object.haveStillCollidersMoved())) {
+            // The colliding objects below which moved by themselves check for collisions on their own,
+            // the others moved exactly like the carried object, so none of their overlaps with it can have changed
+            return;
+        }
+        float reachX = Math.abs(displacementX) + object.getSweepX();
+        float reachY = Math.abs(displacementY) + object.getSweepY();
+        object.getGlobalBoundingBoxInto(bounds);
+        if (bounds.maxY() + reachY > swept.minY() && bounds.minY() - reachY < swept.maxY()
+            && bounds.maxX() + reachX > swept.minX() && bounds.minX() - reachX < swept.maxX()) {
+            collideChildren(object, moved, displacementX, displacementY, carriedX, carriedY);
+        }
+    }
+
+    /**
+     * Adds the colliding objects of the given subtree which need a collision check to the given list,
+     * the object itself first. The object moved by itself, as did every object below which is always added.
+     * The other objects below were only carried along, so they are added just if the subtree came close to
+     * an object they could have started to touch, see {@link #stillCategoriesNear(GameObject, GameObject)}.
+     * Each subtree is only visited once per tick, so objects below several moved ancestors are added once,
+     * and subtrees without colliding objects are skipped.
+     *
+     * @param subtree the object which moved by itself
+     * @param root    the root of all colliding objects
+     * @param out     the list receiving the colliding objects
+     */
+    public void collectMovedColliders(GameObject subtree, GameObject root, List<CollidingGameObject> out) {
+        if (subtree.getCollisionCategories() == 0 || !subtree.markCollisionCheck()) {
+            return;
+        }
+        if (subtree instanceof CollidingGameObject collidingGameObject) {
+            out.add(collidingGameObject);
+        }
+        GameObject first = subtree.getFirstChild();
+        while (first != null && first.getCollisionCategories() == 0) {
+            first = first.getNextSibling();
+        }
+        if (first == null) {
+            return;
+        }
+        // Objects below which moved by themselves registered their own subtree, so they are not missed
+        // when nothing is near
+        int near = stillCategoriesNear(subtree, root);
+        if (near == 0) {
+            return;
+        }
+        for (GameObject child = first; child != null; child = child.getNextSibling()) {
+            collectCarriedColliders(child, near, out);
+        }
+    }
+
+    private void collectCarriedColliders(GameObject object, int nearCategories, List<CollidingGameObject> out) {
+        if (object.getCollisionCategories() == 0 || !object.markCollisionCheck()) {
+            return;
+        }
+        if (object instanceof CollidingGameObject collidingGameObject
+            && (object.hasMovedItself() || (collidingGameObject.getCollisionMask() & nearCategories) != 0)) {
+            out.add(collidingGameObject);
+        }
+        for (GameObject child = object.getFirstChild(); child != null; child = child.getNextSibling()) {
+            collectCarriedColliders(child, nearCategories, out);
+        }
+    }
+
+    /**
+     * Gets the categories of the colliding objects below the given root which the given subtree can have
+     * come close to during the current tick, and which did not move by themselves and moved differently from it.
+     * Only such objects need to be checked against the colliding objects the subtree carried along,
+     * as objects which moved by themselves check for collisions on their own.
+     * <p>
+     * The chunks of the road each move by themselves, so their steps differ in the last bits and the objects
+     * near the edge of the next chunk count as moved differently. The steps are still compared exactly,
+     * as a move by such a small amount can start a contact as well.
+     *
+     * @param subtree the object which moved by itself
+     * @param root    the root of all colliding objects
+     * @return the categories found near the subtree
+     */
+    private int stillCategoriesNear(GameObject subtree, GameObject root) {
+        if (subtree.haveStillCollidersMoved()) {
+            // The carried objects moved differently from each other
+            return CollisionCategory.ALL;
+        }
+        // The objects below are compared by how far they moved relative to the carried ones
+        float reachX = subtree.getSweepX();
+        float reachY = subtree.getSweepY();
+        subtree.getGlobalBoundingBoxInto(bounds);
+        subtree.getDisplacementInto(displacement);
+        // The root is a top level object, so the area relative to its parent is the area in the world
+        return stillCategoriesNear(root, bounds.minX() - reachX, bounds.minY() - reachY, bounds.maxX() + reachX,
+            bounds.maxY() + reachY, root.getCollisionCategories(), displacement.x(), displacement.y(), 0, 0);
+    }
+
+    // The area is given relative to the parent of the object, so the walk needs no world positions
+    private int stillCategoriesNear(GameObject object, float minX, float minY, float maxX, float maxY, int categories,
+                                    float carriedX, float carriedY,
+                                    float parentDisplacementX, float parentDisplacementY) {
+        float displacementX = parentDisplacementX + object.getStepX();
+        float displacementY = parentDisplacementY + object.getStepY();
+        if (!object.hasStillColliders()
+            || displacementX == carriedX && displacementY == carriedY && !object.haveStillCollidersMoved()) {
+            return 0;
+        }
+        float reachX = Math.abs(displacementX - carriedX) + object.getSweepX();
+        float reachY = Math.abs(displacementY - carriedY) + object.getSweepY();
+        object.getBoundingBoxInto(bounds);
+        object.getLocalPositionInto(position);
+        float x = position.x();
+        float y = position.y();
+        if (!(bounds.maxY() + reachY > minY && bounds.minY() - reachY < maxY
+            && bounds.maxX() + reachX > minX && bounds.minX() - reachX < maxX)) {
+            return 0;
+        }
+        if (object instanceof CollidingGameObject collidingGameObject) {
+            return collidingGameObject.getCollisionCategory() & categories;
+        }
+        int found = 0;
+        for (GameObject child = object.getFirstChild(); child != null && found != categories;
+             child = child.getNextSibling()) {
+            // Subtrees holding only categories which were already found are skipped
+            if ((child.getCollisionCategories() & categories & ~found) != 0) {
+                found |= stillCategoriesNear(child, minX - x, minY - y, maxX - x, maxY - y, categories,
+                    carriedX, carriedY, displacementX, displacementY);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,116 @@
+package edu.kit.cargame.game.logic;
+
+import java.util.Arrays;
+
+/**
+ * The type UniformGridBroadphase sorts the colliding objects into square cells and only checks the objects in the cells
+ * a moved object overlaps. The cells are hashed into a table sized by the amount of objects,
+ * so the grid does not need to know the size of the world.
+ * Objects spanning too many cells, like the road edges, are checked for every moved object instead.
+ */
+class UniformGridBroadphase extends IndexedBroadphase {
+    private static final float CELL_SIZE = 128;
+    private static final int MAX_CELLS_PER_OBJECT = 16;
+    private static final int MIN_TABLE_SIZE = 16;
+
+    // Head entry of every bucket, -1 if empty
+    private int[] buckets = new int[MIN_TABLE_SIZE];
+    private int mask;
+    private int[] entryObjects = new int[MIN_TABLE_SIZE];
+    private int[] entryNext = new int[MIN_TABLE_SIZE];
+    private int entryCount;
+    private int[] oversized = new int[MIN_TABLE_SIZE];
+    private int oversizedCount;
+    // Query in which an object was last reported, so objects in several cells are only reported once
+    private int[] stamps = new int[MIN_TABLE_SIZE];
+    private int stamp;
+
+    @Override
+    protected void build() {
+        int tableSize = Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, count * 2) - 1) << 1);
+        if (buckets.length < tableSize) {
+            buckets = new int[tableSize];
+        }
+        mask = tableSize - 1;
+        Arrays.fill(buckets, 0, tableSize, -1);
+        if (stamps.length < count) {
+            stamps = new int[objects.length];
+        }
+        Arrays.fill(stamps, 0);
+        stamp = 0;
+        entryCount = 0;
+        oversizedCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            int fromX = cell(minX[i]);
+            int toX = cell(maxX[i]);
+            int fromY = cell(minY[i]);
+            int toY = cell(maxY[i]);
+            if ((long) (toX - fromX + 1) * (toY - fromY + 1) > MAX_CELLS_PER_OBJECT) {
+                if (oversizedCount == oversized.length) {
+                    oversized = Arrays.copyOf(oversized, oversizedCount * 2);
+                }
+                oversized[oversizedCount++] = i;
+                continue;
+            }
+            for (int x = fromX; x <= toX; x++) {
+                for (int y = fromY; y <= toY; y++) {
+                    insert(hash(x, y), i);
+                }
+            }
+        }
+    }
+
+    private void insert(int bucket, int index) {
+        if (entryCount == entryObjects.length) {
+            entryObjects = Arrays.copyOf(entryObjects, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryObjects[entryCount] = index;
+        entryNext[entryCount] = buckets[bucket];
+        buckets[bucket] = entryCount;
+        entryCount++;
+    }
+
+    @Override
+    protected void findCandidates(float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        stamp++;
+        for (int i = 0; i < oversizedCount; i++) {
+            report(oversized[i], queryMinX, queryMinY, queryMaxX, queryMaxY);
+        }
+        int fromX = cell(queryMinX);
+        int toX = cell(queryMaxX);
+        int fromY = cell(queryMinY);
+        int toY = cell(queryMaxY);
+        if ((long) (toX - fromX + 1) * (toY - fromY + 1) > MAX_CELLS_PER_OBJECT) {
+            // Visiting every cell would take longer than checking every object
+            for (int i = 0; i < count; i++) {
+                report(i, queryMinX, queryMinY, queryMaxX, queryMaxY);
+            }
+            return;
+        }
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                for (int entry = buckets[hash(x, y)]; entry >= 0; entry = entryNext[entry]) {
+                    report(entryObjects[entry], queryMinX, queryMinY, queryMaxX, queryMaxY);
+                }
+            }
+        }
+    }
+
+    private void report(int index, float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        if (stamps[index] != stamp && intersects(index, queryMinX, queryMinY, queryMaxX, queryMaxY)) {
+            stamps[index] = stamp;
+            addCandidate(index);
+        }
+    }
+
+    private static int cell(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private int hash(int x, int y) {
+        int hash = x * 0x9E3779B1 ^ y * 0x85EBCA77;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -1,36 +1,85 @@
 package edu.kit.cargame.game.logic.scheduler;
 
-import edu.kit.cargame.game.common.Game;
-import edu.kit.cargame.game.geometry.Point;
-import edu.kit.cargame.game.common.GameObject;
-
 /**
- * The type Schedule event holds a Function inside a {@link ScheduleJob} to be executed at a later time.
+ * The type Schedule event holds a {@link ScheduleJob} waiting in the {@link Scheduler} until its due time.
+ * It is returned when the job is scheduled, so the job can be cancelled before it runs.
+ * Events are not pooled, as whoever scheduled the job may still hold on to the event after it ran.
  */
-public class ScheduleEvent extends GameObject {
-    private double remainingGameTime;
-    private final ScheduleJob event;
+public final class ScheduleEvent {
+    private final Scheduler scheduler;
+    private final ScheduleJob job;
+    private final double dueTime;
+    private final long sequence;
+    // the position in the heap of the scheduler, -1 once the event left it
+    int heapIndex = -1;
+    private boolean done = false;
 
     /**
      * Instantiates a new Schedule event.
      *
-     * @param parent               the parent Object
-     * @param remainingGameTicks the time after which the Job is to be executed
-     * @param game                 the game in which this scheduled event lives
-     * @param event                the event to be executed after the time has elapsed
+     * @param scheduler the scheduler holding the event
+     * @param job       the job to be executed
+     * @param dueTime   the game time from which on the job is to be executed
+     * @param sequence  the number of events scheduled before this one
      */
-    public ScheduleEvent(GameObject parent, double remainingGameTicks, Game game, ScheduleJob event) {
-        super(parent, game, new Point(0, 0));
-        this.remainingGameTime = remainingGameTicks;
-        this.event = event;
+    ScheduleEvent(Scheduler scheduler, ScheduleJob job, double dueTime, long sequence) {
+        this.scheduler = scheduler;
+        this.job = job;
+        this.dueTime = dueTime;
+        this.sequence = sequence;
     }
 
-    @Override
-    public void tick(double timeScale) {
-        remainingGameTime -= timeScale;
-        if (remainingGameTime <= 0) {
-            event.run();
-            kill();
+    /**
+     * Gets the game time from which on the job is to be executed.
+     *
+     * @return the due time
+     */
+    public double getDueTime() {
+        return dueTime;
+    }
+
+    /**
+     * Gets the number of events scheduled before this one. Events which are due in the same tick run in this order.
+     *
+     * @return the sequence
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Checks whether the job has neither run nor been cancelled yet.
+     *
+     * @return boolean
+     */
+    public boolean isPending() {
+        return !done;
+    }
+
+    /**
+     * Cancels the job, if it did not run yet.
+     *
+     * @return whether the job was still pending
+     */
+    public boolean cancel() {
+        if (done) {
+            return false;
+        }
+        done = true;
+        if (heapIndex >= 0) {
+            scheduler.remove(this);
+        }
+        return true;
+    }
+
+    /**
+     * Runs the job, unless it was cancelled in the meantime.
+     */
+    void run() {
+        if (done) {
+            return;
         }
+        done = true;
+        job.run();
     }
 }
@@ -1,7 +1,7 @@
 package edu.kit.cargame.game.logic.scheduler;
 
 /**
- * The interface Schedule job is used to create Anonymous classes that can be passed to a {@link ScheduleEvent}.
+ * The interface Schedule job is used to create Anonymous classes that can be passed to the {@link Scheduler}.
  */
 public interface ScheduleJob {
     /**
@@ -3,15 +3,30 @@ package edu.kit.cargame.game.logic.scheduler;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.common.StateSink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 /**
- * The type Scheduler holds all possible {@link ScheduleEvent} active in the game.
- * This is not strictly necessary, as a {@link ScheduleEvent} is a {@link GameObject} that could live within any other.
- * Still, this approach is used since it eliminates the risk of the {@link ScheduleEvent}'s {@link GameObject}
- * being deleted before it has performed its action.
- * {@link GameObject}. However, this allows all {@link ScheduleEvent}s to be organised in one place.
+ * The type Scheduler holds all {@link ScheduleEvent}s active in the game.
+ * The events are kept in a binary min-heap ordered by the game time they are due at, so a tick only looks
+ * at the earliest event instead of counting down every pending one. As the due times are in game time,
+ * slowing down the game also delays the events. The delay of an event starts with the tick it was scheduled in,
+ * see {@link Game#getTickStartTime()}.
+ * The scheduler is ticked before all other game objects, so the events of a tick run before anything else moves.
  */
 public class Scheduler extends GameObject {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Comparator<ScheduleEvent> BY_SEQUENCE = Comparator.comparingLong(ScheduleEvent::getSequence);
+
+    private ScheduleEvent[] heap = new ScheduleEvent[INITIAL_CAPACITY];
+    private int size = 0;
+    private long nextSequence = 0;
+    private final List<ScheduleEvent> due = new ArrayList<>();
+
     /**
      * Instantiates a new Scheduler.
      *
@@ -26,8 +41,127 @@ public class Scheduler extends GameObject {
      *
      * @param remainingGameTicks the time after which the event is to be executed
      * @param event                the event to be executed
+     * @return the scheduled event, which can be used to cancel it
+     */
+    public ScheduleEvent insert(double remainingGameTicks, ScheduleJob event) {
+        ScheduleEvent scheduleEvent = new ScheduleEvent(this, event, getGame().getTickStartTime() + remainingGameTicks,
+            nextSequence++);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        place(scheduleEvent, size);
+        size++;
+        siftUp(scheduleEvent.heapIndex);
+        return scheduleEvent;
+    }
+
+    /**
+     * Gets the amount of events which are still waiting to run.
+     *
+     * @return the pending count
      */
-    public void insert(double remainingGameTicks, ScheduleJob event) {
-        new ScheduleEvent(this, remainingGameTicks, getGame(), event);
+    public int getPendingCount() {
+        return size;
+    }
+
+    @Override
+    protected void tick(double timeScale) {
+        double currentTime = getGame().getCurrentTime();
+        if (size == 0 || heap[0].getDueTime() > currentTime) {
+            return;
+        }
+        while (size > 0 && heap[0].getDueTime() <= currentTime) {
+            ScheduleEvent event = heap[0];
+            removeAt(0);
+            due.add(event);
+        }
+        // Events due in the same tick run in the order they were scheduled, no matter which one was due first
+        due.sort(BY_SEQUENCE);
+        for (int i = 0; i < due.size(); i++) {
+            due.get(i).run();
+        }
+        due.clear();
+    }
+
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
+    @Override
+    protected void writeState(StateSink sink) {
+        // The heap layout only depends on the order of inserts and removals, so it is the same in equal games
+        sink.add(size);
+        sink.add(nextSequence);
+        for (int i = 0; i < size; i++) {
+            sink.add(heap[i].getDueTime());
+            sink.add(heap[i].getSequence());
+        }
+    }
+
+    /**
+     * Removes a cancelled event from the heap.
+     *
+     * @param event the event
+     */
+    void remove(ScheduleEvent event) {
+        removeAt(event.heapIndex);
+    }
+
+    private void removeAt(int index) {
+        heap[index].heapIndex = -1;
+        size--;
+        ScheduleEvent last = heap[size];
+        heap[size] = null;
+        if (index == size) {
+            return;
+        }
+        place(last, index);
+        siftDown(index);
+        siftUp(last.heapIndex);
+    }
+
+    private void siftUp(int index) {
+        ScheduleEvent event = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isBefore(event, heap[parent])) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(event, index);
+    }
+
+    private void siftDown(int index) {
+        ScheduleEvent event = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isBefore(heap[child], event)) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(event, index);
+    }
+
+    private void place(ScheduleEvent event, int index) {
+        heap[index] = event;
+        event.heapIndex = index;
+    }
+
+    private static boolean isBefore(ScheduleEvent a, ScheduleEvent b) {
+        if (a.getDueTime() != b.getDueTime()) {
+            return a.getDueTime() < b.getDueTime();
+        }
+        return a.getSequence() < b.getSequence();
     }
 }
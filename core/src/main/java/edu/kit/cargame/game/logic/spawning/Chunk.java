@@ -4,6 +4,7 @@ import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
 import edu.kit.cargame.game.geometry.BoundingBox;
 import edu.kit.cargame.game.geometry.LineSegment;
+import edu.kit.cargame.game.geometry.MutablePoint;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidate;
 import edu.kit.cargame.game.object.collectable.CollectableType;
@@ -29,6 +30,7 @@ public class Chunk extends GameObject {
     private List<Point> linePoints;
     private List<SpawnCandidate> spawnCandidates;
     private final float width;
+    private final MutablePoint globalPosition = new MutablePoint();
 
     /**
      * Instantiates a new Chunk.
@@ -42,7 +44,7 @@ public class Chunk extends GameObject {
         super(parent, game, position);
         this.width = width;
         if (game.getConfig().bestPathVisible()) {
-            setRenderer(new LineRenderer(this));
+            setRenderer(() -> new LineRenderer(this));
         }
     }
 
@@ -70,11 +72,11 @@ public class Chunk extends GameObject {
                     // new DebugObstacle(this, getGame(), candidate.getPosition(), new BoundingBox(new Point(50, 50)), "HI");
                     break;
                 case MOVING:
-                    MovingObstacle moving = new MovingObstacle(this, getGame(), candidate.getPosition(), new BoundingBox(new Point(50, 50)));
+                    MovingObstacle moving = MovingObstacle.obtain(this, getGame(), candidate.getPosition(), new BoundingBox(new Point(50, 50)));
                     moving.setKeypoints(candidate.getKeypoints());
                     break;
                 case IMMOBILE:
-                    new ImmobileObstacle(this, getGame(), candidate.getPosition(), ImmobileObstacleType.randomType(getGame().getRandom()));
+                    ImmobileObstacle.obtain(this, getGame(), candidate.getPosition(), ImmobileObstacleType.randomType(getGame().getRandom()));
                     break;
                 case COLLECTABLE:
                     CollectableType.spawnRandomCollectable(this, getGame(), candidate.getPosition(), getGame().getRandom());
@@ -90,12 +92,17 @@ public class Chunk extends GameObject {
 
     @Override
     public void tick(double timeScale) {
-        setPosition(getLocalPosition().addX((float) (-SPEED * timeScale)));
-        if ((getGlobalPosition().x() + width) < 0) {
+        translate((float) (-SPEED * timeScale), 0);
+        if ((getGlobalPositionInto(globalPosition).x() + width) < 0) {
             kill();
         }
     }
 
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
     @Override
     protected boolean needAllTimescales() {
         return true;
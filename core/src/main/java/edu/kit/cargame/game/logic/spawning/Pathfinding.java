@@ -2,6 +2,7 @@ package edu.kit.cargame.game.logic.spawning;
 
 import edu.kit.cargame.common.logging.LoggerManagement;
 import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.geometry.BatchIntersector;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidate;
 import edu.kit.cargame.game.logic.spawning.proxies.SpawnCandidateType;
@@ -33,46 +34,32 @@ public final class Pathfinding {
         // Utility
     }
 
-    private static boolean collidesInFuture(List<SpawnCandidate> candidates, float carSpeed, Point origin, float carSize) {
-        Point offsetAmount = new Point(-1 * carSpeed * ESTIMATION_FACTOR, origin.y());
-
-        Point scanningPoint = new Point(origin.x(), origin.y());
-        for (int i = 0; i < LOOKAHEAD_STEPS; i++) {
-            for (SpawnCandidate candidate : candidates) {
-                float distance = candidate.getPosition().distance(scanningPoint);
-                if (distance < candidate.getSize() + carSize) {
-                    return true;
-                }
-            }
-
-            scanningPoint = scanningPoint.add(offsetAmount);
-        }
-
-        return false;
+    private static boolean collidesInFuture(Obstructions obstructions, float carSpeed, float originX, float originY) {
+        return !isLaneFree(obstructions, carSpeed, originX, originY, 0);
     }
 
     /**
-     *
+     * Checks the points the car passes in the next {@link #LOOKAHEAD_STEPS} steps against the obstructions.
      */
-    private static boolean isLaneFree(List<SpawnCandidate> candidates, float carSpeed, Point origin, float yOffset, float carSize) {
-        Point offsetOrigin = new Point(origin.x(), origin.y() + yOffset);
-        Point offsetAmount = new Point(-1 * carSpeed * ESTIMATION_FACTOR, origin.y());
+    private static boolean isLaneFree(Obstructions obstructions, float carSpeed, float originX, float originY,
+                                      float yOffset) {
+        float offsetX = -1 * carSpeed * ESTIMATION_FACTOR;
+        float offsetY = originY;
 
-        Point scanningPoint = new Point(offsetOrigin.x(), offsetOrigin.y());
+        float scanningX = originX;
+        float scanningY = originY + yOffset;
         for (int i = 0; i < LOOKAHEAD_STEPS; i++) {
-            for (SpawnCandidate candidate : candidates) {
-                if (candidate.getPosition().distance(scanningPoint) < candidate.getSize() + carSize) {
-                    return false;
-                }
+            if (obstructions.isHit(scanningX, scanningY)) {
+                return false;
             }
 
-            scanningPoint = scanningPoint.add(offsetAmount);
+            scanningX += offsetX;
+            scanningY += offsetY;
         }
 
         return true;
     }
 
-
     /**
      * Computes the Path for moving cars to ensure we know a non-conflicting path before we spawn it.
      * We store the computed keypoints in the new car.
@@ -109,6 +96,7 @@ public final class Pathfinding {
         // We try adding Moving obstacles via greeedy pathfinding
 
         List<SpawnCandidate> configuredMoving = new ArrayList<>();
+        Obstructions obstructions = new Obstructions();
 
         int statsTotalAttempts = moving.size();
         int statsSucceeded = 0;
@@ -116,12 +104,13 @@ public final class Pathfinding {
         int statsFailedNoPath = 0;
 
         for (SpawnCandidate spawnCandidate : moving) {
-            Point movingPosition = new Point(spawnCandidate.getPosition().x(), spawnCandidate.getPosition().y());
+            float movingX = spawnCandidate.getPosition().x();
+            float movingY = spawnCandidate.getPosition().y();
             List<MovingObstacleKeypoint> keypoints = new ArrayList<>();
 
             List<SpawnCandidate> otherWithLineGhost = new ArrayList<>(collidables);
 
-            float playeCarX = game.getPlayerCar().getGlobalPosition().x();
+            float playeCarX = spawner.getPlayerCarX();
             float carpos = spawnCandidate.getPosition().add(chunk.getGlobalPosition()).x();
             float t = (carpos - playeCarX) / (MovingObstacle.SPEED + Chunk.SPEED);
 
@@ -135,7 +124,8 @@ public final class Pathfinding {
                 otherWithLineGhost.add(lineCollisionGhost);
             }
 
-            keypoints.add(new MovingObstacleKeypoint(movingPosition.x(), movingPosition.y()));
+            obstructions.set(otherWithLineGhost, spawnCandidate.getSize());
+            keypoints.add(new MovingObstacleKeypoint(movingX, movingY));
 
             boolean failed = false;
             int lastSwap = 100000;
@@ -147,7 +137,7 @@ public final class Pathfinding {
 
                 boolean cantSwap = lastSwap < INTERPOLATION_DURATION * INTERPOLATION_STRICTNESS;
 
-                boolean mustSwap = collidesInFuture(otherWithLineGhost, MovingObstacle.SPEED, movingPosition, spawnCandidate.getSize());
+                boolean mustSwap = collidesInFuture(obstructions, MovingObstacle.SPEED, movingX, movingY);
 
                 if (mustSwap && cantSwap) {
                     failed = true;
@@ -165,19 +155,19 @@ public final class Pathfinding {
                     for (int d = 0; d < 2; d++) {
                         // Check if already at edge
                         // testing up
-                        if (directionMult > 0 && movingPosition.y() + directionMult > height) {
+                        if (directionMult > 0 && movingY + directionMult > height) {
                             break;
                         }
 
                         //testing down
-                        if (directionMult < 0 && movingPosition.y() + directionMult < 0) {
+                        if (directionMult < 0 && movingY + directionMult < 0) {
                             break;
                         }
 
                         // Check if free
-                        if (isLaneFree(otherWithLineGhost, MovingObstacle.SPEED, movingPosition, directionMult, spawnCandidate.getSize())) {
-                            keypoints.add(new MovingObstacleKeypoint(movingPosition.x(), movingPosition.y() + directionMult));
-                            movingPosition = new Point(movingPosition.x(), movingPosition.y() + directionMult);
+                        if (isLaneFree(obstructions, MovingObstacle.SPEED, movingX, movingY, directionMult)) {
+                            keypoints.add(new MovingObstacleKeypoint(movingX, movingY + directionMult));
+                            movingY += directionMult;
                             success = true;
                             lastSwap = 0;
                             break;
@@ -195,7 +185,7 @@ public final class Pathfinding {
                     lastSwap++;
                 }
 
-                movingPosition = movingPosition.add(new Point(-1 * MovingObstacle.SPEED, 0));
+                movingX += -1 * MovingObstacle.SPEED;
             }
 
             if (!failed) {
@@ -216,4 +206,75 @@ public final class Pathfinding {
 
         return configuredMoving;
     }
+
+    /**
+     * The areas around the candidates a moving car has to keep out of. Each area is the circle in which the car
+     * would touch the candidate, stored as its enclosing box, so the points of a lookahead are tested against all
+     * candidates by a {@link BatchIntersector}. The exact distance is only computed for the boxes a point lies in.
+     */
+    private static final class Obstructions {
+        // Keeps points on the rim of a circle inside its box despite the rounding of the box corners
+        private static final float BOX_MARGIN = 1;
+
+        private final BatchIntersector intersector = BatchIntersector.getDefault();
+        private float[] minX = new float[16];
+        private float[] minY = new float[16];
+        private float[] maxX = new float[16];
+        private float[] maxY = new float[16];
+        private float[] centerX = new float[16];
+        private float[] centerY = new float[16];
+        private float[] reach = new float[16];
+        private int[] hits = new int[16];
+        private int count;
+
+        /**
+         * Replaces the obstructions with the areas around the given candidates.
+         *
+         * @param candidates the candidates the car has to avoid
+         * @param carSize    the size of the car
+         */
+        void set(List<SpawnCandidate> candidates, float carSize) {
+            count = candidates.size();
+            if (minX.length < count) {
+                minX = new float[count];
+                minY = new float[count];
+                maxX = new float[count];
+                maxY = new float[count];
+                centerX = new float[count];
+                centerY = new float[count];
+                reach = new float[count];
+                hits = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                SpawnCandidate candidate = candidates.get(i);
+                Point position = candidate.getPosition();
+                centerX[i] = position.x();
+                centerY[i] = position.y();
+                reach[i] = candidate.getSize() + carSize;
+                float halfSize = reach[i] + BOX_MARGIN;
+                minX[i] = centerX[i] - halfSize;
+                minY[i] = centerY[i] - halfSize;
+                maxX[i] = centerX[i] + halfSize;
+                maxY[i] = centerY[i] + halfSize;
+            }
+        }
+
+        /**
+         * Checks whether the car would touch any candidate at the given point.
+         *
+         * @param x the x coordinate of the car
+         * @param y the y coordinate of the car
+         * @return boolean
+         */
+        boolean isHit(float x, float y) {
+            int hitCount = intersector.intersecting(minX, minY, maxX, maxY, 0, count, x, y, x, y, hits);
+            for (int i = 0; i < hitCount; i++) {
+                int index = hits[i];
+                if (Point.distance(centerX[index], centerY[index], x, y) < reach[index]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -62,6 +62,7 @@ public class Spawner extends GameObject {
     private final BoundingBox pointSamplingBounds;
 
     private Chunk lastChunk = null;
+    private boolean startChunksCreated = false;
 
     private final Config config;
 
@@ -110,12 +111,41 @@ public class Spawner extends GameObject {
 
             lastChunk = chunk;
         }
+        startChunksCreated = true;
     }
 
 
-    private Chunk createChunk(boolean empty) {
+    /**
+     * Creates a new chunk at the spawn position and fills it with obstacles and collectables.
+     *
+     * @param empty whether the chunk should stay empty
+     * @return the new chunk
+     */
+    Chunk createChunk(boolean empty) {
         Chunk chunk = new Chunk(this, getGame(), new Point(newChunkSpawnX, newChunkSpawnY), chunkWidth);
 
+        List<SpawnCandidate> spawnCandidates = sampleCandidates(chunk);
+
+        spawnCandidates = Pathfinding.configureKeypoints(spawnCandidates, NUM_LANES, chunkHeight, getGame(), chunk, this);
+
+        if (empty) {
+            spawnCandidates = new ArrayList<>();
+        }
+
+        chunk.spawnCandidates(spawnCandidates);
+
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    /**
+     * Samples and prunes the spawn candidates of a new chunk, before paths for moving obstacles are computed.
+     * Also extends the always possible line into the chunk.
+     *
+     * @param chunk the new chunk
+     * @return the spawn candidates
+     */
+    List<SpawnCandidate> sampleCandidates(Chunk chunk) {
         List<SpawnCandidate> spawnCandidates = new ArrayList<>();
         addGhosts(spawnCandidates);
 
@@ -136,20 +166,18 @@ public class Spawner extends GameObject {
         int movingCarCount = (int) (config.obstacleAmount() * config.movingObstacleFactor());
         addMovingCandidates(spawnCandidates, movingCarCount);
 
-        spawnCandidates = Pathfinding.configureKeypoints(spawnCandidates, NUM_LANES, chunkHeight, getGame(), chunk, this);
-
-        if (empty) {
-            spawnCandidates = new ArrayList<>();
-        }
-
-        chunk.spawnCandidates(spawnCandidates);
-
-        lastChunk = chunk;
-        return chunk;
+        return spawnCandidates;
     }
 
-
-    private static List<SpawnCandidate> pruneByRadius(List<SpawnCandidate> points, boolean ignoreY, float pruningFactor) {
+    /**
+     * Removes candidates which are too close to already accepted ones, ghosts are always accepted.
+     *
+     * @param points        the candidates in order of priority
+     * @param ignoreY       whether only the horizontal distance counts
+     * @param pruningFactor how much buffer must be between two candidates
+     * @return the accepted candidates
+     */
+    static List<SpawnCandidate> pruneByRadius(List<SpawnCandidate> points, boolean ignoreY, float pruningFactor) {
         List<SpawnCandidate> accepted = new ArrayList<>(points.size());
 
         // First, add all ghosts (they cannot be pruned).
@@ -281,7 +309,7 @@ public class Spawner extends GameObject {
      * @return global y value of line at x
      */
     public float sampleLineY(float globalX) {
-        for (GameObject chunk : getChildren()) {
+        for (GameObject chunk = getFirstChild(); chunk != null; chunk = chunk.getNextSibling()) {
             if (!(chunk instanceof Chunk child)) {
                 LoggerManagement.getLogger().critical("Non Chunk is child of Spawner?!");
                 return Float.POSITIVE_INFINITY;
@@ -324,16 +352,51 @@ public class Spawner extends GameObject {
         return Float.POSITIVE_INFINITY;
     }
 
+    /**
+     * Gets the x coordinate of the player car in the world, which moving obstacles plan their paths towards.
+     * The start chunks are created before the car is put into the game. They plan towards the origin,
+     * where the car was as long as colliding objects had a wrapper holding their position,
+     * so seeded games and recorded replays keep drawing the same random numbers.
+     *
+     * @return the x coordinate of the player car
+     */
+    float getPlayerCarX() {
+        return startChunksCreated ? getGame().getPlayerCar().getGlobalPosition().x() : 0;
+    }
+
+    /**
+     * Gets the height of a chunk, including the spawning buffer.
+     *
+     * @return the chunk height
+     */
+    float getChunkHeight() {
+        return chunkHeight;
+    }
+
+    /**
+     * Gets the number of lanes.
+     *
+     * @return the number of lanes
+     */
+    static int getLaneCount() {
+        return NUM_LANES;
+    }
+
     /**
      * Creates a new chunk once the oldest chunk kills itself.
      */
     @Override
     public void tick(double timeScale) {
-        if (getChildren().size() < NUM_CHUNKS) {
+        if (getChildCount() < NUM_CHUNKS) {
             createChunk(false);
         }
     }
 
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
     @Override
     public boolean needAllTimescales() {
         return true;
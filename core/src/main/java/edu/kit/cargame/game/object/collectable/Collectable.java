@@ -2,6 +2,7 @@ package edu.kit.cargame.game.object.collectable;
 
 
 import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
 import edu.kit.cargame.game.geometry.BoundingBox;
@@ -24,6 +25,23 @@ public abstract class Collectable extends CollidingGameObject {
      */
     protected Collectable(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
         super(parent, game, position, boundingBox);
+        setDefaultCollisionFilter();
+    }
+
+    /**
+     * Instantiates a new Collectable which is not part of the game yet.
+     *
+     * @param game the game in which this collectable lives
+     */
+    protected Collectable(Game game) {
+        super(game);
+        setDefaultCollisionFilter();
+    }
+
+    private void setDefaultCollisionFilter() {
+        // Collectables are picked up by the player car and destroyed by obstacles and the road borders
+        setCollisionFilter(CollisionCategory.COLLECTABLE,
+            CollisionCategory.PLAYER, CollisionCategory.OBSTACLE, CollisionCategory.BORDER);
     }
 
     @Override
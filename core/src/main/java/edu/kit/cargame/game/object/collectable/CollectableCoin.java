@@ -22,14 +22,38 @@ public class CollectableCoin extends Collectable {
      * @param boundingBox the bounding box of the collectable
      */
     public CollectableCoin(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(parent, game, position, boundingBox);
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/coin/0000.png"));
+        this(game);
+        respawn(parent, position, boundingBox);
+    }
+
+    private CollectableCoin(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets a CollectableCoin from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this collectable lives
+     * @param position    the position of the collectable
+     * @param boundingBox the bounding box of the collectable
+     * @return the collectable
+     */
+    public static CollectableCoin obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        CollectableCoin coin = game.getPool(CollectableCoin.class, CollectableCoin::new).obtain();
+        coin.respawn(parent, position, boundingBox);
+        return coin;
+    }
 
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position, boundingBox);
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/coin/0000.png"));
     }
 
     @Override
     protected void handleCollision(PlayerCar playerCar) {
-        new Animation(this, getGame(), Point.zero(), AnimationType.COIN_PICKUP, getBoundingBox());
+        getGame().getStatistics().recordPickup(CollectableType.COIN);
+        Animation.obtain(this, getGame(), Point.zero(), AnimationType.COIN_PICKUP, getBoundingBox());
         playerCar.addCoin();
     }
 }
@@ -23,13 +23,38 @@ public class CollectableHeart extends Collectable {
      * @param boundingBox the bounding box of the collectable
      */
     public CollectableHeart(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(parent, game, position, boundingBox);
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/heart/0000.png"));
+        this(game);
+        respawn(parent, position, boundingBox);
+    }
+
+    private CollectableHeart(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets a CollectableHeart from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this collectable lives
+     * @param position    the position of the collectable
+     * @param boundingBox the bounding box of the collectable
+     * @return the collectable
+     */
+    public static CollectableHeart obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        CollectableHeart heart = game.getPool(CollectableHeart.class, CollectableHeart::new).obtain();
+        heart.respawn(parent, position, boundingBox);
+        return heart;
+    }
+
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position, boundingBox);
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/heart/0000.png"));
     }
 
     @Override
     public void handleCollision(PlayerCar playerCar) {
-        new Animation(this, getGame(), Point.zero(), AnimationType.HEART_PICKUP, getBoundingBox());
+        getGame().getStatistics().recordPickup(CollectableType.HEART);
+        Animation.obtain(this, getGame(), Point.zero(), AnimationType.HEART_PICKUP, getBoundingBox());
         playerCar.addLife();
     }
 }
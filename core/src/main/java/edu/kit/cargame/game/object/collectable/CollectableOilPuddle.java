@@ -1,5 +1,6 @@
 package edu.kit.cargame.game.object.collectable;
 
+import edu.kit.cargame.game.common.CollisionCategory;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.geometry.BoundingBox;
 import edu.kit.cargame.game.geometry.Point;
@@ -20,11 +21,38 @@ public class CollectableOilPuddle extends Collectable {
      * @param boundingBox the bounding box of the collectable
      */
     public CollectableOilPuddle(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(parent, game, position, boundingBox);
-        setRenderer(new SpriteRenderer(this, "game/obstacles/oil_puddle.png"));
+        this(game);
+        respawn(parent, position, boundingBox);
+    }
+
+    private CollectableOilPuddle(Game game) {
+        super(game);
+        // Oil puddles can not be picked up, so obstacles and borders do not matter
+        setCollisionFilter(CollisionCategory.COLLECTABLE, CollisionCategory.PLAYER);
+    }
+
+    /**
+     * Gets a CollectableOilPuddle from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this collectable lives
+     * @param position    the position of the collectable
+     * @param boundingBox the bounding box of the collectable
+     * @return the collectable
+     */
+    public static CollectableOilPuddle obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        CollectableOilPuddle oilPuddle = game.getPool(CollectableOilPuddle.class, CollectableOilPuddle::new).obtain();
+        oilPuddle.respawn(parent, position, boundingBox);
+        return oilPuddle;
+    }
+
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position, boundingBox);
+        setRenderer(() -> new SpriteRenderer(this, "game/obstacles/oil_puddle.png"));
     }
     @Override
     public void handleCollision(PlayerCar playerCar) {
+        getGame().getStatistics().recordPickup(CollectableType.OIL_PUDDLE);
         playerCar.worsenSteering(getGame().getConfig().oilDuration());
         negateScore(playerCar);
     }
@@ -22,14 +22,38 @@ public class CollectableStar extends Collectable {
      * @param boundingBox the bounding box of the collectable
      */
     public CollectableStar(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(parent, game, position, boundingBox);
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/star/0000.png"));
+        this(game);
+        respawn(parent, position, boundingBox);
+    }
+
+    private CollectableStar(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets a CollectableStar from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this collectable lives
+     * @param position    the position of the collectable
+     * @param boundingBox the bounding box of the collectable
+     * @return the collectable
+     */
+    public static CollectableStar obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        CollectableStar star = game.getPool(CollectableStar.class, CollectableStar::new).obtain();
+        star.respawn(parent, position, boundingBox);
+        return star;
+    }
 
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position, boundingBox);
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/star/0000.png"));
     }
 
     @Override
     public void handleCollision(PlayerCar playerCar) {
-        new Animation(this, getGame(), Point.zero(), AnimationType.STAR_PICKUP, getBoundingBox());
+        getGame().getStatistics().recordPickup(CollectableType.STAR);
+        Animation.obtain(this, getGame(), Point.zero(), AnimationType.STAR_PICKUP, getBoundingBox());
         playerCar.makeInvulnerable(getGame().getConfig().starDuration());
     }
 }
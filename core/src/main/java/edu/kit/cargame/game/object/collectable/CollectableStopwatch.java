@@ -22,13 +22,38 @@ public class CollectableStopwatch extends Collectable {
      * @param boundingBox the bounding box of the collectable
      */
     public CollectableStopwatch(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
-        super(parent, game, position, boundingBox);
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/stop_watch/0000.png"));
+        this(game);
+        respawn(parent, position, boundingBox);
+    }
+
+    private CollectableStopwatch(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets a CollectableStopwatch from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this collectable lives
+     * @param position    the position of the collectable
+     * @param boundingBox the bounding box of the collectable
+     * @return the collectable
+     */
+    public static CollectableStopwatch obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        CollectableStopwatch stopwatch = game.getPool(CollectableStopwatch.class, CollectableStopwatch::new).obtain();
+        stopwatch.respawn(parent, position, boundingBox);
+        return stopwatch;
+    }
+
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox) {
+        spawn(parent, position, boundingBox);
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/stop_watch/0000.png"));
     }
 
     @Override
     public void handleCollision(PlayerCar playerCar) {
-        new Animation(this, getGame(), Point.zero(), AnimationType.STOP_WATCH_PICKUP, getBoundingBox());
+        getGame().getStatistics().recordPickup(CollectableType.STOPWATCH);
+        Animation.obtain(this, getGame(), Point.zero(), AnimationType.STOP_WATCH_PICKUP, getBoundingBox());
         getGame().addSlowdown(getGame().getConfig().stopwatchDuration());
     }
 }
@@ -6,41 +6,36 @@ import edu.kit.cargame.game.geometry.BoundingBox;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.io.config.Config;
 
-import java.util.NavigableMap;
 import java.util.Random;
-import java.util.TreeMap;
 
 /**
  * The enum CollectableType is an enum that represents the different types of collectables that can be spawned in the game.
  */
 public enum CollectableType {
-    COIN(CollectableCoin::new, Config.getConfig().spawnChanceCoin()),
-    HEART(CollectableHeart::new, Config.getConfig().spawnChanceHeart()),
-    OIL_PUDDLE(CollectableOilPuddle::new, Config.getConfig().spawnChanceOilPuddle()),
-    STAR(CollectableStar::new, Config.getConfig().spawnChanceStar()),
-    STOPWATCH(CollectableStopwatch::new, Config.getConfig().spawnChanceStopwatch());
+    COIN(CollectableCoin::obtain, Config::spawnChanceCoin),
+    HEART(CollectableHeart::obtain, Config::spawnChanceHeart),
+    OIL_PUDDLE(CollectableOilPuddle::obtain, Config::spawnChanceOilPuddle),
+    STAR(CollectableStar::obtain, Config::spawnChanceStar),
+    STOPWATCH(CollectableStopwatch::obtain, Config::spawnChanceStopwatch);
 
     @FunctionalInterface
     private interface CollectableConstructor {
         void constructor(GameObject parent, Game game, Point position, BoundingBox boundingBox);
     }
 
-    private final CollectableConstructor type;
-    private final float weight;
-    private static final NavigableMap<Float, CollectableType> COLLETABLE_WEIGHTS = new TreeMap<>();
-    private static float totalWeight;
-
-    static {
-        for (CollectableType c : values()) {
-            if (c.weight > 0) {
-                totalWeight += c.weight;
-                COLLETABLE_WEIGHTS.put(totalWeight, c);
-            }
-        }
+    @FunctionalInterface
+    private interface SpawnChance {
+        float of(Config config);
     }
 
+    private static final CollectableType[] VALUES = values();
+
+    private final CollectableConstructor type;
+    // Read from the config of each game, so games with different configs can run side by side
+    private final SpawnChance weight;
 
-    CollectableType(CollectableConstructor type, float weight) {
+
+    CollectableType(CollectableConstructor type, SpawnChance weight) {
         this.type = type;
         this.weight = weight;
     }
@@ -54,11 +49,34 @@ public enum CollectableType {
      * @param random   the random generator
      */
     public static void spawnRandomCollectable(GameObject parent, Game game, Point position, Random random) {
-        getRandom(random).spawn(parent, game, position);
+        getRandom(game.getConfig(), random).spawn(parent, game, position);
     }
 
-    private static CollectableType getRandom(Random random) {
-        return COLLETABLE_WEIGHTS.higherEntry(random.nextFloat() * totalWeight).getValue();
+    private static CollectableType getRandom(Config config, Random random) {
+        float totalWeight = 0;
+        for (CollectableType c : VALUES) {
+            float weight = c.weight.of(config);
+            if (weight > 0) {
+                totalWeight += weight;
+            }
+        }
+        float roll = random.nextFloat() * totalWeight;
+        float cumulativeWeight = 0;
+        CollectableType last = null;
+        for (CollectableType c : VALUES) {
+            float weight = c.weight.of(config);
+            if (weight > 0) {
+                cumulativeWeight += weight;
+                last = c;
+                if (roll < cumulativeWeight) {
+                    return c;
+                }
+            }
+        }
+        if (last == null) {
+            throw new IllegalStateException("At least one collectable needs a positive spawn chance");
+        }
+        return last;
     }
 
     private void spawn(GameObject parent, Game game, Point position) {
@@ -14,6 +14,8 @@ import edu.kit.cargame.io.view.gamerenderers.SimpleAnimationRenderer;
  * can play an Animation there.
  */
 public class Animation extends GameObject {
+    private AnimationType type;
+
     /**
      * Instantiates a new Animation.
      *
@@ -23,12 +25,8 @@ public class Animation extends GameObject {
      * @param type     the type of the animation
      */
     public Animation(GameObject parent, Game game, Point position, AnimationType type) {
-        super(parent, game, position);
-        setRenderer(new SimpleAnimationRenderer(this, type));
-        setBoundingBox(parent.getBoundingBox());
-        if (game.getConfig().rumbleEnabled()) {
-            game.getPlayerCar().getUserInput().rumble(type.getRumbleDuration(), type.getRumbleIntensity());
-        }
+        this(game);
+        respawn(parent, position, type);
     }
 
     /**
@@ -44,4 +42,63 @@ public class Animation extends GameObject {
         this(parent, game, position, type);
         setBoundingBox(boundingBox);
     }
+
+    private Animation(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets an Animation from the pool of the game and puts it into the game.
+     *
+     * @param parent   the parent Object
+     * @param game     the game in which this animation lives
+     * @param position the position of the animation
+     * @param type     the type of the animation
+     * @return the animation
+     */
+    public static Animation obtain(GameObject parent, Game game, Point position, AnimationType type) {
+        Animation animation = game.getPool(Animation.class, Animation::new).obtain();
+        animation.respawn(parent, position, type);
+        return animation;
+    }
+
+    /**
+     * Gets an Animation from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this animation lives
+     * @param position    the position of the animation
+     * @param type        the type of the animation
+     * @param boundingBox the bounding box of the animation
+     * @return the animation
+     */
+    public static Animation obtain(GameObject parent, Game game, Point position, AnimationType type,
+                                   BoundingBox boundingBox) {
+        Animation animation = obtain(parent, game, position, type);
+        animation.setBoundingBox(boundingBox);
+        return animation;
+    }
+
+    private void respawn(GameObject parent, Point position, AnimationType type) {
+        spawn(parent, position);
+        this.type = type;
+        setRenderer(() -> new SimpleAnimationRenderer(this, type));
+        setBoundingBox(parent.getBoundingBox());
+        if (getGame().getConfig().rumbleEnabled()) {
+            getGame().getPlayerCar().getUserInput().rumble(type.getRumbleDuration(), type.getRumbleIntensity());
+        }
+    }
+
+    @Override
+    protected void tick(double timeScale) {
+        // The lifetime is part of the simulation, so animations also end in headless games
+        if (getGame().getCurrentTime() - getCreationTime() >= type.getFrameCount() * type.getFrameDuration()) {
+            kill();
+        }
+    }
+
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
 }
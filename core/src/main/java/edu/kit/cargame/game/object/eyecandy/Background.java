@@ -45,19 +45,25 @@ public class Background extends GameObject {
     }
 
     @Override
-    protected void updateBounds(GameObject updatedChild) {
-        //i dont think so bitch
+    protected boolean boundsIncludeChildren() {
+        // The background never takes part in collisions, its chunks reach outside the screen
+        return false;
     }
 
     @Override
     public void tick(double timeScale) {
-        if (getChildren().size() < TOTAL_CHUNK_AMOUNT) {
+        if (getChildCount() < TOTAL_CHUNK_AMOUNT) {
             new BackgroundChunk(this, getGame(), new Point(endX(), 0), new BoundingBox(new Point(chunkSize, height)), currentBiome);
             chunksUntilBiomeChange--;
             updateBiome();
         }
     }
 
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
     private void updateBiome() {
         if (chunksUntilBiomeChange <= 0) {
             chunksUntilBiomeChange = BIOME_LENGTH;
@@ -66,9 +72,9 @@ public class Background extends GameObject {
     }
 
     private float endX() {
-        if (getChildren().isEmpty()) {
+        if (getLastChild() == null) {
             return 0;
         }
-        return getChildren().getLast().getBoundingBox().topRight().x();
+        return getLastChild().getBoundingBox().topRight().x();
     }
 }
@@ -4,6 +4,7 @@ package edu.kit.cargame.game.object.eyecandy;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
 import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.io.view.gamerenderers.SpriteRenderer;
 
@@ -12,6 +13,8 @@ import edu.kit.cargame.io.view.gamerenderers.SpriteRenderer;
  */
 public class BackgroundChunk extends GameObject {
 
+    private final MutableBoundingBox localBounds = new MutableBoundingBox();
+
     /**
      * Instantiates a new Chunk.
      *
@@ -24,7 +27,7 @@ public class BackgroundChunk extends GameObject {
     public BackgroundChunk(GameObject parent, Game game, Point position, BoundingBox bounds, BackgroundType type) {
         super(parent, game, position);
         setBoundingBox(bounds);
-        setRenderer(new SpriteRenderer(this, type.getSprite()));
+        setRenderer(() -> new SpriteRenderer(this, type.getSprite()));
 
         int amountOfHouses = (int) bounds.getWidth() / House.WIDTH;
         for (int i = 0; i < amountOfHouses; i++) {
@@ -38,12 +41,17 @@ public class BackgroundChunk extends GameObject {
 
     @Override
     public void tick(double timeScale) {
-        setPosition(getLocalPosition().addX((float) (-5 * timeScale)));
-        if (getBoundingBox().topRight().x() < 0) {
+        translate((float) (-5 * timeScale), 0);
+        if (getBoundingBoxInto(localBounds).maxX() < 0) {
             kill();
         }
     }
 
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
     @Override
     protected boolean needAllTimescales() {
         return true;
@@ -22,7 +22,7 @@ public class Foreground extends GameObject {
      */
     public Foreground(GameObject parent, Game game, Point position, int width, int height) {
         super(parent, game, position);
-        setRenderer(new ForegroundRenderer(this));
+        setRenderer(() -> new ForegroundRenderer(this));
 
 
 
@@ -32,6 +32,6 @@ public class House extends GameObject {
         super(parent, game, position);
         setBoundingBox(new BoundingBox(new Point(WIDTH, HEIGHT)));
         HouseType houseType = type.getRandomHouse(game.getRandom());
-        setRenderer(new SpriteRenderer(this, houseType.getFilePath()));
+        setRenderer(() -> new SpriteRenderer(this, houseType.getFilePath()));
     }
 }
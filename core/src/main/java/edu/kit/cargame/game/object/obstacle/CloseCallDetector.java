@@ -0,0 +1,74 @@
+package edu.kit.cargame.game.object.obstacle;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.logic.Broadphase;
+import edu.kit.cargame.game.object.eyecandy.Animation;
+import edu.kit.cargame.game.object.eyecandy.AnimationType;
+import edu.kit.cargame.game.playercar.PlayerCar;
+
+import java.util.function.Consumer;
+
+/**
+ * The type CloseCallDetector gives the player a small amount of score as a reward for driving very close to an obstacle
+ * without hitting it. Once per tick it asks the broadphase for the obstacles within the close call distance
+ * of the player car, so the obstacles need no enlarged colliding objects of their own.
+ */
+public final class CloseCallDetector {
+    // how many ticks the player cant hit anything so the close call counts
+    private static final int CLOSE_CALL_DELAY_TICKS = 10;
+    private static final int OBSTACLES = CollisionCategory.maskOf(CollisionCategory.OBSTACLE);
+
+    private final Game game;
+    private final MutableBoundingBox area = new MutableBoundingBox();
+    // Created once, so querying does not allocate
+    private final Consumer<CollidingGameObject> onNearby = this::closeCall;
+
+    /**
+     * Instantiates a new CloseCallDetector.
+     *
+     * @param game the game in which the close calls happen
+     */
+    public CloseCallDetector(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Starts a close call for every obstacle within the close call distance of the player car
+     * which did not reward one yet. Nothing counts while the player car is invulnerable.
+     *
+     * @param broadphase the broadphase of the game, prepared for the current tick
+     */
+    public void detect(Broadphase broadphase) {
+        PlayerCar playerCar = game.getPlayerCar();
+        if (playerCar == null || playerCar.isInvulnerable()) {
+            return;
+        }
+        float distance = game.getConfig().closeCallDistance();
+        playerCar.getGlobalBoundingBoxInto(area);
+        area.set(area.minX() - distance, area.minY() - distance, area.maxX() + distance, area.maxY() + distance);
+        broadphase.query(area, OBSTACLES, onNearby);
+    }
+
+    private void closeCall(CollidingGameObject nearby) {
+        if (!(nearby instanceof Obstacle obstacle) || !obstacle.isCloseCallAvailable()) {
+            return;
+        }
+        obstacle.useCloseCall();
+        // the obstacle may be reused before the event runs, so the event must not refer to it
+        int startLives = game.getPlayerCar().getLives();
+        game.addScheduledEvent(CLOSE_CALL_DELAY_TICKS, () -> activateCloseCall(game, startLives));
+    }
+
+    private static void activateCloseCall(Game game, int startLives) {
+        PlayerCar playerCar = game.getPlayerCar();
+        if (startLives > playerCar.getLives()) {
+            return;
+        }
+        Animation.obtain(playerCar, game, Point.zero(), AnimationType.CLOSE_CALL);
+        playerCar.addScore(game.getConfig().closeCallPoints());
+    }
+}
@@ -27,7 +27,7 @@ public class DebrisObstacle extends ImmobileObstacle {
 
     private DebrisObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, boolean allowCloseCalls) {
         super(parent, game, position, boundingBox, allowCloseCalls);
-        setRenderer(new BoundingBoxRenderer(this, new SpriteRenderer(this, "game/obstacles/debris.png",  true)));
+        setRenderer(() -> new BoundingBoxRenderer(this, new SpriteRenderer(this, "game/obstacles/debris.png",  true)));
     }
 
     @Override
@@ -27,7 +27,7 @@ public class DebugObstacle extends Obstacle {
      */
     public DebugObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, String debug) {
         this(parent, game, position, boundingBox, true);
-        setRenderer(new TextRenderer(this, null));
+        setRenderer(() -> new TextRenderer(this, null));
         debugInfo = debug;
     }
 
@@ -38,7 +38,7 @@ public class DebugObstacle extends Obstacle {
 
     private DebugObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, boolean allowCloseCalls) {
         super(parent, game, position, boundingBox, allowCloseCalls);
-        setRenderer(new BoundingBoxRenderer(this, null));
+        setRenderer(() -> new BoundingBoxRenderer(this, null));
     }
 
     /**
@@ -51,6 +51,6 @@ public class DebugObstacle extends Obstacle {
      */
     public DebugObstacle(GameObject parent, Game game, Point position, ImmobileObstacleType type) {
         super(parent, game, position, type.getBoundingBox(), true);
-        setRenderer(new SpriteRenderer(this, "game/obstacles/" + type.getName() + ".png"));
+        setRenderer(() -> new SpriteRenderer(this, "game/obstacles/" + type.getName() + ".png"));
     }
 }
@@ -35,7 +35,7 @@ public class ImmobileObstacle extends Obstacle {
      */
     protected ImmobileObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, boolean allowCloseCalls) {
         super(parent, game, position, boundingBox, allowCloseCalls);
-        setRenderer(new BoundingBoxRenderer(this, null));
+        setRenderer(() -> new BoundingBoxRenderer(this, null));
     }
 
     /**
@@ -47,7 +47,31 @@ public class ImmobileObstacle extends Obstacle {
      * @param type the type of the obstacle
      */
     public ImmobileObstacle(GameObject parent, Game game, Point position, ImmobileObstacleType type) {
-        super(parent, game, position, type.getBoundingBox(), true);
-        setRenderer(new SpriteRenderer(this, "game/obstacles/" + type.getName() + ".png"));
+        this(game);
+        respawn(parent, position, type);
+    }
+
+    private ImmobileObstacle(Game game) {
+        super(game);
+    }
+
+    /**
+     * Gets an Immobile obstacle from the pool of the game and puts it into the game.
+     *
+     * @param parent   the parent Object
+     * @param game     the game in which this obstacle lives
+     * @param position the position of the obstacle
+     * @param type     the type of the obstacle
+     * @return the obstacle
+     */
+    public static ImmobileObstacle obtain(GameObject parent, Game game, Point position, ImmobileObstacleType type) {
+        ImmobileObstacle obstacle = game.getPool(ImmobileObstacle.class, ImmobileObstacle::new).obtain();
+        obstacle.respawn(parent, position, type);
+        return obstacle;
+    }
+
+    private void respawn(GameObject parent, Point position, ImmobileObstacleType type) {
+        spawn(parent, position, type.getBoundingBox(), true);
+        setRenderer(() -> new SpriteRenderer(this, "game/obstacles/" + type.getName() + ".png"));
     }
 }
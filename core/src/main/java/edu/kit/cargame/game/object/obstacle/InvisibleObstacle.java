@@ -1,5 +1,7 @@
 package edu.kit.cargame.game.object.obstacle;
 
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
 import edu.kit.cargame.game.geometry.BoundingBox;
@@ -26,10 +28,17 @@ public class InvisibleObstacle extends Obstacle {
      */
     public InvisibleObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, boolean top) {
         super(parent, game, position, boundingBox, false);
+        setCollisionFilter(CollisionCategory.BORDER, CollisionCategory.PLAYER, CollisionCategory.COLLECTABLE);
         this.top = top;
         //setRenderer(new BoundingBoxRenderer(this, null));
     }
 
+    @Override
+    protected void onCollisionStay(CollidingGameObject other) {
+        // Keep pushing the car back for as long as it drives against the border
+        handleCollision(other);
+    }
+
     @Override
     protected void handleCollision(PlayerCar playerCar) {
         //playerCar.removeLife();
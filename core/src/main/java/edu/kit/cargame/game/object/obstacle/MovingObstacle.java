@@ -2,6 +2,7 @@ package edu.kit.cargame.game.object.obstacle;
 
 
 import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
@@ -26,6 +27,8 @@ public class MovingObstacle extends Obstacle {
     private int keypointIndex = 0;
     private float verticalVelocity = 0;
 
+    private final MutablePoint localPosition = new MutablePoint();
+
     /**
      * Instantiates a new Moving obstacle.
      *
@@ -36,10 +39,12 @@ public class MovingObstacle extends Obstacle {
      * @param type        the type of the obstacle
      */
     public MovingObstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, MovingObstacleType type) {
-        super(parent, game, position, boundingBox);
-
-        setRenderer(new MovingObstacleRenderer(this, type.getName()));
+        this(game);
+        respawn(parent, position, boundingBox, type);
+    }
 
+    private MovingObstacle(Game game) {
+        super(game);
     }
 
     /**
@@ -54,12 +59,41 @@ public class MovingObstacle extends Obstacle {
         this(parent, game, position, boundingBox, MovingObstacleType.getRandom(game.getRandom()));
     }
 
+    /**
+     * Gets a Moving obstacle of a random type from the pool of the game and puts it into the game.
+     *
+     * @param parent      the parent Object
+     * @param game        the game in which this obstacle lives
+     * @param position    the position of the obstacle
+     * @param boundingBox the bounding box
+     * @return the obstacle
+     */
+    public static MovingObstacle obtain(GameObject parent, Game game, Point position, BoundingBox boundingBox) {
+        MovingObstacleType type = MovingObstacleType.getRandom(game.getRandom());
+        MovingObstacle obstacle = game.getPool(MovingObstacle.class, MovingObstacle::new).obtain();
+        obstacle.respawn(parent, position, boundingBox, type);
+        return obstacle;
+    }
+
+    private void respawn(GameObject parent, Point position, BoundingBox boundingBox, MovingObstacleType type) {
+        spawn(parent, position, boundingBox, true);
+
+        setRenderer(() -> new MovingObstacleRenderer(this, type.getName()));
+    }
+
+    @Override
+    protected void reset() {
+        keypoints = List.of();
+        keypointIndex = 0;
+        verticalVelocity = 0;
+    }
+
 
     @Override
     public void tick(double timeScale) {
-        setPosition(getLocalPosition().addX((float) (SPEED * timeScale * -1)));
+        translate((float) (SPEED * timeScale * -1), 0);
 
-        float currentX = getLocalPosition().x();
+        float currentX = getLocalPositionInto(localPosition).x();
 
         if (keypoints.isEmpty()) {
             return;
@@ -67,7 +101,7 @@ public class MovingObstacle extends Obstacle {
 
         if (keypointIndex >= keypoints.size() - 1) {
             MovingObstacleKeypoint lastKeypoint = keypoints.getLast();
-            setPosition(new Point(currentX, lastKeypoint.yTarget()));
+            setPosition(currentX, lastKeypoint.yTarget());
             verticalVelocity = 0;
             return;
         }
@@ -84,7 +118,7 @@ public class MovingObstacle extends Obstacle {
         }
 
         if (keypointIndex >= keypoints.size() - 1) {
-            setPosition(new Point(currentX, currentKeypoint.yTarget()));
+            setPosition(currentX, currentKeypoint.yTarget());
             verticalVelocity = 0;
             return;
         }
@@ -101,7 +135,12 @@ public class MovingObstacle extends Obstacle {
             verticalVelocity = (nextKeypoint.yTarget() - currentKeypoint.yTarget()) / Pathfinding.INTERPOLATION_DURATION;
         }
 
-        setPosition(new Point(currentX, interpolatedY));
+        setPosition(currentX, interpolatedY);
+    }
+
+    @Override
+    protected boolean isTicked() {
+        return true;
     }
 
 
@@ -144,13 +183,14 @@ public class MovingObstacle extends Obstacle {
         }
 
         MovingObstacleKeypoint nextKeypoint = keypoints.get(keypointIndex + 1);
-        float distanceToTurn = getLocalPosition().x() - nextKeypoint.eventX();
+        getLocalPositionInto(localPosition);
+        float distanceToTurn = localPosition.x() - nextKeypoint.eventX();
 
         if (distanceToTurn > getGame().getConfig().movingObstacleBlinkerDistance()) {
             return false;
         }
 
-        float verticalDifference = nextKeypoint.yTarget() - getLocalPosition().y();
+        float verticalDifference = nextKeypoint.yTarget() - localPosition.y();
         return upwards ? verticalDifference > 5 : verticalDifference < -5;
     }
 
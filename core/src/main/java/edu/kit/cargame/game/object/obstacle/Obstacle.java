@@ -1,11 +1,11 @@
 package edu.kit.cargame.game.object.obstacle;
 
 import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
 import edu.kit.cargame.game.geometry.BoundingBox;
 import edu.kit.cargame.game.geometry.Point;
-import edu.kit.cargame.game.object.collectable.CollectableCloseCall;
 import edu.kit.cargame.game.object.eyecandy.Animation;
 import edu.kit.cargame.game.object.eyecandy.AnimationType;
 import edu.kit.cargame.game.playercar.PlayerCar;
@@ -14,6 +14,9 @@ import edu.kit.cargame.game.playercar.PlayerCar;
  * The type Obstacle models all GameObjects which remove a life from the player car, upon colliding with it.
  */
 public abstract class Obstacle extends CollidingGameObject {
+    // Whether driving close to this obstacle can still reward a close call, see CloseCallDetector
+    private boolean closeCallAvailable;
+
     /**
      * Instantiates a new Obstacle.
      *
@@ -37,16 +40,48 @@ public abstract class Obstacle extends CollidingGameObject {
      * @param allowCloseCalls whether close calls should be allowed
      */
     protected Obstacle(GameObject parent, Game game, Point position, BoundingBox boundingBox, boolean allowCloseCalls) {
-        super(parent, game, position, boundingBox);
+        this(game);
+        spawn(parent, position, boundingBox, allowCloseCalls);
+    }
 
-        float closeCallDistance = getGame().getConfig().closeCallDistance();
+    /**
+     * Instantiates a new Obstacle which is not part of the game yet.
+     *
+     * @param game the game in which this obstacle lives
+     */
+    protected Obstacle(Game game) {
+        super(game);
+        // Obstacles only react to the player car, collectables react to obstacles
+        setCollisionFilter(CollisionCategory.OBSTACLE, CollisionCategory.PLAYER, CollisionCategory.COLLECTABLE);
+    }
+
+    /**
+     * Puts this obstacle into the game as if it was newly created.
+     *
+     * @param parent          the parent Object
+     * @param position        the position of the obstacle
+     * @param boundingBox     the bounding box of the obstacle
+     * @param allowCloseCalls whether close calls should be allowed
+     */
+    protected final void spawn(GameObject parent, Point position, BoundingBox boundingBox, boolean allowCloseCalls) {
+        spawn(parent, position, boundingBox);
+        closeCallAvailable = allowCloseCalls;
+    }
 
-        if (allowCloseCalls) {
-            //create the larger bounding box, used to determine 'close calls'
-            new CollectableCloseCall(this, game, new Point(-closeCallDistance, -closeCallDistance),
-                getBoundingBox().enlarge(2 * closeCallDistance));
+    /**
+     * Checks whether driving close to this obstacle can still reward a close call.
+     *
+     * @return boolean
+     */
+    boolean isCloseCallAvailable() {
+        return closeCallAvailable;
+    }
 
-        }
+    /**
+     * Uses up the close call of this obstacle, so it is rewarded at most once.
+     */
+    void useCloseCall() {
+        closeCallAvailable = false;
     }
 
     @Override
@@ -74,10 +109,11 @@ public abstract class Obstacle extends CollidingGameObject {
      * @param playerCar the player car
      */
     protected void handleCollision(PlayerCar playerCar) {
+        getGame().getStatistics().recordCollision();
         playerCar.removeLife();
 
         //new DebrisObstacle(this, getGame(), Point.zero(), getBoundingBox());
-        new Animation(this, getGame(), Point.zero(), AnimationType.EXPLODE, new BoundingBox(new Point(100, 100)));
+        Animation.obtain(this, getGame(), Point.zero(), AnimationType.EXPLODE, new BoundingBox(new Point(100, 100)));
         kill();
     }
 
@@ -48,8 +48,13 @@ public class OverlayManager extends GameObject {
         }
     }
 
+    @Override
+    protected boolean isTicked() {
+        return true;
+    }
+
     private void redraw() {
-        for (GameObject child : getChildren()) {
+        for (GameObject child = getFirstChild(); child != null; child = child.getNextSibling()) {
             child.kill();
         }
 
@@ -20,7 +20,10 @@ public class OverlayBackground extends GameObject {
     public OverlayBackground(GameObject parent, Game game, Point position) {
         super(parent, game, position);
         setBoundingBox(new BoundingBox(new Point(1200, 100)));
-        setRenderer(new SpriteRenderer(this, "game/overlay/background.png"));
-        ((SpriteRenderer) getRenderer().get()).setColor(1f, 1f, 1f, 1f);
+        setRenderer(() -> {
+            SpriteRenderer spriteRenderer = new SpriteRenderer(this, "game/overlay/background.png");
+            spriteRenderer.setColor(1f, 1f, 1f, 1f);
+            return spriteRenderer;
+        });
     }
 }
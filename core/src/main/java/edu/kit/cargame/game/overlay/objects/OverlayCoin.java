@@ -20,6 +20,6 @@ public class OverlayCoin extends GameObject {
     public OverlayCoin(GameObject parent, Game game, Point position) {
         super(parent, game, position);
         setBoundingBox(new BoundingBox(new Point(50, 50)));
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/coin/0000.png"));
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/coin/0000.png"));
     }
 }
@@ -20,6 +20,6 @@ public class OverlayHearth extends GameObject {
     public OverlayHearth(GameObject parent, Game game, Point position) {
         super(parent, game, position);
         setBoundingBox(new BoundingBox(new Point(50, 50)));
-        setRenderer(new SpriteRenderer(this, "game/animations/collectables/heart/0000.png"));
+        setRenderer(() -> new SpriteRenderer(this, "game/animations/collectables/heart/0000.png"));
     }
 }
@@ -1,10 +1,9 @@
 package edu.kit.cargame.game.playercar;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import edu.kit.cargame.io.view.TextureCache;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
- * Record holding the sprites of a car type.
+ * Record holding the sprite ids of a car type, see {@link SpriteIds}.
  * The sprites are for moving up, down and normal.
  *
  * @param left      the sprite of the car when it is moving left
@@ -13,29 +12,22 @@ import edu.kit.cargame.io.view.TextureCache;
  * @param rightDown the sprite of the car when it is moving down and right
  * @param ahead     the sprite of the car when it is moving ahead
  */
-public record CarSprites(Sprite left, Sprite leftUp, Sprite right, Sprite rightDown, Sprite ahead) {
+public record CarSprites(int left, int leftUp, int right, int rightDown, int ahead) {
 
     /**
-     * Initialises the sprites by loading them from disk.
+     * Initialises the sprites by numbering their paths, the textures are loaded when they are drawn.
      *
      * @param uninitialised The uninitialised version of this object.
      * @return The initialised sprites.
      */
     public static CarSprites fromUninitialised(UninitialisedCarSprites uninitialised) {
         return new CarSprites(
-            new Sprite(TextureCache.getTexture(uninitialised.leftPath())),
-            new Sprite(TextureCache.getTexture(uninitialised.leftUpPath())),
-            new Sprite(TextureCache.getTexture(uninitialised.rightPath())),
-            new Sprite(TextureCache.getTexture(uninitialised.rightDownPath())),
-            new Sprite(TextureCache.getTexture(uninitialised.aheadPath()))
+            SpriteIds.of(uninitialised.leftPath()),
+            SpriteIds.of(uninitialised.leftUpPath()),
+            SpriteIds.of(uninitialised.rightPath()),
+            SpriteIds.of(uninitialised.rightDownPath()),
+            SpriteIds.of(uninitialised.aheadPath())
         );
 
     }
-
-    /**
-     * Disposes the textures of the sprites.
-     */
-    public void dispose() {
-        // Do not dispose cached textures
-    }
 }
@@ -1,10 +1,9 @@
 package edu.kit.cargame.game.playercar;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import edu.kit.cargame.io.view.TextureCache;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
- * Record holding the sprites of a moving obstacle.
+ * Record holding the sprite ids of a moving obstacle, see {@link SpriteIds}.
  *
  * @param left      the sprite of the car when it is moving left
  * @param leftDown    the sprite of the car when it is moving left and up
@@ -14,11 +13,11 @@ import edu.kit.cargame.io.view.TextureCache;
  * @param blinkingRight the sprite of the car when it is blinking to the right
  * @param blinkingLeft the sprite of the car when it is blinking to the left
  */
-public record MovingCarSprites(Sprite left, Sprite leftDown, Sprite right,
-                               Sprite rightUp, Sprite ahead, Sprite blinkingRight, Sprite blinkingLeft) {
+public record MovingCarSprites(int left, int leftDown, int right,
+                               int rightUp, int ahead, int blinkingRight, int blinkingLeft) {
 
     /**
-     * Initialises the sprites by loading them from disk.
+     * Initialises the sprites by numbering their paths, the textures are loaded when they are drawn.
      *
      * @param name the name of the car
      * @return The initialized sprites.
@@ -26,21 +25,14 @@ public record MovingCarSprites(Sprite left, Sprite leftDown, Sprite right,
     public static MovingCarSprites fromName(String name) {
         String basePath = "game/obstacles/enemy_car/" + name + "/";
         return new MovingCarSprites(
-            new Sprite(TextureCache.getTexture(basePath + "3.png")),
-            new Sprite(TextureCache.getTexture(basePath + "4.png")),
-            new Sprite(TextureCache.getTexture(basePath + "1.png")),
-            new Sprite(TextureCache.getTexture(basePath + "0.png")),
-            new Sprite(TextureCache.getTexture(basePath + "2.png")),
-            new Sprite(TextureCache.getTexture(basePath + "right.png")),
-            new Sprite(TextureCache.getTexture(basePath + "left.png"))
+            SpriteIds.of(basePath + "3.png"),
+            SpriteIds.of(basePath + "4.png"),
+            SpriteIds.of(basePath + "1.png"),
+            SpriteIds.of(basePath + "0.png"),
+            SpriteIds.of(basePath + "2.png"),
+            SpriteIds.of(basePath + "right.png"),
+            SpriteIds.of(basePath + "left.png")
         );
 
     }
-
-    /**
-     * Disposes the textures of the sprites.
-     */
-    public void dispose() {
-        // Do not dispose cached textures
-    }
 }
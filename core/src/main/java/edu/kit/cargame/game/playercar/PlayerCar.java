@@ -1,8 +1,10 @@
 package edu.kit.cargame.game.playercar;
 
 import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
 import edu.kit.cargame.game.common.Game;
 import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.common.StateSink;
 import edu.kit.cargame.game.geometry.BoundingBox;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.io.input.ActionTypes;
@@ -52,8 +54,10 @@ public class PlayerCar extends CollidingGameObject {
     PlayerCar(GameObject parent, Game game, Point position, UninitialisedCarSprites sprite, UserInput<ActionTypes> userInput,
               float speed, int lives, float agility, float boost, BoundingBox boundingBox) {
         super(parent, game, position, boundingBox);
+        setCollisionFilter(CollisionCategory.PLAYER, CollisionCategory.OBSTACLE, CollisionCategory.COLLECTABLE,
+            CollisionCategory.BORDER);
         //setRenderer(new TextRenderer(this, new BoundingBoxRenderer(this, )));
-        setRenderer(new PlayerCarRenderer(this, sprite));
+        setRenderer(() -> new PlayerCarRenderer(this, sprite));
         this.userInput = userInput;
         this.lives = lives;
         this.agility = agility;
@@ -188,6 +192,28 @@ public class PlayerCar extends CollidingGameObject {
         addScore((int) (timeScale * SCORE_MULTIPLIER * getCoinMultiplier()));
     }
 
+    /**
+     * A dead car is no longer steered, so it stops being ticked.
+     *
+     * @return boolean
+     */
+    @Override
+    protected boolean isTicked() {
+        return !dead;
+    }
+
+    @Override
+    protected void writeState(StateSink sink) {
+        sink.add(score);
+        sink.add(lives);
+        sink.add(coins);
+        sink.add(velocity);
+        sink.add(isBoosting);
+        sink.add(dead);
+        sink.add(badSteeringLayers);
+        sink.add(invulnerableLayers);
+    }
+
     private void computeMovement(List<ActionTypes> action, double timeScale) {
 
         if (action.contains(ActionTypes.UP)) {
@@ -205,7 +231,7 @@ public class PlayerCar extends CollidingGameObject {
         }
 
         velocity = Math.min(getMaxVelocity(), Math.max(-getMaxVelocity(), velocity));
-        setPosition(getLocalPosition().addY((float) (velocity * timeScale)));
+        translate(0, (float) (velocity * timeScale));
     }
 
     private float getSteering() {
@@ -258,6 +284,7 @@ public class PlayerCar extends CollidingGameObject {
         if (lives <= 0) {
             getGame().addScheduledEvent(TIME_AFTER_DEATH, () -> getGame().endGame());
             dead = true;
+            updateTicked();
         }
         removeCoins();
         makeInvulnerable(DURATION_INVULNERABLE_ON_OBSTACLE_HIT);
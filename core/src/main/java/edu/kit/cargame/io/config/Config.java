@@ -6,6 +6,7 @@ import edu.kit.cargame.common.logging.LoggerManagement;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -52,6 +53,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @param closeCallPoints the points you get for a close call
  * @param closeCallDistance the distance at which a close call is detected
  * @param rumbleEnabled whether rumble is enabled
+ * @param tickRate the number of simulation ticks per second, independent of the frame rate
+ * @param maxCatchUpTicks the maximum number of ticks simulated in a single frame to catch up after slow frames
+ * @param collisionBroadphase the broadphase used to find collisions, one of HIERARCHY, GRID and SWEEP_AND_PRUNE
+ * @param recordReplays whether the inputs of every game are recorded and saved as a replay to ./replays
+ * @param simulationThread whether games tick on a thread of their own and hand render snapshots to the render thread
  *
  *
  */
@@ -91,7 +97,12 @@ public record Config(
     @JsonProperty("OIL_STEERING_FACTOR") float oilSteeringFactor,
     @JsonProperty("CLOSE_CALL_POINTS") int closeCallPoints,
     @JsonProperty("CLOSE_CALL_DISTANCE") float closeCallDistance,
-    @JsonProperty("RUMBLE_ENABLED") boolean rumbleEnabled
+    @JsonProperty("RUMBLE_ENABLED") boolean rumbleEnabled,
+    @JsonProperty("TICK_RATE") int tickRate,
+    @JsonProperty("MAX_CATCH_UP_TICKS") int maxCatchUpTicks,
+    @JsonProperty("COLLISION_BROADPHASE") String collisionBroadphase,
+    @JsonProperty("RECORD_REPLAYS") boolean recordReplays,
+    @JsonProperty("SIMULATION_THREAD") boolean simulationThread
 ) {
     private static final String CONFIG_LOCATION = "./config.json";
     private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -101,8 +112,9 @@ public record Config(
 
     /**
      * Returns the current config. If the config has not been loaded yet, it will be loaded from the file.
+     * Games only read the config they were created with, see {@link edu.kit.cargame.game.common.Game#getConfig()}.
      */
-    public static Config getConfig() {
+    public static synchronized Config getConfig() {
         if (config == null) {
             reloadConfig();
         }
@@ -112,7 +124,7 @@ public record Config(
     /**
      * Reloads the config from the file.
      */
-    public static void reloadConfig() {
+    public static synchronized void reloadConfig() {
         config = loadConfigFromFile();
     }
 
@@ -164,7 +176,64 @@ public record Config(
         }
     }
 
-    private static Config defaultConfig() {
+    /**
+     * Creates a copy of this config with the given values replaced.
+     * The keys are the names used in the config file, e.g. "OBSTACLE_AMOUNT".
+     *
+     * @param overrides the values to replace, by config file name
+     * @return the new config
+     * @throws IllegalArgumentException if a key is unknown or a value has the wrong type
+     */
+    public Config withOverrides(Map<String, ?> overrides) {
+        ObjectNode node = MAPPER.valueToTree(this);
+        for (Map.Entry<String, ?> entry : overrides.entrySet()) {
+            if (!node.has(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown config value: " + entry.getKey());
+            }
+            node.set(entry.getKey(), MAPPER.valueToTree(entry.getValue()));
+        }
+        try {
+            return MAPPER.treeToValue(node, Config.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid config override: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes this config as JSON, in the format of the config file.
+     *
+     * @return the JSON
+     */
+    public String toJson() {
+        try {
+            return MAPPER.writeValueAsString(this);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write the config: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a config written by {@link #toJson()}. Values missing in the JSON get their default value.
+     *
+     * @param json the JSON
+     * @return the config
+     * @throws IllegalArgumentException if the JSON is malformed or a value has the wrong type
+     */
+    public static Config fromJson(String json) {
+        try {
+            JsonNode mergedNode = merge(MAPPER.valueToTree(defaultConfig()), MAPPER.readTree(json));
+            return MAPPER.treeToValue(mergedNode, Config.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid config: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the default config, which is also written to the config file if none exists.
+     *
+     * @return the default config
+     */
+    public static Config defaultConfig() {
         return new Config(
             30,
             true,
@@ -201,6 +270,11 @@ public record Config(
             0.35f,
             400,
             8.0f,
+            true,
+            30,
+            5,
+            "HIERARCHY",
+            false,
             true
         );
     }
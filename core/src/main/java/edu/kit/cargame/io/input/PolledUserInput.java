@@ -0,0 +1,43 @@
+package edu.kit.cargame.io.input;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.List;
+
+/**
+ * The type PolledUserInput passes on the input of another user input to a game simulating on its own thread.
+ * The other input is only polled on the render thread, once per frame, as the input devices may only be used there.
+ * The game reads the input polled last and its rumble is passed back to the render thread.
+ *
+ * @param <T> The type of user input.
+ */
+public class PolledUserInput<T> extends UserInput<T> {
+    private final UserInput<T> input;
+    private volatile List<T> pressed = List.of();
+
+    /**
+     * Instantiates a new PolledUserInput.
+     *
+     * @param input the input to poll
+     */
+    public PolledUserInput(UserInput<T> input) {
+        this.input = input;
+    }
+
+    /**
+     * Polls the other input. Must be called on the render thread.
+     */
+    public void poll() {
+        pressed = List.copyOf(input.pressed());
+    }
+
+    @Override
+    public List<T> pressed() {
+        return pressed;
+    }
+
+    @Override
+    public void rumble(int duration, float strength) {
+        Gdx.app.postRunnable(() -> input.rumble(duration, strength));
+    }
+}
@@ -0,0 +1,96 @@
+package edu.kit.cargame.io.replay;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The type RecordingUserInput passes on the input of another user input and records it for a {@link Replay}.
+ * Recording only merges the input into runs of equal input, so it does not slow down the game.
+ */
+public class RecordingUserInput extends UserInput<ActionTypes> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final UserInput<ActionTypes> input;
+    private byte[] runMasks = new byte[INITIAL_CAPACITY];
+    private int[] runLengths = new int[INITIAL_CAPACITY];
+    private int runCount = 0;
+
+    /**
+     * Instantiates a new RecordingUserInput.
+     *
+     * @param input the input to record
+     */
+    public RecordingUserInput(UserInput<ActionTypes> input) {
+        this.input = input;
+    }
+
+    @Override
+    public List<ActionTypes> pressed() {
+        List<ActionTypes> pressed = input.pressed();
+        byte mask = Replay.toMask(pressed);
+        if (runCount > 0 && runMasks[runCount - 1] == mask && runLengths[runCount - 1] < Integer.MAX_VALUE) {
+            runLengths[runCount - 1]++;
+            return pressed;
+        }
+        if (runCount == runMasks.length) {
+            runMasks = Arrays.copyOf(runMasks, runCount * 2);
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+        }
+        runMasks[runCount] = mask;
+        runLengths[runCount] = 1;
+        runCount++;
+        return pressed;
+    }
+
+    @Override
+    public void rumble(int duration, float strength) {
+        input.rumble(duration, strength);
+    }
+
+    /**
+     * Gets the amount of runs of equal input recorded so far. The last run may still grow.
+     *
+     * @return the run count
+     */
+    int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Gets the bitmask of the pressed actions of a run.
+     *
+     * @param run the index of the run
+     * @return the bitmask
+     */
+    byte getRunMask(int run) {
+        return runMasks[run];
+    }
+
+    /**
+     * Gets the amount of polls of a run recorded so far.
+     *
+     * @param run the index of the run
+     * @return the amount of polls
+     */
+    int getRunLength(int run) {
+        return runLengths[run];
+    }
+
+    /**
+     * Creates a replay of the given game from the input recorded so far.
+     *
+     * @param game        the game this input steers
+     * @param carSettings the car settings the game was created with
+     * @return the replay
+     */
+    public Replay toReplay(Game game, CarSettings carSettings) {
+        return new Replay(game.getConfig().withOverrides(Map.of("SEED", game.getSeed())), carSettings,
+            game.getTickCount(), Arrays.copyOf(runMasks, runCount), Arrays.copyOf(runLengths, runCount));
+    }
+}
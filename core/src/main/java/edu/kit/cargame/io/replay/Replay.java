@@ -0,0 +1,259 @@
+package edu.kit.cargame.io.replay;
+
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.input.ActionTypes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The type Replay holds everything needed to simulate a game again: the config including the seed,
+ * the car settings, the amount of ticks and the input of the player at every poll.
+ * Games only depend on these, so a replayed game takes the same course as the recorded one.
+ * The input is stored as runs of equal bitmasks of the pressed {@link ActionTypes}, as players hold keys
+ * for many ticks. A replay is recorded with a {@link RecordingUserInput} and played back with a {@link ReplayUserInput}.
+ */
+public final class Replay {
+    /**
+     * The file extension of saved replays.
+     */
+    public static final String FILE_EXTENSION = ".replay";
+
+    // "CGRP" in ASCII
+    private static final int MAGIC = 0x43475250;
+    private static final int VERSION = 1;
+    private static final ActionTypes[] ACTIONS = ActionTypes.values();
+    private static final List<List<ActionTypes>> ACTIONS_BY_MASK = actionsByMask();
+
+    private final Config config;
+    private final CarSettings carSettings;
+    private final long ticks;
+    private final byte[] runMasks;
+    private final int[] runLengths;
+
+    /**
+     * Instantiates a new Replay.
+     *
+     * @param config      the config of the game, with the seed the game used
+     * @param carSettings the car settings of the player
+     * @param ticks       the amount of ticks the game was simulated for
+     * @param runMasks    the bitmask of the pressed actions of every run of equal input
+     * @param runLengths  the amount of polls of every run of equal input
+     * @throws IllegalArgumentException if the amount of masks and lengths differ or a length is not positive
+     */
+    public Replay(Config config, CarSettings carSettings, long ticks, byte[] runMasks, int[] runLengths) {
+        if (runMasks.length != runLengths.length) {
+            throw new IllegalArgumentException("Expected one length per run, got " + runMasks.length + " masks and "
+                + runLengths.length + " lengths");
+        }
+        for (int length : runLengths) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("Runs must be at least one poll long, got " + length);
+            }
+        }
+        this.config = config;
+        this.carSettings = carSettings;
+        this.ticks = ticks;
+        this.runMasks = runMasks.clone();
+        this.runLengths = runLengths.clone();
+    }
+
+    /**
+     * Gets the config of the recorded game, with the seed the game used.
+     *
+     * @return the config
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the car settings of the player.
+     *
+     * @return the car settings
+     */
+    public CarSettings getCarSettings() {
+        return carSettings;
+    }
+
+    /**
+     * Gets the amount of ticks the recorded game was simulated for.
+     *
+     * @return the ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the amount of times the input was polled.
+     *
+     * @return the poll count
+     */
+    public long getPollCount() {
+        return Arrays.stream(runLengths).asLongStream().sum();
+    }
+
+    /**
+     * Creates an input which plays back the recorded input, from the first poll on.
+     *
+     * @return the input
+     */
+    public ReplayUserInput createInput() {
+        return new ReplayUserInput(runMasks, runLengths);
+    }
+
+    /**
+     * Writes the replay to the given file, replacing it if it exists.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay from the given file.
+     *
+     * @param file the file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is no replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes the replay to the given stream, without closing it.
+     *
+     * @param stream the stream
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeUTF(config.toJson());
+        out.writeUTF(carSettings.carType().name());
+        out.writeUTF(carSettings.color().name());
+        out.writeLong(ticks);
+        out.writeInt(runMasks.length);
+        for (int i = 0; i < runMasks.length; i++) {
+            out.writeByte(runMasks[i]);
+            writeVarInt(out, runLengths[i]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write(OutputStream)} from the given stream.
+     *
+     * @param stream the stream
+     * @return the replay
+     * @throws IOException if reading fails or the stream holds no replay
+     */
+    public static Replay read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        try {
+            Config config = Config.fromJson(in.readUTF());
+            CarSettings carSettings = new CarSettings(CarType.valueOf(in.readUTF()), ColorOptions.valueOf(in.readUTF()));
+            long ticks = in.readLong();
+            int runCount = in.readInt();
+            if (runCount < 0) {
+                throw new IOException("Negative amount of runs: " + runCount);
+            }
+            byte[] runMasks = new byte[runCount];
+            int[] runLengths = new int[runCount];
+            for (int i = 0; i < runCount; i++) {
+                runMasks[i] = in.readByte();
+                runLengths[i] = readVarInt(in);
+            }
+            return new Replay(config, carSettings, ticks, runMasks, runLengths);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt replay: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the bitmask of the given actions, with the bit of each action at its ordinal.
+     *
+     * @param actions the actions
+     * @return the bitmask
+     */
+    static byte toMask(List<ActionTypes> actions) {
+        int mask = 0;
+        for (int i = 0; i < actions.size(); i++) {
+            mask |= 1 << actions.get(i).ordinal();
+        }
+        return (byte) mask;
+    }
+
+    /**
+     * Gets the actions of the given bitmask. The returned list is shared and must not be modified.
+     *
+     * @param mask the bitmask
+     * @return the actions
+     */
+    static List<ActionTypes> fromMask(byte mask) {
+        return ACTIONS_BY_MASK.get(mask & ((1 << ACTIONS.length) - 1));
+    }
+
+    private static List<List<ActionTypes>> actionsByMask() {
+        List<List<ActionTypes>> byMask = new ArrayList<>();
+        for (int mask = 0; mask < 1 << ACTIONS.length; mask++) {
+            List<ActionTypes> actions = new ArrayList<>();
+            for (ActionTypes action : ACTIONS) {
+                if ((mask & 1 << action.ordinal()) != 0) {
+                    actions.add(action);
+                }
+            }
+            byMask.add(List.copyOf(actions));
+        }
+        return List.copyOf(byMask);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed run length");
+    }
+}
@@ -0,0 +1,93 @@
+package edu.kit.cargame.io.replay;
+
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+
+/**
+ * The type ReplayUserInput plays back the input recorded in a {@link Replay}, one poll after the other.
+ * It can also follow a {@link RecordingUserInput} which is still recording, as long as it polls less often.
+ * Once the recording is over, nothing is pressed anymore, unless the input was resumed with a live input.
+ */
+public class ReplayUserInput extends UserInput<ActionTypes> {
+    private final byte[] runMasks;
+    private final int[] runLengths;
+    // Null if the runs are given as arrays
+    private final RecordingUserInput recording;
+    private int run = 0;
+    private int pollsInRun = 0;
+    private UserInput<ActionTypes> resumed;
+
+    /**
+     * Instantiates a new ReplayUserInput.
+     *
+     * @param runMasks   the bitmask of the pressed actions of every run of equal input, not copied
+     * @param runLengths the amount of polls of every run of equal input, not copied
+     */
+    ReplayUserInput(byte[] runMasks, int[] runLengths) {
+        this.runMasks = runMasks;
+        this.runLengths = runLengths;
+        this.recording = null;
+    }
+
+    /**
+     * Instantiates a new ReplayUserInput which plays back the input of a recording from its first poll on,
+     * including the input it records later.
+     *
+     * @param recording the recording
+     */
+    ReplayUserInput(RecordingUserInput recording) {
+        this.runMasks = null;
+        this.runLengths = null;
+        this.recording = recording;
+    }
+
+    /**
+     * Stops playing back the recording and passes on the given input from now on,
+     * e.g. to let the player take over a rewound game.
+     *
+     * @param input the input
+     */
+    public void resume(UserInput<ActionTypes> input) {
+        resumed = input;
+    }
+
+    @Override
+    public List<ActionTypes> pressed() {
+        if (resumed != null) {
+            return resumed.pressed();
+        }
+        if (isFinished()) {
+            return List.of();
+        }
+        // Only moves on to the next run once it is needed, as the last run of a recording may still grow
+        if (pollsInRun == runLength(run)) {
+            run++;
+            pollsInRun = 0;
+        }
+        pollsInRun++;
+        return Replay.fromMask(recording == null ? runMasks[run] : recording.getRunMask(run));
+    }
+
+    @Override
+    public void rumble(int duration, float strength) {
+        if (resumed != null) {
+            resumed.rumble(duration, strength);
+        }
+    }
+
+    /**
+     * Checks whether all recorded input was played back.
+     *
+     * @return boolean
+     */
+    public boolean isFinished() {
+        int runCount = recording == null ? runMasks.length : recording.getRunCount();
+        return runCount == 0 || run == runCount - 1 && pollsInRun == runLength(run);
+    }
+
+    private int runLength(int index) {
+        return recording == null ? runLengths[index] : recording.getRunLength(index);
+    }
+}
@@ -0,0 +1,288 @@
+package edu.kit.cargame.io.replay;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The type RewindBuffer rewinds a headless game by a few seconds, e.g. to take back the last seconds before a crash
+ * while debugging or simulating, and verifies that the rewound game took exactly the same course.
+ * Game objects hold scheduled closures and keep more state than {@link Game#writeState} summarizes,
+ * so a game can not be loaded from stored values. A rewind simulates the game again with the recorded input instead,
+ * and the buffer only keeps a marker every few ticks: the tick and the state hash of the game, see
+ * {@link Game#hashState()}. The rewound game has to reach the hash of the marker, otherwise the simulation
+ * is not deterministic and the rewind fails. Once the markers take more memory than the budget,
+ * the oldest one is dropped.
+ * <p>
+ * By default a rewind simulates the game again from its first tick. Optionally the buffer keeps a checkpoint:
+ * a second headless game which plays back the recorded input a fixed amount of ticks behind the game,
+ * a few ticks with every marker, so a rewind up to that far only simulates the ticks after the checkpoint.
+ * The checkpoint simulates every tick a second time, so it doubles the cost of running the game.
+ */
+public final class RewindBuffer {
+    /**
+     * The default memory budget of the markers, in bytes.
+     */
+    public static final long DEFAULT_BUDGET_BYTES = 1L << 20;
+
+    // The tick and the hash of a marker
+    private static final int MARKER_BYTES = 2 * Long.BYTES;
+    // How many marker intervals the checkpoint may advance per marker, so a new checkpoint catches up
+    private static final int CHECKPOINT_CATCH_UP = 4;
+    private static final long NO_CHECKPOINT = -1;
+
+    private final CarSettings carSettings;
+    private final int interval;
+    private final long maxMarkers;
+    private final long checkpointLag;
+    private final Deque<Marker> markers = new ArrayDeque<>();
+    private Game game;
+    private RecordingUserInput recorder;
+    private Replayed checkpoint;
+
+    private long markersTaken = 0;
+    private long markerNanos = 0;
+    private long lastRestoreNanos = 0;
+    private long lastRestoreTicks = 0;
+
+    /**
+     * Instantiates a new RewindBuffer without a checkpoint, which simulates the game from its first tick on a rewind.
+     *
+     * @param game        the headless game to rewind
+     * @param recorder    the recorder of the input of the game, from its first tick on
+     * @param carSettings the car settings the game was created with
+     * @param interval    the amount of ticks between two markers
+     * @param budgetBytes the amount of memory the markers may take, the newest marker is always kept
+     * @throws IllegalArgumentException if the game is rendered, the interval is not positive or the budget is negative
+     */
+    public RewindBuffer(Game game, RecordingUserInput recorder, CarSettings carSettings, int interval,
+                        long budgetBytes) {
+        this(game, recorder, carSettings, interval, budgetBytes, NO_CHECKPOINT, false);
+    }
+
+    /**
+     * Instantiates a new RewindBuffer with a checkpoint.
+     *
+     * @param game          the headless game to rewind
+     * @param recorder      the recorder of the input of the game, from its first tick on
+     * @param carSettings   the car settings the game was created with
+     * @param interval      the amount of ticks between two markers
+     * @param budgetBytes   the amount of memory the markers may take, the newest marker is always kept
+     * @param checkpointLag the amount of ticks the checkpoint stays behind the game, rewinds up to this far
+     *                      only simulate the ticks between the checkpoint and the marker
+     * @throws IllegalArgumentException if the game is rendered, the interval is not positive
+     *                                  or the budget or the lag is negative
+     */
+    public RewindBuffer(Game game, RecordingUserInput recorder, CarSettings carSettings, int interval,
+                        long budgetBytes, long checkpointLag) {
+        this(game, recorder, carSettings, interval, budgetBytes, checkpointLag, true);
+    }
+
+    private RewindBuffer(Game game, RecordingUserInput recorder, CarSettings carSettings, int interval,
+                         long budgetBytes, long checkpointLag, boolean withCheckpoint) {
+        if (!game.isHeadless()) {
+            throw new IllegalArgumentException("Only headless games can be rewound");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Markers need at least one tick between them, got " + interval);
+        }
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Negative memory budget: " + budgetBytes);
+        }
+        if (withCheckpoint && checkpointLag < 0) {
+            throw new IllegalArgumentException("Negative checkpoint lag: " + checkpointLag);
+        }
+        this.game = game;
+        this.recorder = recorder;
+        this.carSettings = carSettings;
+        this.interval = interval;
+        this.maxMarkers = Math.max(1, budgetBytes / MARKER_BYTES);
+        this.checkpointLag = checkpointLag;
+        if (withCheckpoint) {
+            checkpoint = replay();
+        }
+    }
+
+    /**
+     * Takes a marker if one is due. Has to be called after every tick of the game.
+     */
+    public void afterTick() {
+        long tick = game.getTickCount();
+        // A game which is over is not ticked anymore, so its last tick may come in again and is only taken once
+        if (tick % interval != 0 || !markers.isEmpty() && markers.getLast().tick() == tick) {
+            return;
+        }
+        long start = System.nanoTime();
+        markers.addLast(new Marker(tick, game.hashState()));
+        if (markers.size() > maxMarkers) {
+            markers.removeFirst();
+        }
+        markersTaken++;
+        markerNanos += System.nanoTime() - start;
+        if (checkpoint != null) {
+            advanceCheckpoint(tick);
+        }
+    }
+
+    /**
+     * Simulates the checkpoint on to the last marker which is at least the lag behind the given tick.
+     * A checkpoint which fell further behind catches up by a few marker intervals at a time.
+     */
+    private void advanceCheckpoint(long tick) {
+        Game checkpointGame = checkpoint.game();
+        long target = Math.floorDiv(tick - checkpointLag, interval) * interval;
+        long limit = checkpointGame.getTickCount() + (long) CHECKPOINT_CATCH_UP * interval;
+        while (checkpointGame.getTickCount() < Math.min(target, limit) && !checkpointGame.isGameOver()) {
+            checkpointGame.tick();
+        }
+    }
+
+    /**
+     * Creates a new headless game at the start of the game, which plays back the input recorded for the game.
+     */
+    private Replayed replay() {
+        Config config = game.getConfig().withOverrides(Map.of("SEED", game.getSeed()));
+        ReplayUserInput input = new ReplayUserInput(recorder);
+        RecordingUserInput replayRecorder = new RecordingUserInput(input);
+        Game replayGame = new Game(replayRecorder, carSettings, config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+        return new Replayed(replayGame, input, replayRecorder);
+    }
+
+    /**
+     * Rewinds the game by at least the given amount of ticks, to the newest marker which is old enough or the oldest
+     * marker there is. The game is simulated again with the recorded input up to the marker, from the checkpoint
+     * if there is one and it is not past the marker, otherwise from its start. Then the given input takes over.
+     * From then on, this buffer takes the markers of the restored game.
+     *
+     * @param ticks     the amount of ticks to go back
+     * @param liveInput the input steering the restored game from the marker on
+     * @return the restored game
+     * @throws IllegalStateException if no marker was taken yet or the restored game does not match the marker
+     */
+    public Game rewind(long ticks, UserInput<ActionTypes> liveInput) {
+        long start = System.nanoTime();
+        Marker marker = findMarker(game.getTickCount() - ticks);
+
+        Replayed restored = checkpoint != null && checkpoint.game().getTickCount() <= marker.tick()
+            ? checkpoint : replay();
+        Game restoredGame = restored.game();
+        long startTick = restoredGame.getTickCount();
+        while (restoredGame.getTickCount() < marker.tick() && !restoredGame.isGameOver()) {
+            restoredGame.tick();
+        }
+        lastRestoreTicks = restoredGame.getTickCount() - startTick;
+        if (restoredGame.getTickCount() != marker.tick() || restoredGame.hashState() != marker.hash()) {
+            throw new IllegalStateException("The restored game does not match the marker of tick " + marker.tick());
+        }
+        restored.input().resume(liveInput);
+
+        while (markers.getLast() != marker) {
+            markers.removeLast();
+        }
+        game = restoredGame;
+        recorder = restored.recorder();
+        if (checkpoint != null) {
+            // The new checkpoint plays back the input of the restored game, recorded before and after the rewind
+            checkpoint = replay();
+        }
+        lastRestoreNanos = System.nanoTime() - start;
+        return restoredGame;
+    }
+
+    private Marker findMarker(long tick) {
+        if (markers.isEmpty()) {
+            throw new IllegalStateException("No marker was taken yet");
+        }
+        for (Iterator<Marker> iterator = markers.descendingIterator(); iterator.hasNext(); ) {
+            Marker marker = iterator.next();
+            if (marker.tick() <= tick) {
+                return marker;
+            }
+        }
+        return markers.getFirst();
+    }
+
+    /**
+     * Gets the game the markers are taken of, which changes with every rewind.
+     *
+     * @return the game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the amount of markers held.
+     *
+     * @return the marker count
+     */
+    public int getMarkerCount() {
+        return markers.size();
+    }
+
+    /**
+     * Gets the amount of memory taken by the markers held.
+     *
+     * @return the bytes
+     */
+    public long getBytes() {
+        return (long) markers.size() * MARKER_BYTES;
+    }
+
+    /**
+     * Gets the average time taken by a marker, mostly hashing the state of the game.
+     *
+     * @return the average marker time in nanoseconds
+     */
+    public long getAverageMarkerNanos() {
+        return markersTaken == 0 ? 0 : markerNanos / markersTaken;
+    }
+
+    /**
+     * Gets the average amount of memory the markers take per tick of the game.
+     *
+     * @return the bytes per tick
+     */
+    public double getBytesPerTick() {
+        return (double) MARKER_BYTES / interval;
+    }
+
+    /**
+     * Gets the time taken by the last rewind.
+     *
+     * @return the restore time in nanoseconds, 0 if the game was not rewound yet
+     */
+    public long getLastRestoreNanos() {
+        return lastRestoreNanos;
+    }
+
+    /**
+     * Gets the amount of ticks simulated by the last rewind to get to the marker.
+     *
+     * @return the simulated ticks, 0 if the game was not rewound yet
+     */
+    public long getLastRestoreTicks() {
+        return lastRestoreTicks;
+    }
+
+    /**
+     * The state hash of the game after the given tick.
+     */
+    private record Marker(long tick, long hash) {
+    }
+
+    /**
+     * A headless game playing back the recorded input, with the input and the recorder of its own.
+     */
+    private record Replayed(Game game, ReplayUserInput input, RecordingUserInput recorder) {
+    }
+}
@@ -0,0 +1,96 @@
+package edu.kit.cargame.io.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+/**
+ * The type StateHashLog reads the per-tick state hashes written by a {@link StateHashRecorder}.
+ * A log is a short header followed by one chained 64 bit hash per tick, so entries can be read at any tick
+ * without reading the ones before. Comparing the logs of two runs of the same game, e.g. before and after a change
+ * to the simulation, finds the first tick at which they stopped being deterministic.
+ */
+public final class StateHashLog {
+    /**
+     * The file extension of saved state hash logs.
+     */
+    public static final String FILE_EXTENSION = ".hashes";
+
+    // "CGSH" in ASCII
+    static final int MAGIC = 0x43475348;
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Byte.BYTES + Long.BYTES;
+
+    private final FileChannel channel;
+    private final long ticks;
+    private final ByteBuffer entry = ByteBuffer.allocate(Long.BYTES);
+
+    private StateHashLog(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a state hash log");
+        }
+        int version = header.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Unsupported state hash log version " + version);
+        }
+        // The seed only tells the files apart, logs of different seeds simply diverge early
+        ticks = (channel.size() - HEADER_BYTES) / Long.BYTES;
+    }
+
+    /**
+     * Finds the first tick at which the games of two logs diverged, by bisecting over the chained hashes.
+     * Only the ticks both logs recorded are compared, so a run which was stopped earlier does not count as diverged.
+     *
+     * @param first  the first log file
+     * @param second the second log file
+     * @return the first tick with a different state, counted from 1, or empty if the games did not diverge
+     * @throws IOException if a file cannot be read or is no state hash log
+     */
+    public static OptionalLong firstDivergence(Path first, Path second) throws IOException {
+        try (FileChannel firstChannel = FileChannel.open(first, StandardOpenOption.READ);
+             FileChannel secondChannel = FileChannel.open(second, StandardOpenOption.READ)) {
+            return new StateHashLog(firstChannel).firstDivergence(new StateHashLog(secondChannel));
+        }
+    }
+
+    private OptionalLong firstDivergence(StateHashLog other) throws IOException {
+        long common = Math.min(ticks, other.ticks);
+        if (common == 0 || hashAfter(common) == other.hashAfter(common)) {
+            return OptionalLong.empty();
+        }
+        // The chain makes the entries equal up to the divergence and different from there on
+        long low = 1;
+        long high = common;
+        while (low < high) {
+            long middle = low + (high - low) / 2;
+            if (hashAfter(middle) == other.hashAfter(middle)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return OptionalLong.of(low);
+    }
+
+    private long hashAfter(long tick) throws IOException {
+        entry.clear();
+        readFully(entry, HEADER_BYTES + (tick - 1) * Long.BYTES);
+        return entry.getLong();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("State hash log ends early");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,80 @@
+package edu.kit.cargame.io.replay;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.common.StateHasher;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the state hash of a game after every tick to a {@link StateHashLog}.
+ * Each entry is the hash of the current state chained with the entry before it, so two logs
+ * differ from the first diverged tick on and the first divergence can be found by bisection.
+ */
+public final class StateHashRecorder implements Closeable {
+    private final DataOutputStream out;
+    private long chain = 0;
+    private long ticks = 0;
+
+    /**
+     * Instantiates a new recorder writing to the given stream, which is closed along with the recorder.
+     *
+     * @param stream the stream
+     * @param seed   the seed of the game, stored in the header so the logs can be told apart
+     * @throws IOException if the header cannot be written
+     */
+    public StateHashRecorder(OutputStream stream, long seed) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(StateHashLog.MAGIC);
+        out.writeByte(StateHashLog.VERSION);
+        out.writeLong(seed);
+    }
+
+    /**
+     * Creates a recorder writing to the given file, replacing it if it exists.
+     *
+     * @param file the file
+     * @param seed the seed of the game
+     * @return the recorder
+     * @throws IOException if the file cannot be written
+     */
+    public static StateHashRecorder create(Path file, long seed) throws IOException {
+        return new StateHashRecorder(Files.newOutputStream(file), seed);
+    }
+
+    /**
+     * Records the state of the game. Has to be called after every tick, from the first one on.
+     *
+     * @param game the game
+     * @throws UncheckedIOException if writing fails
+     */
+    public void record(Game game) {
+        chain = StateHasher.combine(chain, game.hashState());
+        try {
+            out.writeLong(chain);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the state hash of tick " + game.getTickCount(), e);
+        }
+        ticks++;
+    }
+
+    /**
+     * Gets the amount of ticks recorded so far.
+     *
+     * @return the ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
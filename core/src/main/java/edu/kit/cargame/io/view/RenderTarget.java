@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import edu.kit.cargame.game.geometry.Point;
 
 /**
  * A render target is a frame buffer that can be drawn to and then drawn to the screen.
@@ -81,17 +80,16 @@ public class RenderTarget {
      * @param time the time to set
      * @param isSlowdown whether to set the slowdown uniform
      * @param playerCarDirection the direction of the player car
-     * @param playerCarHeadlightPos the position of the player car headlight
+     * @param headlightX the x position of the player car headlight in pixels of this target
+     * @param headlightY the y position of the player car headlight in pixels of this target
      */
-    public void setUniforms(float time, boolean isSlowdown, int playerCarDirection, Point playerCarHeadlightPos) {
+    public void setUniforms(float time, boolean isSlowdown, int playerCarDirection, float headlightX, float headlightY) {
         if (shader != null) {
             shader.bind(); // Bind the shader before setting uniforms
             shader.setUniformf("u_time", time);
             shader.setUniformi("u_slowdown", isSlowdown ? 1 : 0);
             shader.setUniformi("u_playerCarDirection", playerCarDirection);
-            float x = playerCarHeadlightPos.x() / texture.getWidth();
-            float y = playerCarHeadlightPos.y() / texture.getHeight();
-            shader.setUniform2fv("u_playerCarHeadlightPos", new float[]{x, y}, 0, 2);
+            shader.setUniformf("u_playerCarHeadlightPos", headlightX / texture.getWidth(), headlightY / texture.getHeight());
         }
     }
 
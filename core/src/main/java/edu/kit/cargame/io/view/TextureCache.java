@@ -3,8 +3,8 @@ package edu.kit.cargame.io.view;
 
 import com.badlogic.gdx.graphics.Texture;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class used to cache textures to avoid loading them new for each new game object.
@@ -16,7 +16,8 @@ public final class TextureCache {
         // Utility class
     }
 
-    private static final Map<String, Texture> CACHE = new HashMap<>();
+    // Textures are only created on the render thread, headless games never load any
+    private static final Map<String, Texture> CACHE = new ConcurrentHashMap<>();
 
     /**
      * Gets the texture from the cache or loads it if it is not in the cache.
@@ -25,10 +26,7 @@ public final class TextureCache {
      * @return the texture
      */
     public static Texture getTexture(String path) {
-        if (!CACHE.containsKey(path)) {
-            CACHE.put(path, new Texture(path));
-        }
-        return CACHE.get(path);
+        return CACHE.computeIfAbsent(path, Texture::new);
     }
 
     /**
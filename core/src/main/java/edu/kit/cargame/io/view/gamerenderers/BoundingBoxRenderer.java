@@ -1,21 +1,25 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import edu.kit.cargame.game.common.GameObject;
-import edu.kit.cargame.game.geometry.BoundingBox;
-import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
  * A renderer used for rendering the bounding box after the normal rendering pass.
  * This is useful for debugging purposes.
  */
 public class BoundingBoxRenderer extends Renderer {
+    // The size of the box texture marking the position of the object
+    private static final float MARKER_SIZE = 9;
+
     private final GameObject gameObject;
-    private final Sprite bbox;
-    private final Sprite box;
+    private final int bbox;
+    private final int box;
     private final Renderer wrappedRenderer;
+    private final MutablePoint position = new MutablePoint();
+    private final MutableBoundingBox boundingBox = new MutableBoundingBox();
 
     /**
      * Instantiates a new bounding Box renderer.
@@ -26,21 +30,22 @@ public class BoundingBoxRenderer extends Renderer {
      */
     public BoundingBoxRenderer(GameObject gameObject, Renderer wrappedRenderer) {
         this.gameObject = gameObject;
-        this.bbox = new Sprite(new Texture("game/bbox.png"));
-        this.box = new Sprite(new Texture("game/box.png"));
+        this.bbox = SpriteIds.of("game/bbox.png");
+        this.box = SpriteIds.of("game/box.png");
         this.wrappedRenderer = wrappedRenderer;
     }
 
     @Override
-    public void render(Batch batch) {
+    public void capture(RenderSnapshot snapshot) {
         if (wrappedRenderer != null) {
-            wrappedRenderer.render(batch);
+            wrappedRenderer.capture(snapshot);
         }
-        BoundingBox boundingBox = gameObject.getGlobalBoundingBox();
-        Point position = boundingBox.bottomLeft();
-        bbox.setBounds(position.x(), position.y(), boundingBox.getWidth(), boundingBox.getHeight());
-        bbox.draw(batch);
-        box.setPosition(gameObject.getGlobalPosition().x() - box.getWidth() / 2, gameObject.getGlobalPosition().y() - box.getHeight() / 2);
-        box.draw(batch);
+        // The box relative to the position of the object, both in the world after the tick
+        gameObject.getRenderPositionInto(position, 1);
+        gameObject.getRenderBoundingBoxInto(boundingBox, 1);
+        snapshot.addSprite(bbox, 0, gameObject, boundingBox.minX() - position.x(), boundingBox.minY() - position.y(),
+            boundingBox.getWidth(), boundingBox.getHeight(), RenderSnapshot.WHITE);
+        snapshot.addSprite(box, 0, gameObject, -MARKER_SIZE / 2, -MARKER_SIZE / 2, MARKER_SIZE, MARKER_SIZE,
+            RenderSnapshot.WHITE);
     }
 }
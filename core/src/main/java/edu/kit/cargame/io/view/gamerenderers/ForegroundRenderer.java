@@ -1,9 +1,8 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import edu.kit.cargame.game.common.GameObject;
-import edu.kit.cargame.io.view.TextureCache;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
  * Renderer for displaying effects in the foreground of the game.
@@ -11,9 +10,11 @@ import edu.kit.cargame.io.view.TextureCache;
  */
 public class ForegroundRenderer extends Renderer {
 
+    private static final int VIGNETTE_TINT = RenderSnapshot.tint(0.2f, 0.2f, 0.4f, 0.3f);
+
     private final GameObject gameObject;
-    private final Sprite vignette;
-    private final Sprite gameOver;
+    private final int vignette;
+    private final int gameOver;
 
     /**
      * Instantiates a new Foreground renderer.
@@ -22,21 +23,19 @@ public class ForegroundRenderer extends Renderer {
      */
     public ForegroundRenderer(GameObject gameObject) {
         this.gameObject = gameObject;
-        this.vignette = new Sprite(TextureCache.getTexture("game/box.png"));
-        this.gameOver = new Sprite(TextureCache.getTexture("game/gameover.png"));
+        this.vignette = SpriteIds.of("game/box.png");
+        this.gameOver = SpriteIds.of("game/gameover.png");
     }
 
     @Override
-    public void render(Batch batch) {
-
+    public void capture(RenderSnapshot snapshot) {
+        int width = gameObject.getGame().getConfig().worldWidth();
+        int height = gameObject.getGame().getConfig().worldHeight();
         if (gameObject.getGame().isSlowdown()) {
-            vignette.setColor(0.2f, 0.2f, 0.4f, 0.3f);
-            vignette.setBounds(0, 0, gameObject.getGame().getConfig().worldWidth(), gameObject.getGame().getConfig().worldHeight());
-            vignette.draw(batch);
+            snapshot.addFixedSprite(vignette, 0, 0, width, height, VIGNETTE_TINT);
         }
         if (gameObject.getGame().isGameOver()) {
-            gameOver.setBounds(0, 0, gameObject.getGame().getConfig().worldWidth(), gameObject.getGame().getConfig().worldHeight());
-            gameOver.draw(batch);
+            snapshot.addFixedSprite(gameOver, 0, 0, width, height, RenderSnapshot.WHITE);
         }
     }
 }
@@ -1,18 +1,22 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import edu.kit.cargame.game.geometry.Point;
 import edu.kit.cargame.game.logic.spawning.Chunk;
-import edu.kit.cargame.io.view.TextureCache;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
+
+import java.util.List;
 
 /**
  * The type Line renderer is a renderer for drawing lines between points.
  * Used for debugging the spawning algorithm.
  */
 public class LineRenderer extends Renderer {
+    private static final int LINE_TINT = RenderSnapshot.tint(1, 0, 0, 1);
+    private static final float THICKNESS = 3;
+
     private final Chunk chunk;
-    private final Texture box;
+    private final int box;
 
     /**
      * Instantiates a new Line renderer.
@@ -21,26 +25,15 @@ public class LineRenderer extends Renderer {
      */
     public LineRenderer(Chunk chunk) {
         this.chunk = chunk;
-        this.box = TextureCache.getTexture("game/box.png");
+        this.box = SpriteIds.of("game/box.png");
     }
 
     @Override
-    public void render(Batch batch) {
-        Point basePoint = chunk.getGlobalPosition();
-        batch.setColor(1, 0, 0, 1);
-        for (int i = 0; i < chunk.getLinePoints().size() - 1; i++) {
-            drawLine(batch, chunk.getLinePoints().get(i).x() + basePoint.x(),
-                chunk.getLinePoints().get(i).y() + basePoint.y(), chunk.getLinePoints().get(i + 1).x() + basePoint.x(),
-                chunk.getLinePoints().get(i + 1).y() + basePoint.y(), 3);
+    public void capture(RenderSnapshot snapshot) {
+        List<Point> points = chunk.getLinePoints();
+        for (int i = 0; i < points.size() - 1; i++) {
+            snapshot.addLine(box, chunk, points.get(i).x(), points.get(i).y(), points.get(i + 1).x(),
+                points.get(i + 1).y(), THICKNESS, LINE_TINT);
         }
     }
-
-    private void drawLine(Batch batch, float x1, float y1, float x2, float y2, float thickness) {
-        float dx = x2 - x1;
-        float dy = y2 - y1;
-        float dist = (float) Math.sqrt(dx * dx + dy * dy);
-        float rad = (float) Math.atan2(dy, dx);
-        batch.draw(box, x1, y1, 0, thickness / 2, dist, thickness, 1, 1,
-            rad * (180 / (float) Math.PI), 0, 0, box.getWidth(), box.getHeight(), false, false);
-    }
 }
@@ -1,9 +1,9 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
 import edu.kit.cargame.game.object.obstacle.MovingObstacle;
 import edu.kit.cargame.game.playercar.MovingCarSprites;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
 /**
  * A renderer for moving obstacles. It checks the state of the obstacle and chooses the right sprite to render.
@@ -11,6 +11,7 @@ import edu.kit.cargame.game.playercar.MovingCarSprites;
 public class MovingObstacleRenderer extends Renderer {
     private final MovingObstacle movingObstacle;
     private final MovingCarSprites sprites;
+    private final MutableBoundingBox size = new MutableBoundingBox();
 
     private static final float UPPER_THRESHOLD = 0.5f;
     private static final float LOWER_THRESHOLD = 0.1f;
@@ -27,17 +28,17 @@ public class MovingObstacleRenderer extends Renderer {
     }
 
     @Override
-    public void render(Batch batch) {
+    public void capture(RenderSnapshot snapshot) {
         // render the player car based on its state
         float relativeYVelocity = movingObstacle.getVerticalVelocity() / movingObstacle.getMaxVelocity();
-        Sprite currentSprite = getAngledSprite(relativeYVelocity);
-        currentSprite.setBounds(movingObstacle.getGlobalPosition().x(), movingObstacle.getGlobalPosition().y(),
-            movingObstacle.getBoundingBox().getWidth() * 1.2f, movingObstacle.getBoundingBox().getHeight() * 1.2f);
-        currentSprite.draw(batch);
+        int currentSprite = getAngledSprite(relativeYVelocity);
+        movingObstacle.getBoundingBoxInto(size);
+        snapshot.addSprite(currentSprite, 0, movingObstacle, 0, 0, size.getWidth() * 1.2f, size.getHeight() * 1.2f,
+            RenderSnapshot.WHITE);
     }
 
-    private Sprite getAngledSprite(float relativeYVelocity) {
-        Sprite currentSprite;
+    private int getAngledSprite(float relativeYVelocity) {
+        int currentSprite;
         if (Math.abs(relativeYVelocity) > UPPER_THRESHOLD) {
             if (relativeYVelocity > 0) {
                 currentSprite = sprites.rightUp();
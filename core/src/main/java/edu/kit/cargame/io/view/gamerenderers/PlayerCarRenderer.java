@@ -1,11 +1,10 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
 import edu.kit.cargame.game.playercar.CarSprites;
 import edu.kit.cargame.game.playercar.UninitialisedCarSprites;
 import edu.kit.cargame.game.playercar.PlayerCar;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
 /**
  * A renderer used for the player car. Based on its state it chooses one of the rotation sprites to render.
@@ -14,6 +13,7 @@ import edu.kit.cargame.game.playercar.PlayerCar;
 public class PlayerCarRenderer extends Renderer {
     private final PlayerCar playerCar;
     private final CarSprites sprites;
+    private final MutableBoundingBox size = new MutableBoundingBox();
 
 
     /**
@@ -29,26 +29,29 @@ public class PlayerCarRenderer extends Renderer {
 
 
     @Override
-    public void render(Batch batch) {
-        Sprite currentSprite = getCurrentCarSprite();
-        Color color;
+    public void capture(RenderSnapshot snapshot) {
+        int currentSprite = getCurrentCarSprite();
+        float r = 1f;
+        float g = 1f;
+        float b = 1f;
         if (playerCar.isInvulnerable() && playerCar.getGame().getCurrentTime() % 10 < 5) {
-            color = new Color(0.7f, 0.5f, 0.5f, 1f);
-        } else {
-            color = new Color(1f, 1f, 1f, 1f);
+            r = 0.7f;
+            g = 0.5f;
+            b = 0.5f;
         }
 
         if (playerCar.hasBadSteering()) {
-            color.mul(new Color(0.6f, 0.4f, 0.2f, 1f));
+            r *= 0.6f;
+            g *= 0.4f;
+            b *= 0.2f;
         }
-        currentSprite.setColor(color);
 
-        currentSprite.setBounds(playerCar.getGlobalPosition().x(), playerCar.getGlobalPosition().y() - 5,
-            playerCar.getBoundingBox().getWidth() * 1.2f, playerCar.getBoundingBox().getHeight() * 1.2f);
-        currentSprite.draw(batch);
+        playerCar.getBoundingBoxInto(size);
+        snapshot.addSprite(currentSprite, 0, playerCar, 0, -5, size.getWidth() * 1.2f, size.getHeight() * 1.2f,
+            RenderSnapshot.tint(r, g, b, 1f));
     }
 
-    private Sprite getCurrentCarSprite() {
+    private int getCurrentCarSprite() {
         switch (playerCar.getDirection()) {
             case LEFT_UP:
                 return sprites.leftUp();
@@ -64,9 +67,4 @@ public class PlayerCarRenderer extends Renderer {
                 throw new IllegalStateException("Unexpected value: " + playerCar.getDirection());
         }
     }
-
-    @Override
-    public void cleanup() {
-        sprites.dispose();
-    }
 }
@@ -2,54 +2,56 @@ package edu.kit.cargame.io.view.gamerenderers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import edu.kit.cargame.common.logging.LoggerManagement;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class representing a single gameObject renderer.
  * Each kind of gameObject with different rendering behaviour has its own renderer.
- * The renderer should check the objects state and render it accordingly.
- * Render function should not be used to count time for things anyway related to in game passing of time.
+ * The renderer should check the objects state and capture the sprites showing it into a {@link RenderSnapshot}.
+ * Capturing happens on the thread simulating the game, so renderers must not load textures or touch the batch,
+ * the snapshot is drawn on the render thread later on.
+ * Capture function should not be used to count time for things anyway related to in game passing of time.
  * For that use the game objects creation time and the game time.
  * Each game object generally has a renderer and each renderer a game object.
  * Because the renderer, however, tends to specify its game object type further, it is not part of the abstract class.
  */
 public abstract class Renderer {
 
-    // Cache sounds to avoid loading
-    private static final HashMap<String, Sound> SOUND_CACHE = new HashMap<>();
+    // Cache sounds to avoid loading, renderers only exist for games that are shown on screen
+    private static final Map<String, Sound> SOUND_CACHE = new ConcurrentHashMap<>();
 
     /**
-     * Render the renderers object or other things to the render batch.
+     * Capture the renderers object or other things into the snapshot.
      *
-     * @param batch the batch
+     * @param snapshot the snapshot
      */
-    public abstract void render(Batch batch);
+    public abstract void capture(RenderSnapshot snapshot);
 
     /**
-     * Play a sound from the given path.
+     * Play a sound from the given path. The sound is played on the render thread.
      *
      * @param path the path
      */
     protected void playSound(String path) {
-        Sound sound = loadSound(path);
-        if (sound == null) {
-            LoggerManagement.getLogger().error("Couldnt load sound from path:" + path);
-            return;
-        }
-        sound.play();
+        Gdx.app.postRunnable(() -> {
+            Sound sound = loadSound(path);
+            if (sound == null) {
+                LoggerManagement.getLogger().error("Couldnt load sound from path:" + path);
+                return;
+            }
+            sound.play();
+        });
     }
 
     private Sound loadSound(String path) {
         if (path == null) {
             return null;
         }
-        if (!SOUND_CACHE.containsKey(path)) {
-            SOUND_CACHE.put(path, Gdx.audio.newSound(Gdx.files.internal(path)));
-        }
-        return SOUND_CACHE.get(path);
+        return SOUND_CACHE.computeIfAbsent(path, key -> Gdx.audio.newSound(Gdx.files.internal(key)));
     }
 
 
@@ -1,23 +1,21 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import edu.kit.cargame.game.common.GameObject;
-import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
 import edu.kit.cargame.game.object.eyecandy.AnimationType;
-import edu.kit.cargame.io.view.renderer.Util;
-
-import java.util.List;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
  * Renderer for displaying one animation using the time difference from the game time and the attached gameObjects creation time.
- * Kills the object after the animation.
+ * The lifetime of the object is handled by the object itself, after the animation nothing is drawn.
  */
 public class SimpleAnimationRenderer extends Renderer {
 
     private final GameObject gameObject;
-    private final List<Texture> animation;
+    private final int firstFrame;
     private final AnimationType animationType;
+    private final MutableBoundingBox size = new MutableBoundingBox();
 
     /**
      * Instantiates a new Simple animation renderer.
@@ -27,9 +25,8 @@ public class SimpleAnimationRenderer extends Renderer {
      */
     public SimpleAnimationRenderer(GameObject gameObject, AnimationType animationType) {
         this.gameObject = gameObject;
-        // Check amount of files in the folder:
-
-        this.animation = Util.loadNTextures("game/animations/" + animationType.getName() + "/%04d.png", animationType.getFrameCount(), 0);
+        this.firstFrame = SpriteIds.ofFrames("game/animations/" + animationType.getName() + "/%04d.png",
+            animationType.getFrameCount(), 0);
         this.animationType = animationType;
         if (!gameObject.getGame().getMuted()) {
             playSound(animationType.getSoundLocation());
@@ -37,19 +34,18 @@ public class SimpleAnimationRenderer extends Renderer {
     }
 
     @Override
-    public void render(Batch batch) {
+    public void capture(RenderSnapshot snapshot) {
         float time = (float) (gameObject.getGame().getCurrentTime() - gameObject.getCreationTime());
         int frame = (int) (time / animationType.getFrameDuration());
-        if (frame >= animation.size()) {
-            gameObject.kill();
+        if (frame >= animationType.getFrameCount()) {
             return;
         }
-        Texture texture = animation.get(frame);
 
-        batch.setColor(1, 1, 1, 1);
-        Point pos = gameObject.getGlobalPosition().add(animationType.getOffset().scale(animationType.getScale()));
-        batch.draw(texture, pos.x(), pos.y(), gameObject.getBoundingBox().getWidth() * animationType.getScale(),
-            gameObject.getBoundingBox().getHeight() * animationType.getScale());
+        float scale = animationType.getScale();
+        gameObject.getBoundingBoxInto(size);
+        snapshot.addSprite(firstFrame, frame, gameObject, animationType.getOffset().x() * scale,
+            animationType.getOffset().y() * scale, size.getWidth() * scale, size.getHeight() * scale,
+            RenderSnapshot.WHITE);
     }
 
 }
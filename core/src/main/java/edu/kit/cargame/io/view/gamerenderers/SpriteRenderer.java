@@ -1,18 +1,19 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import edu.kit.cargame.game.common.GameObject;
-import edu.kit.cargame.game.geometry.Point;
-import edu.kit.cargame.io.view.TextureCache;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SpriteIds;
 
 /**
  * A renderer which always renders the same texture at the position of the game object.
  */
 public class SpriteRenderer extends Renderer {
     private final GameObject gameObject;
-    private final Sprite sprite;
+    private final int sprite;
     private final boolean fillBoundingBox;
+    private int tint = RenderSnapshot.WHITE;
+    private final MutableBoundingBox size = new MutableBoundingBox();
 
     /**
      * Instantiates a new Sprite renderer.
@@ -23,7 +24,7 @@ public class SpriteRenderer extends Renderer {
      */
     public SpriteRenderer(GameObject gameObject, String spritePath, boolean fillBoundingBox) {
         this.gameObject = gameObject;
-        this.sprite = new Sprite(TextureCache.getTexture(spritePath));
+        this.sprite = SpriteIds.of(spritePath);
         this.fillBoundingBox = fillBoundingBox;
     }
 
@@ -46,18 +47,17 @@ public class SpriteRenderer extends Renderer {
      * @param a the alpha component
      */
     public void setColor(float r, float g, float b, float a) {
-        sprite.setColor(r, g, b, a);
+        tint = RenderSnapshot.tint(r, g, b, a);
     }
 
     @Override
-    public void render(Batch batch) {
-        Point pos = gameObject.getGlobalPosition();
+    public void capture(RenderSnapshot snapshot) {
         if (fillBoundingBox) {
-            sprite.setBounds(pos.x(), pos.y(), gameObject.getBoundingBox().getWidth(), gameObject.getBoundingBox().getHeight());
-            sprite.draw(batch);
+            gameObject.getBoundingBoxInto(size);
+            snapshot.addSprite(sprite, 0, gameObject, 0, 0, size.getWidth(), size.getHeight(), tint);
         } else {
-            sprite.setPosition(pos.x(), pos.y());
-            sprite.draw(batch);
+            snapshot.addSprite(sprite, 0, gameObject, 0, 0, RenderSnapshot.TEXTURE_SIZE, RenderSnapshot.TEXTURE_SIZE,
+                tint);
         }
     }
 }
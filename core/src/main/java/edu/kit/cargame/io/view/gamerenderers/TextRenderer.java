@@ -1,10 +1,7 @@
 package edu.kit.cargame.io.view.gamerenderers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import edu.kit.cargame.game.common.GameObject;
-import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
 
 /**
  * A renderer which renders a game object's debug text at its position.
@@ -12,7 +9,6 @@ import edu.kit.cargame.game.geometry.Point;
  */
 public class TextRenderer extends Renderer {
     private final GameObject gameObject;
-    private final BitmapFont font;
     private final Renderer wrappedRenderer;
 
     /**
@@ -23,17 +19,15 @@ public class TextRenderer extends Renderer {
      */
     public TextRenderer(GameObject gameObject, Renderer wrappedRenderer) {
         this.gameObject = gameObject;
-        font = new BitmapFont(Gdx.files.internal("default.fnt"), false);
         this.wrappedRenderer = wrappedRenderer;
     }
 
     @Override
-    public void render(Batch batch) {
+    public void capture(RenderSnapshot snapshot) {
         if (wrappedRenderer != null) {
-            wrappedRenderer.render(batch);
+            wrappedRenderer.capture(snapshot);
         }
-        Point pos = gameObject.getGlobalPosition();
-        font.draw(batch, gameObject.getDebugText(), pos.x(), pos.y());
+        snapshot.addText(gameObject.getDebugText(), gameObject);
     }
 
 
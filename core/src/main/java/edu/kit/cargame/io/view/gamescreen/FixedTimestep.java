@@ -0,0 +1,74 @@
+package edu.kit.cargame.io.view.gamescreen;
+
+/**
+ * Counts the ticks due at a fixed tick rate from the time passed between frames.
+ * Time that is not simulated yet is kept for the next frame. After slow frames at most maxCatchUpTicks ticks are due
+ * at once and the rest of the backlog is dropped, so the game slows down instead of freezing.
+ */
+final class FixedTimestep {
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    // Time passed which is not simulated yet
+    private long accumulator = 0;
+
+    /**
+     * Instantiates a new FixedTimestep.
+     *
+     * @param tickNanos       the duration of a tick in nanoseconds
+     * @param maxCatchUpTicks the maximum number of ticks due at once
+     */
+    FixedTimestep(long tickNanos, int maxCatchUpTicks) {
+        this.tickNanos = tickNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Adds the time passed since the last call and takes the ticks which are due out of it.
+     *
+     * @param elapsedNanos the time passed in nanoseconds
+     * @return the amount of ticks to simulate now
+     */
+    int advance(long elapsedNanos) {
+        accumulator += elapsedNanos;
+        int ticks = (int) Math.min(accumulator / tickNanos, maxCatchUpTicks);
+        accumulator -= ticks * tickNanos;
+        if (accumulator >= tickNanos) {
+            accumulator %= tickNanos;
+        }
+        return ticks;
+    }
+
+    /**
+     * Drops the time which is not simulated yet, e.g. after a pause.
+     */
+    void reset() {
+        accumulator = 0;
+    }
+
+    /**
+     * Gets the time passed which is not simulated yet, always less than a tick.
+     *
+     * @return the remaining time in nanoseconds
+     */
+    long getRemainingNanos() {
+        return accumulator;
+    }
+
+    /**
+     * Gets how far the time is between the last tick and the next one.
+     *
+     * @return the fraction of a tick between 0 and 1
+     */
+    float getInterpolation() {
+        return (float) accumulator / tickNanos;
+    }
+
+    /**
+     * Gets the duration of a tick.
+     *
+     * @return the tick duration in nanoseconds
+     */
+    long getTickNanos() {
+        return tickNanos;
+    }
+}
@@ -0,0 +1,133 @@
+package edu.kit.cargame.io.view.gamescreen;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.TripleBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Ticks a game at a fixed tick rate on a thread of its own, so slow ticks do not drop frames.
+ * After the ticks due at a time, the game is captured into the back snapshot of a {@link TripleBuffer},
+ * which the render thread draws without waiting for the simulation.
+ * After slow ticks at most maxCatchUpTicks ticks are simulated at once, the rest of the backlog is dropped,
+ * so the game slows down instead of freezing.
+ */
+final class SimulationThread {
+    private final Game game;
+    private final TripleBuffer<RenderSnapshot> snapshots;
+    private final Consumer<RenderSnapshot> capture;
+    private final FixedTimestep timestep;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean paused = false;
+    private volatile RuntimeException failure;
+
+    /**
+     * Instantiates a new SimulationThread, which does not run yet.
+     *
+     * @param game            the game to tick, must only be used by this thread once it runs
+     * @param tickRate        the amount of ticks per second
+     * @param maxCatchUpTicks the maximum number of ticks simulated at once to catch up after slow ticks
+     * @param snapshots       the snapshots handed to the render thread
+     * @param capture         captures the game into an emptied snapshot
+     */
+    SimulationThread(Game game, int tickRate, int maxCatchUpTicks, TripleBuffer<RenderSnapshot> snapshots,
+                     Consumer<RenderSnapshot> capture) {
+        this.game = game;
+        this.timestep = new FixedTimestep(TimeUnit.SECONDS.toNanos(1) / tickRate, maxCatchUpTicks);
+        this.snapshots = snapshots;
+        this.capture = capture;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts ticking the game, starting it more than once has no effect.
+     */
+    void start() {
+        if (thread.getState() == Thread.State.NEW) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Pauses or resumes ticking the game. The time spent paused is not simulated afterwards.
+     *
+     * @param paused whether the game should be paused
+     */
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Gets the exception a tick threw, after which the game is no longer ticked.
+     *
+     * @return the exception, null if the ticks did not fail
+     */
+    RuntimeException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Gets the duration of a tick.
+     *
+     * @return the tick duration in nanoseconds
+     */
+    long getTickNanos() {
+        return timestep.getTickNanos();
+    }
+
+    /**
+     * Stops ticking the game and waits until the current tick is done, after which the game may be used again.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (thread.getState() == Thread.State.NEW) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long last = System.nanoTime();
+        long tickNanos = timestep.getTickNanos();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                if (paused) {
+                    last = now;
+                    timestep.reset();
+                    LockSupport.parkNanos(tickNanos);
+                    continue;
+                }
+                int ticks = timestep.advance(now - last);
+                last = now;
+                for (int i = 0; i < ticks; i++) {
+                    game.tick();
+                }
+                if (ticks > 0) {
+                    publish();
+                }
+                LockSupport.parkNanos(tickNanos - timestep.getRemainingNanos());
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+    }
+
+    private void publish() {
+        RenderSnapshot snapshot = snapshots.back();
+        snapshot.reset();
+        capture.accept(snapshot);
+        snapshot.setPublishedNanos(System.nanoTime());
+        snapshots.publish();
+    }
+}
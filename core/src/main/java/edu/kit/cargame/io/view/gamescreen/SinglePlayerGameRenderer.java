@@ -8,25 +8,39 @@ import com.badlogic.gdx.math.Matrix4;
 import edu.kit.cargame.common.logging.Logger;
 import edu.kit.cargame.common.logging.LoggerManagement;
 import edu.kit.cargame.game.common.Game;
-import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.common.TickProfiler;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
 import edu.kit.cargame.game.playercar.CarSettings;
 import edu.kit.cargame.io.config.Config;
 import edu.kit.cargame.io.config.MetaData;
 import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.PolledUserInput;
 import edu.kit.cargame.io.input.UserInput;
+import edu.kit.cargame.io.replay.RecordingUserInput;
+import edu.kit.cargame.io.replay.Replay;
 import edu.kit.cargame.io.view.RenderTarget;
 import edu.kit.cargame.io.view.Scale;
 import edu.kit.cargame.io.view.TextureCache;
-import edu.kit.cargame.io.view.gamerenderers.Renderer;
 import edu.kit.cargame.io.view.postprocessing.ChromaticAbberationShader;
 import edu.kit.cargame.io.view.postprocessing.VertexShader;
 import edu.kit.cargame.io.view.renderer.TextRenderer;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+import edu.kit.cargame.io.view.snapshot.SnapshotRenderer;
+import edu.kit.cargame.io.view.snapshot.TripleBuffer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class for rendering a single player game screen to a stage.
  * Renders the game to a render target and then draws the render target to the screen at the right position
  * Abstraction for displaying two games on screen
  * Also renders the countdown when the game is paused
+ * The game is drawn from render snapshots, which are captured after the ticks. With SIMULATION_THREAD enabled
+ * the game ticks on a {@link SimulationThread} and the snapshots are handed over through a triple buffer,
+ * otherwise the game ticks right before it is drawn.
  */
 public class SinglePlayerGameRenderer {
 
@@ -37,12 +51,24 @@ public class SinglePlayerGameRenderer {
     private final Game game;
     private Batch batch;
     private final Config config;
+    private final CarSettings carSettings;
+    // Only set if replays are recorded
+    private final RecordingUserInput recorder;
+    // Only set if the game ticks on its own thread
+    private final SimulationThread simulation;
+    private final PolledUserInput<ActionTypes> polledInput;
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private final SnapshotRenderer snapshotRenderer = new SnapshotRenderer();
+    // How far the drawn snapshot is interpolated from before its tick to after it
+    private float interpolation = 1;
     private final Logger logger = LoggerManagement.getLogger();
 
     private TextRenderer textRenderer;
     private int countDown = 0;
     private float countDownTimer = 0;
 
+    private final FixedTimestep timestep;
+
     //Amount of time to show each count down step for
     private static final int COUNT_DOWN_TIME = 1;
 
@@ -52,10 +78,20 @@ public class SinglePlayerGameRenderer {
     private static final int SCORE_X = 5;
     private static final int SCORE_Y = 460;
     private static final int COUNTDOWN_SIZE = 200;
+    private static final int PROFILER_LINE_HEIGHT = 30;
+    private static final int NANOS_PER_MICRO = 1000;
+    private static final String REPLAY_DIRECTORY = "./replays";
+    private static final TickProfiler.Phase[] PROFILER_PHASES = TickProfiler.Phase.values();
     // The texture might be bigger than the game for super sampling
     private final int gameTextureWidth;
     private final int gameTextureHeight;
 
+    // Reused every frame, so rendering does not allocate
+    private final Matrix4 projection = new Matrix4().setToOrtho2D(0, 0, GAME_WIDTH, GAME_HEIGHT);
+    private final StringBuilder scoreText = new StringBuilder();
+    private final MutableBoundingBox playerCarBox = new MutableBoundingBox();
+    private final String[] countDownPaths = {"game/countdown/1.png", "game/countdown/2.png", "game/countdown/3.png"};
+
 
     /**
      * Instantiates a new Single player game renderer.
@@ -65,10 +101,21 @@ public class SinglePlayerGameRenderer {
      * @param config      the config for the game
      */
     public SinglePlayerGameRenderer(UserInput<ActionTypes> userInput, CarSettings carSettings, Config config) {
-        game = new Game(userInput, carSettings, config, new MetaData(windowHeight, windowWidth));
+        polledInput = config.simulationThread() ? new PolledUserInput<>(userInput) : null;
+        UserInput<ActionTypes> gameInput = polledInput != null ? polledInput : userInput;
+        recorder = config.recordReplays() ? new RecordingUserInput(gameInput) : null;
+        game = new Game(recorder != null ? recorder : gameInput, carSettings, config, new MetaData(windowHeight, windowWidth));
         this.config = config;
+        this.carSettings = carSettings;
+        timestep = new FixedTimestep(TimeUnit.SECONDS.toNanos(1) / config.tickRate(), config.maxCatchUpTicks());
         gameTextureWidth = GAME_WIDTH * config.superSamplingAliasingMultiplier();
         gameTextureHeight = GAME_HEIGHT * config.superSamplingAliasingMultiplier();
+        // The first frame is drawn before the game ticked
+        publishSnapshot();
+        snapshots.update();
+        simulation = config.simulationThread()
+            ? new SimulationThread(game, config.tickRate(), config.maxCatchUpTicks(), snapshots, this::capture)
+            : null;
     }
 
     /**
@@ -77,10 +124,24 @@ public class SinglePlayerGameRenderer {
     public void show() {
         // Create the SpriteBatch
         batch = new SpriteBatch();
+        if (simulation != null) {
+            simulation.start();
+        }
+    }
+
+    /**
+     * Call when the screen holding this renderer is hidden, e.g. by the pause menu.
+     * The game does not tick until it is unpaused by {@link #pause()} and the countdown is over.
+     */
+    public void hide() {
+        if (simulation != null) {
+            simulation.setPaused(true);
+        }
     }
 
     /**
      * Get the game object itself.
+     * While the game ticks on its own thread, it must not be used, see {@link #isGameOver()} and {@link #getScore()}.
      *
      * @return the game object
      */
@@ -88,11 +149,25 @@ public class SinglePlayerGameRenderer {
         return game;
     }
 
+    /**
+     * Checks whether the game drawn last is over.
+     *
+     * @return boolean
+     */
+    public boolean isGameOver() {
+        return snapshots.front().isGameOver();
+    }
 
-    private Point pointToScreenSpace(Point point) {
-        return new Point(point.x() * gameTextureWidth / GAME_WIDTH, point.y() * gameTextureHeight / GAME_HEIGHT);
+    /**
+     * Gets the score of the game drawn last.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return snapshots.front().getScore();
     }
 
+
     /**
      * Tell the game it was just paused.
      * When render is called again, it will first play the countdown animation and then tick the game.
@@ -100,12 +175,75 @@ public class SinglePlayerGameRenderer {
     public void pause() {
         countDown = 3;
         countDownTimer = System.nanoTime() / 1000000000.0f; // Reset timer
+        timestep.reset();
+        if (simulation != null) {
+            simulation.setPaused(true);
+        }
+    }
+
+    /**
+     * Ticks the game at the fixed tick rate, independent of the frame rate, see {@link FixedTimestep}.
+     *
+     * @param delta the time delta between this frame and the last frame
+     */
+    private void advanceSimulation(float delta) {
+        int ticks = timestep.advance((long) (delta * TimeUnit.SECONDS.toNanos(1)));
+        for (int i = 0; i < ticks; i++) {
+            try {
+                game.tick();
+            } catch (RuntimeException e) {
+                // Keep the input that led to the crash, so it can be reproduced
+                saveReplay();
+                throw e;
+            }
+        }
+        if (ticks > 0) {
+            publishSnapshot();
+            snapshots.update();
+        }
+        interpolation = timestep.getInterpolation();
+    }
+
+    /**
+     * Lets the game tick on its own thread and takes the snapshot it published last.
+     * The snapshot is interpolated by the time passed since it was published.
+     */
+    private void followSimulation() {
+        RuntimeException failure = simulation.getFailure();
+        if (failure != null) {
+            // Keep the input that led to the crash, so it can be reproduced
+            saveReplay();
+            throw new IllegalStateException("The simulation crashed", failure);
+        }
+        polledInput.poll();
+        simulation.setPaused(false);
+        snapshots.update();
+        long sincePublished = System.nanoTime() - snapshots.front().getPublishedNanos();
+        interpolation = Math.clamp((float) sincePublished / simulation.getTickNanos(), 0, 1);
+    }
+
+    private void publishSnapshot() {
+        RenderSnapshot snapshot = snapshots.back();
+        snapshot.reset();
+        capture(snapshot);
+        snapshot.setPublishedNanos(System.nanoTime());
+        snapshots.publish();
+    }
+
+    /**
+     * Captures the game into the snapshot, on the thread ticking the game.
+     */
+    private void capture(RenderSnapshot snapshot) {
+        game.capture(snapshot);
+        if (config.showFpsCounter()) {
+            captureProfiler(snapshot);
+        }
     }
 
     /**
      * Render the game to the screen.
      * Also renders the countdown if the game was paused
-     * Otherwise ticks game
+     * Otherwise ticks game at the fixed tick rate
      *
      * @param delta the time delta between this frame and the last frame
      * @param muted whether the game is muted
@@ -118,26 +256,35 @@ public class SinglePlayerGameRenderer {
                 countDown--;
             }
         }
+        game.setMuted(muted);
         if (countDown == 0) {
-            //Redraw game
-            game.tick();
+            if (simulation != null) {
+                followSimulation();
+            } else {
+                advanceSimulation(delta);
+            }
         }
+        RenderSnapshot snapshot = snapshots.front();
         gameRenderTarget.begin(50.0f / 255.0f, 60f / 255f, 57f / 255f, 1);
 
-        game.setMuted(muted);
         // Start rendering onto the target
         batch.begin();
-        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, GAME_WIDTH, GAME_HEIGHT));
-        for (Renderer r : game.getRenderers()) {
-            r.render(batch);
-        }
+        batch.setProjectionMatrix(projection);
+        snapshotRenderer.draw(snapshot, interpolation, batch);
 
         // Draw score and coins above the game
-        String scoreText = "Score: " + game.getScore();
+        scoreText.setLength(0);
         if (config.showFpsCounter()) {
-            scoreText = "FPS: " + Gdx.graphics.getFramesPerSecond();
+            scoreText.append("FPS: ").append(Gdx.graphics.getFramesPerSecond());
+        } else {
+            scoreText.append("Score: ").append(snapshot.getScore());
         }
         textRenderer.drawText(scoreText, SCORE_X, SCORE_Y, batch);
+        float lineY = SCORE_Y;
+        for (int i = 0; i < snapshot.getHudLineCount(); i++) {
+            lineY -= PROFILER_LINE_HEIGHT;
+            textRenderer.drawText(snapshot.getHudLine(i), SCORE_X, lineY, batch);
+        }
         batch.end();
 
         // Draw countdown on top
@@ -150,7 +297,7 @@ public class SinglePlayerGameRenderer {
 
             //draw countdown sprite
             batch.begin();
-            Texture texture = TextureCache.getTexture("game/countdown/" + countDown + ".png");
+            Texture texture = TextureCache.getTexture(countDownPaths[countDown - 1]);
             batch.draw(texture,
                 (GAME_WIDTH - COUNTDOWN_SIZE) / 2.0f, (GAME_HEIGHT - COUNTDOWN_SIZE) / 2.0f, COUNTDOWN_SIZE, COUNTDOWN_SIZE);
             batch.end();
@@ -167,13 +314,44 @@ public class SinglePlayerGameRenderer {
         // Center render target
         float x = (windowWidth - width) / 2;
         float y = (windowHeight - height) / 2;
-        gameRenderTarget.setUniforms((float) game.getCurrentTime(), game.isSlowdown(), game.getPlayerCar().getDirection().toInt(),
-            pointToScreenSpace(game.getPlayerCar().getGlobalBoundingBox().getMiddleRight()));
+        // The headlight sits at the middle of the right edge of the player car, in texture pixels
+        snapshot.getPlayerCarBoxInto(playerCarBox, interpolation);
+        float headlightX = playerCarBox.maxX() * gameTextureWidth / GAME_WIDTH;
+        float headlightY = (playerCarBox.minY() + playerCarBox.maxY()) / 2 * gameTextureHeight / GAME_HEIGHT;
+        gameRenderTarget.setUniforms((float) snapshot.getCurrentTime(), snapshot.isSlowdown(),
+            snapshot.getPlayerCarDirection(), headlightX, headlightY);
         gameRenderTarget.drawToScreen(x, y, width, height, 0, 0, gameTextureWidth, gameTextureHeight, true);
 
         renderTarget.end();
     }
 
+    /**
+     * Captures the tick profiler stats drawn below the FPS counter, in microseconds over the last ticks,
+     * with the object count of each top level subtree.
+     */
+    private void captureProfiler(RenderSnapshot snapshot) {
+        TickProfiler profiler = game.getProfiler();
+        snapshot.addHudLine().append("US: MIN AVG P99");
+        captureProfilerSection(snapshot, profiler.getTotal(), false);
+        for (TickProfiler.Phase phase : PROFILER_PHASES) {
+            captureProfilerSection(snapshot, profiler.getPhase(phase), false);
+        }
+        for (int i = 0; i < profiler.getSubtreeCount(); i++) {
+            captureProfilerSection(snapshot, profiler.getSubtree(i), true);
+        }
+    }
+
+    private void captureProfilerSection(RenderSnapshot snapshot, TickProfiler.Section section, boolean showObjectCount) {
+        StringBuilder line = snapshot.addHudLine();
+        line.append(section.getName())
+            .append(' ').append(section.getMin() / NANOS_PER_MICRO)
+            .append(' ').append(section.getAverage() / NANOS_PER_MICRO)
+            .append(' ').append(section.getP99() / NANOS_PER_MICRO);
+        if (showObjectCount) {
+            line.append(" OBJECTS ").append(section.getObjectCount());
+        }
+    }
+
     /**
      * Resize the game screen.
      *
@@ -209,6 +387,10 @@ public class SinglePlayerGameRenderer {
      * Dispose of the renderer resources.
      */
     public void dispose() {
+        if (simulation != null) {
+            simulation.stop();
+        }
+        snapshotRenderer.dispose();
         // Dispose of the SpriteBatch and RenderTarget
         if (batch != null) {
             batch.dispose();
@@ -219,6 +401,24 @@ public class SinglePlayerGameRenderer {
         if (renderTarget != null) {
             renderTarget.cleanup();
         }
+        saveReplay();
+    }
+
+    /**
+     * Saves the input recorded so far as a replay to the replay directory, if replays are recorded.
+     */
+    private void saveReplay() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            Path directory = Files.createDirectories(Path.of(REPLAY_DIRECTORY));
+            Path file = Files.createTempFile(directory, "replay-" + game.getSeed() + "-", Replay.FILE_EXTENSION);
+            recorder.toReplay(game, carSettings).save(file);
+            logger.info("Saved replay to " + file);
+        } catch (IOException e) {
+            logger.error(String.format("Couldn't save the replay! %s", e));
+        }
     }
 
     /**
@@ -29,6 +29,12 @@ public class SinglePlayerGameScreen extends GameScreen {
         gameRenderer.show();
     }
 
+    @Override
+    public void hide() {
+        super.hide();
+        gameRenderer.hide();
+    }
+
     @Override
     public void render(float delta) {
         super.render(delta);
@@ -38,12 +44,12 @@ public class SinglePlayerGameScreen extends GameScreen {
 
     @Override
     public boolean isGameOver() {
-        return gameRenderer.getGame().isGameOver();
+        return gameRenderer.isGameOver();
     }
 
     @Override
     public GameOutcome getGameOutcome() {
-        return GameOutcome.createSinglePlayerResult(settings.getPlayer1().carType(), gameRenderer.getGame().getScore());
+        return GameOutcome.createSinglePlayerResult(settings.getPlayer1().carType(), gameRenderer.getScore());
     }
 
     @Override
@@ -34,9 +34,16 @@ public class TwoPlayerGameScreen extends GameScreen {
         gameRendererPlayer2.show();
     }
 
+    @Override
+    public void hide() {
+        super.hide();
+        gameRendererPlayer1.hide();
+        gameRendererPlayer2.hide();
+    }
+
     @Override
     public boolean isGameOver() {
-        return gameRendererPlayer1.getGame().isGameOver() && gameRendererPlayer2.getGame().isGameOver();
+        return gameRendererPlayer1.isGameOver() && gameRendererPlayer2.isGameOver();
     }
 
     @Override
@@ -74,7 +81,7 @@ public class TwoPlayerGameScreen extends GameScreen {
     @Override
     public GameOutcome getGameOutcome() {
         return GameOutcome.createMultiPlayerResult(settings.getPlayer1().carType(), settings.getPlayer2().carType(),
-            gameRendererPlayer1.getGame().getScore(), gameRendererPlayer2.getGame().getScore());
+            gameRendererPlayer1.getScore(), gameRendererPlayer2.getScore());
     }
 
     @Override
@@ -76,10 +76,11 @@ public class TextRenderer {
      * @param batch The batch on which the text should be drawn.
      * @return The width in pixels of the text.
      */
-    public int drawText(String text, float x, float y, Batch batch) {
+    public int drawText(CharSequence text, float x, float y, Batch batch) {
         int currentPosition = 0;
 
-        for (char c : text.toCharArray()) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
             drawCharacter(c, currentPosition, x, y, batch);
             currentPosition += charWidth(c) + 1;
         }
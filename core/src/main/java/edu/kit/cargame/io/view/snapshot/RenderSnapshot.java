@@ -0,0 +1,431 @@
+package edu.kit.cargame.io.view.snapshot;
+
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+
+import java.util.Arrays;
+
+/**
+ * The type RenderSnapshot holds everything needed to draw a game after a tick, so it can be drawn
+ * while the game is already simulating the next ticks, see {@link SnapshotRenderer}.
+ * Every visible object adds sprites with a sprite id from {@link SpriteIds}, a frame, a tint and its position
+ * before and after the tick, so the drawing can interpolate between the two.
+ * The snapshot is filled by one thread and only read once it was handed over through a {@link TripleBuffer},
+ * it never changes while it is read. The arrays are reused, so filling a snapshot does not allocate
+ * once it is large enough.
+ */
+public final class RenderSnapshot {
+    /**
+     * The tint which leaves the colors of a sprite as they are.
+     */
+    public static final int WHITE = 0xFFFFFFFF;
+    /**
+     * The sprite id of entries which only hold a text.
+     */
+    public static final int NO_SPRITE = -1;
+    /**
+     * The size of sprites drawn at the size of their texture, which is only known on the render thread.
+     */
+    public static final float TEXTURE_SIZE = 0;
+
+    private static final int INITIAL_CAPACITY = 256;
+    // Per entry: the sprite id, the frame and the tint
+    private static final int INT_STRIDE = 3;
+    // Per entry: the position before and after the tick, the size and the rotation
+    private static final int FLOAT_STRIDE = 7;
+
+    private int size = 0;
+    private int[] ints = new int[INITIAL_CAPACITY * INT_STRIDE];
+    private float[] floats = new float[INITIAL_CAPACITY * FLOAT_STRIDE];
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private StringBuilder[] hudLines = new StringBuilder[0];
+    private int hudLineCount = 0;
+
+    private long tick;
+    private double currentTime;
+    private int score;
+    private boolean slowdown;
+    private boolean gameOver;
+    private int playerCarDirection;
+    private final MutableBoundingBox previousPlayerCarBox = new MutableBoundingBox();
+    private final MutableBoundingBox playerCarBox = new MutableBoundingBox();
+    private long publishedNanos;
+
+    // Reused while adding sprites
+    private final MutablePoint previousPosition = new MutablePoint();
+    private final MutablePoint position = new MutablePoint();
+
+    /**
+     * Packs a color into a tint, 8 bits per component in the order red, green, blue, alpha.
+     *
+     * @param r the red component between 0 and 1
+     * @param g the green component between 0 and 1
+     * @param b the blue component between 0 and 1
+     * @param a the alpha component between 0 and 1
+     * @return the tint
+     */
+    public static int tint(float r, float g, float b, float a) {
+        return (int) (r * 255) << 24 | (int) (g * 255) << 16 | (int) (b * 255) << 8 | (int) (a * 255);
+    }
+
+    /**
+     * Removes all entries and lines, keeping the capacity.
+     */
+    public void reset() {
+        size = 0;
+        hudLineCount = 0;
+    }
+
+    /**
+     * Sets the state of the game as a whole.
+     *
+     * @param tick        the amount of ticks simulated
+     * @param currentTime the game time
+     * @param score       the score
+     * @param slowdown    whether the game is slowed down
+     * @param gameOver    whether the game is over
+     */
+    public void setGame(long tick, double currentTime, int score, boolean slowdown, boolean gameOver) {
+        this.tick = tick;
+        this.currentTime = currentTime;
+        this.score = score;
+        this.slowdown = slowdown;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Sets the player car, whose headlight is drawn on top of the game.
+     *
+     * @param playerCar the player car
+     * @param direction the direction the car is steering in
+     */
+    public void setPlayerCar(GameObject playerCar, int direction) {
+        playerCarDirection = direction;
+        playerCar.getRenderBoundingBoxInto(previousPlayerCarBox, 0);
+        playerCar.getRenderBoundingBoxInto(playerCarBox, 1);
+    }
+
+    /**
+     * Adds a sprite drawn relative to the given object, moving along with it.
+     *
+     * @param sprite  the sprite id of the first frame
+     * @param frame   the index of the frame
+     * @param object  the object the sprite belongs to
+     * @param offsetX the offset of the sprite from the object along the x axis
+     * @param offsetY the offset of the sprite from the object along the y axis
+     * @param width   the width of the sprite, or {@link #TEXTURE_SIZE}
+     * @param height  the height of the sprite, or {@link #TEXTURE_SIZE}
+     * @param tint    the tint, see {@link #tint(float, float, float, float)}
+     */
+    public void addSprite(int sprite, int frame, GameObject object, float offsetX, float offsetY,
+                          float width, float height, int tint) {
+        object.getRenderPositionInto(previousPosition, 0);
+        object.getRenderPositionInto(position, 1);
+        add(sprite, frame, tint, null, previousPosition.x() + offsetX, previousPosition.y() + offsetY,
+            position.x() + offsetX, position.y() + offsetY, width, height, 0);
+    }
+
+    /**
+     * Adds a sprite at a fixed position in the world.
+     *
+     * @param sprite the sprite id
+     * @param x      the x coordinate of the lower left corner
+     * @param y      the y coordinate of the lower left corner
+     * @param width  the width of the sprite
+     * @param height the height of the sprite
+     * @param tint   the tint, see {@link #tint(float, float, float, float)}
+     */
+    public void addFixedSprite(int sprite, float x, float y, float width, float height, int tint) {
+        add(sprite, 0, tint, null, x, y, x, y, width, height, 0);
+    }
+
+    /**
+     * Adds a sprite stretched from one point to another, relative to the given object.
+     *
+     * @param sprite    the sprite id
+     * @param object    the object the line belongs to
+     * @param x1        the x coordinate of the start, relative to the object
+     * @param y1        the y coordinate of the start, relative to the object
+     * @param x2        the x coordinate of the end, relative to the object
+     * @param y2        the y coordinate of the end, relative to the object
+     * @param thickness the thickness of the line
+     * @param tint      the tint, see {@link #tint(float, float, float, float)}
+     */
+    public void addLine(int sprite, GameObject object, float x1, float y1, float x2, float y2, float thickness,
+                        int tint) {
+        object.getRenderPositionInto(previousPosition, 0);
+        object.getRenderPositionInto(position, 1);
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        float degrees = (float) Math.toDegrees(Math.atan2(dy, dx));
+        add(sprite, 0, tint, null, previousPosition.x() + x1, previousPosition.y() + y1,
+            position.x() + x1, position.y() + y1, length, thickness, degrees);
+    }
+
+    /**
+     * Adds a text drawn at the position of the given object.
+     *
+     * @param text   the text
+     * @param object the object the text belongs to
+     */
+    public void addText(String text, GameObject object) {
+        object.getRenderPositionInto(previousPosition, 0);
+        object.getRenderPositionInto(position, 1);
+        add(NO_SPRITE, 0, WHITE, text, previousPosition.x(), previousPosition.y(), position.x(), position.y(),
+            0, 0, 0);
+    }
+
+    private void add(int sprite, int frame, int tint, String text, float previousX, float previousY,
+                     float x, float y, float width, float height, float rotation) {
+        if (size == texts.length) {
+            ints = Arrays.copyOf(ints, ints.length * 2);
+            floats = Arrays.copyOf(floats, floats.length * 2);
+            texts = Arrays.copyOf(texts, texts.length * 2);
+        }
+        int i = size * INT_STRIDE;
+        ints[i] = sprite;
+        ints[i + 1] = frame;
+        ints[i + 2] = tint;
+        int f = size * FLOAT_STRIDE;
+        floats[f] = previousX;
+        floats[f + 1] = previousY;
+        floats[f + 2] = x;
+        floats[f + 3] = y;
+        floats[f + 4] = width;
+        floats[f + 5] = height;
+        floats[f + 6] = rotation;
+        texts[size] = text;
+        size++;
+    }
+
+    /**
+     * Adds a line of text drawn above the game, e.g. profiler stats.
+     *
+     * @return the empty line to write the text into
+     */
+    public StringBuilder addHudLine() {
+        if (hudLineCount == hudLines.length) {
+            hudLines = Arrays.copyOf(hudLines, Math.max(1, hudLineCount * 2));
+        }
+        if (hudLines[hudLineCount] == null) {
+            hudLines[hudLineCount] = new StringBuilder();
+        }
+        StringBuilder line = hudLines[hudLineCount++];
+        line.setLength(0);
+        return line;
+    }
+
+    /**
+     * Sets the time the snapshot was handed over, which the drawing interpolates from.
+     *
+     * @param publishedNanos the time in nanoseconds, see {@link System#nanoTime()}
+     */
+    public void setPublishedNanos(long publishedNanos) {
+        this.publishedNanos = publishedNanos;
+    }
+
+    /**
+     * Gets the amount of entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the sprite id of an entry, {@link #NO_SPRITE} if it only holds a text.
+     *
+     * @param index the index of the entry
+     * @return the sprite id of the first frame
+     */
+    public int getSprite(int index) {
+        return ints[index * INT_STRIDE];
+    }
+
+    /**
+     * Gets the frame of an entry.
+     *
+     * @param index the index of the entry
+     * @return the index of the frame
+     */
+    public int getFrame(int index) {
+        return ints[index * INT_STRIDE + 1];
+    }
+
+    /**
+     * Gets the tint of an entry.
+     *
+     * @param index the index of the entry
+     * @return the tint, see {@link #tint(float, float, float, float)}
+     */
+    public int getTint(int index) {
+        return ints[index * INT_STRIDE + 2];
+    }
+
+    /**
+     * Gets the x coordinate of an entry.
+     *
+     * @param index the index of the entry
+     * @param alpha how far to interpolate from before the tick (0) to after it (1)
+     * @return the x coordinate of the lower left corner
+     */
+    public float getX(int index, float alpha) {
+        int f = index * FLOAT_STRIDE;
+        return floats[f] + (floats[f + 2] - floats[f]) * alpha;
+    }
+
+    /**
+     * Gets the y coordinate of an entry.
+     *
+     * @param index the index of the entry
+     * @param alpha how far to interpolate from before the tick (0) to after it (1)
+     * @return the y coordinate of the lower left corner
+     */
+    public float getY(int index, float alpha) {
+        int f = index * FLOAT_STRIDE;
+        return floats[f + 1] + (floats[f + 3] - floats[f + 1]) * alpha;
+    }
+
+    /**
+     * Gets the width of an entry.
+     *
+     * @param index the index of the entry
+     * @return the width
+     */
+    public float getWidth(int index) {
+        return floats[index * FLOAT_STRIDE + 4];
+    }
+
+    /**
+     * Gets the height of an entry.
+     *
+     * @param index the index of the entry
+     * @return the height
+     */
+    public float getHeight(int index) {
+        return floats[index * FLOAT_STRIDE + 5];
+    }
+
+    /**
+     * Gets the rotation of an entry around the middle of its left edge.
+     *
+     * @param index the index of the entry
+     * @return the rotation in degrees
+     */
+    public float getRotation(int index) {
+        return floats[index * FLOAT_STRIDE + 6];
+    }
+
+    /**
+     * Gets the text of an entry.
+     *
+     * @param index the index of the entry
+     * @return the text, null if the entry is a sprite
+     */
+    public String getText(int index) {
+        return texts[index];
+    }
+
+    /**
+     * Gets the amount of lines drawn above the game.
+     *
+     * @return the line count
+     */
+    public int getHudLineCount() {
+        return hudLineCount;
+    }
+
+    /**
+     * Gets a line drawn above the game.
+     *
+     * @param index the index of the line
+     * @return the line
+     */
+    public CharSequence getHudLine(int index) {
+        return hudLines[index];
+    }
+
+    /**
+     * Gets the amount of ticks simulated.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the game time.
+     *
+     * @return the current time
+     */
+    public double getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the game is slowed down.
+     *
+     * @return boolean
+     */
+    public boolean isSlowdown() {
+        return slowdown;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return boolean
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the direction the player car is steering in.
+     *
+     * @return the direction, see {@link edu.kit.cargame.game.playercar.PlayerCarDirection#toInt()}
+     */
+    public int getPlayerCarDirection() {
+        return playerCarDirection;
+    }
+
+    /**
+     * Writes the bounding box of the player car in the world into the given box.
+     *
+     * @param out   the box receiving the result
+     * @param alpha how far to interpolate from before the tick (0) to after it (1)
+     * @return the given out box
+     */
+    public MutableBoundingBox getPlayerCarBoxInto(MutableBoundingBox out, float alpha) {
+        return out.set(lerp(previousPlayerCarBox.minX(), playerCarBox.minX(), alpha),
+            lerp(previousPlayerCarBox.minY(), playerCarBox.minY(), alpha),
+            lerp(previousPlayerCarBox.maxX(), playerCarBox.maxX(), alpha),
+            lerp(previousPlayerCarBox.maxY(), playerCarBox.maxY(), alpha));
+    }
+
+    private static float lerp(float from, float to, float alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    /**
+     * Gets the time the snapshot was handed over.
+     *
+     * @return the time in nanoseconds, see {@link System#nanoTime()}
+     */
+    public long getPublishedNanos() {
+        return publishedNanos;
+    }
+}
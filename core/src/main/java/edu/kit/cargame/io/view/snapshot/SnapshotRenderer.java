@@ -0,0 +1,86 @@
+package edu.kit.cargame.io.view.snapshot;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import edu.kit.cargame.io.view.TextureCache;
+
+import java.util.Arrays;
+
+/**
+ * Draws {@link RenderSnapshot}s on the render thread, which is the only place textures are loaded and drawn.
+ * The textures of the sprite ids are looked up once and kept in an array, so drawing does not allocate.
+ */
+public final class SnapshotRenderer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Texture[] textures = new Texture[INITIAL_CAPACITY];
+    private final Color color = new Color();
+    // Only created once a debug text is drawn
+    private BitmapFont font;
+
+    /**
+     * Draws all sprites and texts of the snapshot in the order they were added.
+     * Must be called between begin and end of the batch.
+     *
+     * @param snapshot the snapshot to draw
+     * @param alpha    how far to interpolate from before the tick (0) to after it (1)
+     * @param batch    the batch to draw to
+     */
+    public void draw(RenderSnapshot snapshot, float alpha, Batch batch) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            float x = snapshot.getX(i, alpha);
+            float y = snapshot.getY(i, alpha);
+            int sprite = snapshot.getSprite(i);
+            if (sprite == RenderSnapshot.NO_SPRITE) {
+                drawText(snapshot.getText(i), x, y, batch);
+                continue;
+            }
+            Texture texture = getTexture(sprite + snapshot.getFrame(i));
+            Color.rgba8888ToColor(color, snapshot.getTint(i));
+            batch.setColor(color);
+            float width = snapshot.getWidth(i) == RenderSnapshot.TEXTURE_SIZE ? texture.getWidth() : snapshot.getWidth(i);
+            float height = snapshot.getHeight(i) == RenderSnapshot.TEXTURE_SIZE
+                ? texture.getHeight() : snapshot.getHeight(i);
+            float rotation = snapshot.getRotation(i);
+            if (rotation == 0) {
+                batch.draw(texture, x, y, width, height);
+            } else {
+                batch.draw(texture, x, y, 0, height / 2, width, height, 1, 1, rotation, 0, 0,
+                    texture.getWidth(), texture.getHeight(), false, false);
+            }
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    private void drawText(String text, float x, float y, Batch batch) {
+        if (font == null) {
+            font = new BitmapFont(Gdx.files.internal("default.fnt"), false);
+        }
+        font.draw(batch, text, x, y);
+    }
+
+    private Texture getTexture(int id) {
+        if (id >= textures.length) {
+            textures = Arrays.copyOf(textures, Math.max(textures.length * 2, id + 1));
+        }
+        Texture texture = textures[id];
+        if (texture == null) {
+            texture = TextureCache.getTexture(SpriteIds.pathOf(id));
+            textures[id] = texture;
+        }
+        return texture;
+    }
+
+    /**
+     * Disposes the font, the textures are owned by the {@link TextureCache}.
+     */
+    public void dispose() {
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package edu.kit.cargame.io.view.snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class used to give every texture path a number, so render snapshots only hold numbers
+ * and the textures themselves are only loaded on the render thread, see {@link SnapshotRenderer}.
+ * The frames of an animation get consecutive numbers, so a frame is found by adding its index to the first one.
+ */
+public final class SpriteIds {
+    private static final Map<String, Integer> IDS = new HashMap<>();
+    private static final List<String> PATHS = new ArrayList<>();
+
+    private SpriteIds() {
+        // Utility class
+    }
+
+    /**
+     * Gets the number of the texture at the given path, the same path always gets the same number.
+     *
+     * @param path the path to the texture
+     * @return the sprite id
+     */
+    public static synchronized int of(String path) {
+        return IDS.computeIfAbsent(path, key -> {
+            PATHS.add(key);
+            return PATHS.size() - 1;
+        });
+    }
+
+    /**
+     * Gets the number of the first frame of an animation, the following frames have the following numbers.
+     *
+     * @param format the format of the paths of the frames, with the index of the frame as its only argument
+     * @param count  the amount of frames
+     * @param start  the index of the first frame
+     * @return the sprite id of the first frame
+     */
+    public static synchronized int ofFrames(String format, int count, int start) {
+        return IDS.computeIfAbsent(format + '#' + start + '#' + count, key -> {
+            int first = PATHS.size();
+            for (int i = 0; i < count; i++) {
+                PATHS.add(String.format(format, i + start));
+            }
+            return first;
+        });
+    }
+
+    /**
+     * Gets the path of the texture with the given number.
+     *
+     * @param id the sprite id
+     * @return the path to the texture
+     * @throws IndexOutOfBoundsException if no texture has the number
+     */
+    public static synchronized String pathOf(int id) {
+        return PATHS.get(id);
+    }
+}
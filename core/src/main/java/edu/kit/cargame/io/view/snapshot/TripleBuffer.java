@@ -0,0 +1,75 @@
+package edu.kit.cargame.io.view.snapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The type TripleBuffer hands values from one writing thread to one reading thread without locks.
+ * The writer fills the back value and publishes it, the reader takes the newest published value as its front value.
+ * Both always own a value of their own, the third one is the newest published value waiting in between,
+ * so neither thread ever waits for the other. Values published while the reader did not look are skipped.
+ *
+ * @param <T> the type of the values
+ */
+public final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 3;
+    // Set in the waiting index while the value there was published and not taken yet
+    private static final int FRESH = 4;
+
+    private final T[] values;
+    private final AtomicInteger waiting = new AtomicInteger(2);
+    // Only touched by the writer
+    private int back = 0;
+    // Only touched by the reader
+    private int front = 1;
+
+    /**
+     * Instantiates a new TripleBuffer.
+     *
+     * @param factory creates the three values
+     */
+    @SuppressWarnings("unchecked")
+    public TripleBuffer(Supplier<T> factory) {
+        values = (T[]) new Object[] {factory.get(), factory.get(), factory.get()};
+    }
+
+    /**
+     * Gets the value the writer fills next. Must only be called by the writer.
+     *
+     * @return the back value
+     */
+    public T back() {
+        return values[back];
+    }
+
+    /**
+     * Publishes the back value and gives the writer another one to fill. Must only be called by the writer.
+     * Everything written to the back value before is visible to the reader once it takes the value.
+     */
+    public void publish() {
+        back = waiting.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published value as the front value, if one was published since the last call.
+     * Must only be called by the reader.
+     *
+     * @return whether the front value changed
+     */
+    public boolean update() {
+        if ((waiting.get() & FRESH) == 0) {
+            return false;
+        }
+        front = waiting.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Gets the value the reader took last. Must only be called by the reader.
+     *
+     * @return the front value
+     */
+    public T front() {
+        return values[front];
+    }
+}
@@ -0,0 +1,210 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TestContactCache {
+
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 3L, "INVINCIBLE", true));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    /**
+     * Moves to its target every tick, so it is checked for collisions every tick.
+     */
+    private static final class Mover extends CollidingGameObject {
+        private float targetX;
+        private int enters;
+        private int stays;
+        private int exits;
+        private int handled;
+
+        Mover(Game game, float x) {
+            super(game.getColliders(), game, new Point(x, -500), new BoundingBox(new Point(10, 10)));
+            targetX = x;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            setPosition(targetX, -500);
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+            handled++;
+        }
+
+        @Override
+        protected void onCollisionEnter(CollidingGameObject other) {
+            enters++;
+            super.onCollisionEnter(other);
+        }
+
+        @Override
+        protected void onCollisionStay(CollidingGameObject other) {
+            stays++;
+        }
+
+        @Override
+        protected void onCollisionExit(CollidingGameObject other) {
+            exits++;
+        }
+    }
+
+    /**
+     * A pooled version of {@link Mover}.
+     */
+    private static final class PooledMover extends CollidingGameObject {
+        private float targetX;
+        private int exits;
+
+        private PooledMover(Game game) {
+            super(game);
+        }
+
+        static PooledMover obtain(Game game, float x) {
+            PooledMover mover = game.getPool(PooledMover.class, PooledMover::new).obtain();
+            mover.spawn(game.getColliders(), new Point(x, -500), new BoundingBox(new Point(10, 10)));
+            mover.targetX = x;
+            return mover;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            setPosition(targetX, -500);
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+
+        }
+
+        @Override
+        protected void onCollisionExit(CollidingGameObject other) {
+            exits++;
+        }
+    }
+
+    /**
+     * Kills the target when it is added at the end of a tick, so the target is taken out after the collision phase.
+     */
+    private static final class Killer extends GameObject {
+        private final GameObject target;
+
+        Killer(Game game, GameObject target) {
+            super(game.getColliders(), game, Point.zero());
+            this.target = target;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            target.kill();
+            kill();
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+    }
+
+    @Test
+    public void lastingOverlapIsHandledOnce() {
+        Game game = createGame();
+        Mover first = new Mover(game, 0);
+        Mover second = new Mover(game, 5);
+        for (int i = 0; i < 10; i++) {
+            game.tick();
+        }
+        // Both objects move, but the pair is dispatched once per tick
+        assertEquals(1, first.enters);
+        assertEquals(1, first.handled);
+        assertEquals(1, second.handled);
+        assertEquals(8, first.stays);
+        assertEquals(0, first.exits);
+
+        second.targetX = 100;
+        game.tick();
+        assertEquals(1, first.exits);
+        assertEquals(1, second.exits);
+        assertEquals(0, game.getContacts().size());
+
+        second.targetX = 5;
+        game.tick();
+        assertEquals(2, first.enters);
+        assertEquals(2, second.handled);
+    }
+
+    @Test
+    public void killedObjectExitsItsContacts() {
+        Game game = createGame();
+        Mover first = new Mover(game, 0);
+        Mover second = new Mover(game, 5);
+        for (int i = 0; i < 3; i++) {
+            game.tick();
+        }
+        assertEquals(1, game.getContacts().size());
+
+        second.kill();
+        game.tick();
+        assertEquals(1, first.exits);
+        assertEquals(0, game.getContacts().size());
+    }
+
+    @Test
+    public void reusedObjectExitsItsContacts() {
+        Game game = createGame();
+        Mover first = new Mover(game, 0);
+        PooledMover second = PooledMover.obtain(game, 5);
+        for (int i = 0; i < 3; i++) {
+            game.tick();
+        }
+        assertEquals(1, game.getContacts().size());
+
+        new Killer(game, second);
+        game.tick();
+        // Taken out after the collision phase, the contact is exited right away
+        assertEquals(1, first.exits);
+        assertEquals(1, second.exits);
+        assertEquals(0, game.getContacts().size());
+
+        PooledMover reused = PooledMover.obtain(game, 100);
+        assertSame(second, reused);
+        game.tick();
+        assertEquals(1, first.exits);
+        assertEquals(0, game.getContacts().size());
+    }
+}
@@ -0,0 +1,106 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.object.obstacle.ImmobileObstacle;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGameObjectPool {
+
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 3L, "INVINCIBLE", true));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    // A pooled object which kills itself after the given amount of ticks
+    private static final class Countdown extends GameObject {
+        private int remainingTicks;
+
+        private Countdown(Game game) {
+            super(game);
+        }
+
+        static Countdown obtain(GameObject parent, int remainingTicks, Game game) {
+            Countdown countdown = game.getPool(Countdown.class, Countdown::new).obtain();
+            countdown.spawn(parent, Point.zero());
+            countdown.remainingTicks = remainingTicks;
+            return countdown;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            if (--remainingTicks <= 0) {
+                kill();
+            }
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+    }
+
+    @Test
+    public void obstaclesAreReused() {
+        Game game = createGame();
+        for (int i = 0; i < 3000; i++) {
+            game.tick();
+        }
+        GameObjectPool<ImmobileObstacle> pool = game.getPool(ImmobileObstacle.class, g -> {
+            throw new IllegalStateException("pool should already exist");
+        });
+        assertTrue(pool.getCreatedCount() < pool.getObtainedCount());
+    }
+
+    @Test
+    public void killedTwiceIsFreedOnce() {
+        Game game = createGame();
+        Countdown countdown = Countdown.obtain(game.getColliders(), 100, game);
+        game.tick();
+        countdown.kill();
+        countdown.kill();
+        game.tick();
+
+        GameObjectPool<Countdown> pool = game.getPool(Countdown.class, g -> {
+            throw new IllegalStateException("pool should already exist");
+        });
+        assertEquals(1, pool.getFreeCount());
+        assertSame(countdown, pool.obtain());
+        assertNotSame(countdown, Countdown.obtain(game.getColliders(), 100, game));
+    }
+
+    @Test
+    public void reusedObjectStartsFresh() {
+        Game game = createGame();
+        Countdown countdown = Countdown.obtain(game.getColliders(), 0, game);
+        for (int i = 0; i < 10; i++) {
+            game.tick();
+        }
+        Countdown reused = Countdown.obtain(game.getColliders(), 0, game);
+        assertSame(countdown, reused);
+        assertEquals(game.getCurrentTime(), reused.getCreationTime());
+        assertEquals(new Point(0, 0), reused.getGlobalPosition());
+    }
+}
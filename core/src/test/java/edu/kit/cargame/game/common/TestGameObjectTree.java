@@ -0,0 +1,358 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGameObjectTree {
+
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 3L, "INVINCIBLE", true));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    private static final class Node extends GameObject {
+        Node(GameObject parent, Game game) {
+            super(parent, game, Point.zero());
+        }
+    }
+
+    private static final class Box extends GameObject {
+        Box(GameObject parent, Game game, Point position) {
+            super(parent, game, position);
+            setBoundingBox(new BoundingBox(new Point(10, 10)));
+        }
+    }
+
+    private static final class Collider extends CollidingGameObject {
+        Collider(GameObject parent, Game game, Point position) {
+            super(parent, game, position, new BoundingBox(new Point(10, 10)));
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+
+        }
+    }
+
+    private static final class Counter extends GameObject {
+        private final List<GameObject> ticks;
+        private boolean finished;
+
+        Counter(GameObject parent, Game game, List<GameObject> ticks) {
+            super(parent, game, Point.zero());
+            this.ticks = ticks;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            ticks.add(this);
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return !finished;
+        }
+
+        void finish() {
+            finished = true;
+            updateTicked();
+        }
+    }
+
+    private static final class Carrier extends GameObject {
+        private final int moves;
+
+        Carrier(Game game, Point position, int moves) {
+            super(game.getColliders(), game, position);
+            this.moves = moves;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            for (int i = 0; i < moves; i++) {
+                translate(1, 0);
+            }
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+    }
+
+    private static final class Mover extends CollidingGameObject {
+        private final int moves;
+
+        Mover(Game game, Point position, int moves) {
+            super(game.getColliders(), game, position, new BoundingBox(new Point(10, 10)));
+            this.moves = moves;
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            for (int i = 0; i < moves; i++) {
+                translate(1, 0);
+            }
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+
+        }
+    }
+
+    /**
+     * Ticks the game and collects how many colliding objects were checked for collisions in each tick.
+     */
+    private static List<Integer> queuedColliders(Game game, int ticks) {
+        List<Integer> queued = new ArrayList<>();
+        for (int i = 0; i < ticks; i++) {
+            game.tick();
+            queued.add(game.getQueuedColliderCount());
+        }
+        return queued;
+    }
+
+    private static List<GameObject> children(GameObject parent) {
+        List<GameObject> children = new ArrayList<>();
+        for (GameObject child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            children.add(child);
+        }
+        return children;
+    }
+
+    @Test
+    public void removalKeepsOrder() {
+        Game game = createGame();
+        Node parent = new Node(game.getColliders(), game);
+        game.tick();
+        Node first = new Node(parent, game);
+        Node middle = new Node(parent, game);
+        Node last = new Node(parent, game);
+        game.tick();
+        assertEquals(List.of(first, middle, last), children(parent));
+
+        middle.kill();
+        game.tick();
+        assertEquals(List.of(first, last), children(parent));
+        assertEquals(2, parent.getChildCount());
+
+        last.kill();
+        first.kill();
+        game.tick();
+        assertEquals(List.of(), children(parent));
+        assertNull(parent.getLastChild());
+
+        Node added = new Node(parent, game);
+        game.tick();
+        assertEquals(List.of(added), children(parent));
+    }
+
+    @Test
+    public void killedParentDetachesChildren() {
+        Game game = createGame();
+        Node parent = new Node(game.getColliders(), game);
+        game.tick();
+        Node child = new Node(parent, game);
+        game.tick();
+
+        parent.kill();
+        game.tick();
+        assertEquals(0, parent.getChildCount());
+        assertNull(child.getNextSibling());
+        // the child is taken out one tick later, which must not touch the detached parent
+        game.tick();
+        assertEquals(0, parent.getChildCount());
+    }
+
+    @Test
+    public void refitShrinksToChildren() {
+        Game game = createGame();
+        Node parent = new Node(game.getColliders(), game);
+        game.tick();
+        Box first = new Box(parent, game, new Point(0, 0));
+        Box second = new Box(parent, game, new Point(20, 0));
+        game.tick();
+        MutableBoundingBox bounds = new MutableBoundingBox();
+        assertEquals(30, parent.getBoundingBoxInto(bounds).getWidth());
+
+        second.setPosition(500, 0);
+        assertEquals(510, parent.getBoundingBoxInto(bounds).getWidth());
+        second.setPosition(20, 0);
+        assertEquals(510, parent.getBoundingBoxInto(bounds).getWidth());
+        parent.refitTree();
+        assertEquals(30, parent.getBoundingBoxInto(bounds).getWidth());
+
+        second.kill();
+        game.tick();
+        game.tick();
+        assertEquals(10, parent.getBoundingBoxInto(bounds).getWidth());
+        assertEquals(1, game.getBoundsInflation(), 1e-9);
+    }
+
+    @Test
+    public void killedColliderHandsOverChildren() {
+        Game game = createGame();
+        Node parent = new Node(game.getColliders(), game);
+        game.tick();
+        Node before = new Node(parent, game);
+        Collider collider = new Collider(parent, game, new Point(100, 50));
+        Node after = new Node(parent, game);
+        game.tick();
+        Box first = new Box(collider, game, new Point(5, 5));
+        Box second = new Box(collider, game, new Point(0, 0));
+        game.tick();
+        assertEquals(List.of(before, collider, after), children(parent));
+        assertEquals(List.of(first, second), children(collider));
+        // Children do not count for the collision box
+        MutableBoundingBox bounds = new MutableBoundingBox();
+        assertEquals(10, collider.getBoundingBoxInto(bounds).getWidth());
+
+        collider.kill();
+        game.tick();
+        assertEquals(List.of(before, first, second, after), children(parent));
+        assertEquals(new Point(105, 55), first.getGlobalPosition());
+        assertEquals(new Point(100, 50), second.getGlobalPosition());
+    }
+
+    @Test
+    public void renderPositionInterpolatesLastMove() {
+        Game game = createGame();
+        Carrier carrier = new Carrier(game, new Point(20, 30), 3);
+        game.tick();
+        MutablePoint before = carrier.getRenderPositionInto(new MutablePoint(), 1);
+        game.tick();
+        MutablePoint out = new MutablePoint();
+        carrier.getRenderPositionInto(out, 0);
+        assertEquals(before.x(), out.x());
+        assertEquals(before.y(), out.y());
+        carrier.getRenderPositionInto(out, 0.5f);
+        assertEquals(before.x() + 1.5f, out.x());
+        carrier.getRenderPositionInto(out, 1);
+        assertEquals(before.x() + 3, out.x());
+        assertEquals(before.y(), out.y());
+    }
+
+    @Test
+    public void onlyObjectsWithTickAreTicked() {
+        Game game = createGame();
+        List<GameObject> ticks = new ArrayList<>();
+        Node parent = new Node(game.getColliders(), game);
+        Box box = new Box(parent, game, Point.zero());
+        Counter counter = new Counter(parent, game, ticks);
+        game.tick();
+        assertFalse(parent.isTicked());
+        assertFalse(box.isTicked());
+        assertTrue(counter.isTicked());
+        assertTrue(((GameObject) game.getPlayerCar()).isTicked());
+        game.tick();
+        game.tick();
+        assertEquals(List.of(counter, counter, counter), ticks);
+
+        parent.kill();
+        game.tick();
+        game.tick();
+        ticks.clear();
+        game.tick();
+        assertEquals(List.of(), ticks);
+    }
+
+    @Test
+    public void finishedObjectsStopTicking() {
+        Game game = createGame();
+        List<GameObject> ticks = new ArrayList<>();
+        Counter first = new Counter(game.getColliders(), game, ticks);
+        Counter second = new Counter(game.getColliders(), game, ticks);
+        game.tick();
+        ticks.clear();
+        game.tick();
+        assertEquals(List.of(first, second), ticks);
+
+        first.finish();
+        ticks.clear();
+        game.tick();
+        assertFalse(first.isTicked());
+        assertEquals(List.of(second), ticks);
+    }
+
+    @Test
+    public void tickedObjectsKeepTreeOrder() {
+        Game game = createGame();
+        List<GameObject> ticks = new ArrayList<>();
+        Node first = new Node(game.getColliders(), game);
+        Node second = new Node(game.getColliders(), game);
+        game.tick();
+        Counter inSecond = new Counter(second, game, ticks);
+        game.tick();
+        Counter inFirst = new Counter(first, game, ticks);
+        Counter parent = new Counter(first, game, ticks);
+        game.tick();
+        Counter child = new Counter(parent, game, ticks);
+        game.tick();
+        ticks.clear();
+        game.tick();
+        // Every object before its children and earlier siblings first, no matter when they were added
+        assertEquals(List.of(inFirst, parent, child, inSecond), ticks);
+
+        parent.kill();
+        game.tick();
+        ticks.clear();
+        game.tick();
+        assertEquals(List.of(inFirst, inSecond), ticks);
+    }
+
+    @Test
+    public void movingTwiceQueuesOnce() {
+        Game once = createGame();
+        new Mover(once, new Point(-500, -500), 1);
+        Game twice = createGame();
+        new Mover(twice, new Point(-500, -500), 2);
+        assertEquals(queuedColliders(once, 20), queuedColliders(twice, 20));
+    }
+
+    @Test
+    public void carriedCollidersWithTheSameDisplacementAreSkipped() {
+        Game empty = createGame();
+        new Carrier(empty, new Point(-500, -500), 1);
+        Game loaded = createGame();
+        Carrier carrier = new Carrier(loaded, new Point(-500, -500), 1);
+        // Adds the carrier before its children
+        empty.tick();
+        loaded.tick();
+        new Collider(carrier, loaded, Point.zero());
+        new Collider(carrier, loaded, new Point(20, 0));
+        assertEquals(queuedColliders(empty, 20), queuedColliders(loaded, 20));
+    }
+}
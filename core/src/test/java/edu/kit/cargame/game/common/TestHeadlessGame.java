@@ -0,0 +1,61 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestHeadlessGame {
+    private static final int TICKS = 3000;
+
+    private static Game createGame(long seed) {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", seed));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            private int polls = 0;
+
+            @Override
+            public List<ActionTypes> pressed() {
+                polls++;
+                return (polls / 40) % 2 == 0 ? List.of(ActionTypes.UP) : List.of(ActionTypes.DOWN);
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    private static int run(Game game) {
+        int ticks = 0;
+        while (!game.isGameOver() && ticks < TICKS) {
+            game.tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    @Test
+    public void ticksWithoutRenderers() {
+        Game game = createGame(42);
+        run(game);
+        assertTrue(game.getCurrentTime() > 0);
+    }
+
+    @Test
+    public void sameSeedSameGame() {
+        Game first = createGame(7);
+        Game second = createGame(7);
+        assertEquals(run(first), run(second));
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getCurrentTime(), second.getCurrentTime());
+    }
+}
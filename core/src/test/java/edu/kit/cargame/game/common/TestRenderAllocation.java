@@ -0,0 +1,78 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.geometry.MutableBoundingBox;
+import edu.kit.cargame.game.geometry.MutablePoint;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+import edu.kit.cargame.io.view.snapshot.RenderSnapshot;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestRenderAllocation {
+    private static final int CALLS = 10000;
+
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 5L, "INVINCIBLE", true));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        Game game = new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+        for (int i = 0; i < 300; i++) {
+            game.tick();
+        }
+        game.setRenderInterpolation(0.5f);
+        return game;
+    }
+
+    private static long allocatedBytes(Runnable runnable) {
+        ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // Warm up, so class loading and compilation do not count
+        for (int i = 0; i < CALLS; i++) {
+            runnable.run();
+        }
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            runnable.run();
+        }
+        return bean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @Test
+    public void captureDoesNotAllocate() {
+        Game game = createGame();
+        RenderSnapshot snapshot = new RenderSnapshot();
+        assertEquals(0, allocatedBytes(() -> {
+            snapshot.reset();
+            game.capture(snapshot);
+        }));
+    }
+
+    @Test
+    public void renderPositionsDoNotAllocate() {
+        Game game = createGame();
+        GameObject playerCar = game.getPlayerCar();
+        MutablePoint position = new MutablePoint();
+        MutableBoundingBox boundingBox = new MutableBoundingBox();
+        assertEquals(0, allocatedBytes(() -> {
+            playerCar.getRenderPositionInto(position);
+            playerCar.getRenderBoundingBoxInto(boundingBox);
+        }));
+    }
+}
@@ -0,0 +1,82 @@
+package edu.kit.cargame.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestTickProfiler {
+
+    private static Game createGame(boolean showFpsCounter) {
+        Config config = Config.defaultConfig()
+            .withOverrides(Map.of("SEED", 3L, "INVINCIBLE", true, "SHOW_FPS_COUNTER", showFpsCounter));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    @Test
+    public void measuresEveryPhaseAndSubtree() {
+        Game game = createGame(true);
+        for (int i = 0; i < 500; i++) {
+            game.tick();
+        }
+        TickProfiler profiler = game.getProfiler();
+        assertEquals(TickProfiler.WINDOW, profiler.getTotal().getSampleCount());
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            assertEquals(TickProfiler.WINDOW, profiler.getPhase(phase).getSampleCount());
+        }
+        assertEquals(5, profiler.getSubtreeCount());
+        for (TickProfiler.Section subtree : profiler.getSubtrees()) {
+            assertEquals(TickProfiler.WINDOW, subtree.getSampleCount());
+            assertTrue(subtree.getObjectCount() > 0);
+            assertTrue(subtree.getMin() <= subtree.getAverage());
+            assertTrue(subtree.getAverage() <= subtree.getPercentile(1));
+        }
+    }
+
+    @Test
+    public void disabledProfilerMeasuresNothing() {
+        Game game = createGame(false);
+        for (int i = 0; i < 100; i++) {
+            game.tick();
+        }
+        assertEquals(0, game.getProfiler().getTotal().getSampleCount());
+        assertEquals(0, game.getProfiler().getTotal().getP99());
+    }
+
+    @Test
+    public void statsCoverOnlyTheWindow() {
+        TickProfiler.Section section = new TickProfiler(true).getTotal();
+        for (int i = 1; i <= 100; i++) {
+            section.record(i);
+        }
+        assertEquals(1, section.getMin());
+        assertEquals(50, section.getAverage());
+        assertEquals(99, section.getP99());
+
+        for (int i = 0; i < TickProfiler.WINDOW; i++) {
+            section.record(1000);
+        }
+        assertEquals(1000, section.getMin());
+        assertEquals(1000, section.getP99());
+        assertThrows(IllegalArgumentException.class, () -> section.getPercentile(2));
+    }
+}
@@ -0,0 +1,67 @@
+package edu.kit.cargame.game.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestBatchIntersector {
+    private static final int BOXES = 203;
+
+    /**
+     * Every intersector has to find the same boxes as {@link BoundingBox#intersects(BoundingBox)},
+     * also for ranges which do not fill whole vectors and for boxes which only touch the query.
+     */
+    @Test
+    public void matchesBoundingBox() {
+        Random random = new Random(3);
+        float[] minX = new float[BOXES];
+        float[] minY = new float[BOXES];
+        float[] maxX = new float[BOXES];
+        float[] maxY = new float[BOXES];
+        BoundingBox[] boxes = new BoundingBox[BOXES];
+        for (int i = 0; i < BOXES; i++) {
+            minX[i] = random.nextInt(100);
+            minY[i] = random.nextInt(100);
+            maxX[i] = minX[i] + 1 + random.nextInt(20);
+            maxY[i] = minY[i] + 1 + random.nextInt(20);
+            boxes[i] = new BoundingBox(new Point(minX[i], minY[i]), new Point(maxX[i], maxY[i]));
+        }
+
+        for (int query = 0; query < 50; query++) {
+            BoundingBox queryBox = boxes[random.nextInt(BOXES)];
+            int from = random.nextInt(BOXES);
+            int to = from + random.nextInt(BOXES - from + 1);
+            int[] expected = new int[to - from];
+            int expectedCount = 0;
+            for (int i = from; i < to; i++) {
+                if (boxes[i].intersects(queryBox)) {
+                    expected[expectedCount++] = i;
+                }
+            }
+
+            for (BatchIntersector intersector : new BatchIntersector[]{BatchIntersector.scalar(), BatchIntersector.getDefault()}) {
+                int[] hits = new int[to - from];
+                Point bottomLeft = queryBox.bottomLeft();
+                Point topRight = queryBox.topRight();
+                int hitCount = intersector.intersecting(minX, minY, maxX, maxY, from, to,
+                    bottomLeft.x(), bottomLeft.y(), topRight.x(), topRight.y(), hits);
+                assertEquals(expectedCount, hitCount);
+                assertArrayEquals(expected, hits);
+                assertEquals(expectedCount > 0, intersector.anyIntersecting(minX, minY, maxX, maxY, from, to,
+                    bottomLeft.x(), bottomLeft.y(), topRight.x(), topRight.y()));
+            }
+        }
+    }
+
+    /**
+     * The vectorized intersector is compiled apart from the main sources, it has to be found whenever the module is present.
+     */
+    @Test
+    public void usesVectorApiWhenPresent() {
+        boolean vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(vectorModule, BatchIntersector.getDefault().isVectorized());
+    }
+}
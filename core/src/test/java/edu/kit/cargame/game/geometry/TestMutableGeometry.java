@@ -0,0 +1,79 @@
+package edu.kit.cargame.game.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestMutableGeometry {
+    private static final int RUNS = 200;
+
+    private static BoundingBox randomBox(Random random) {
+        float minX = random.nextInt(200) - 100;
+        float minY = random.nextInt(200) - 100;
+        return new BoundingBox(new Point(minX, minY),
+            new Point(minX + 1 + random.nextInt(50), minY + 1 + random.nextInt(50)));
+    }
+
+    private static Point randomPoint(Random random) {
+        return new Point(random.nextInt(200) - 100 + random.nextFloat(), random.nextInt(200) - 100);
+    }
+
+    @Test
+    public void addInPlaceMatchesPoint() {
+        Random random = new Random(3);
+        for (int i = 0; i < RUNS; i++) {
+            Point a = randomPoint(random);
+            Point b = randomPoint(random);
+            MutablePoint point = new MutablePoint().set(a);
+            assertSame(point, point.addInPlace(new MutablePoint().set(b)));
+            assertEquals(a.add(b), point.toPoint());
+            assertTrue(point.equalsPoint(a.add(b)));
+        }
+    }
+
+    @Test
+    public void offsetIntoMatchesBoundingBox() {
+        Random random = new Random(3);
+        MutableBoundingBox out = new MutableBoundingBox();
+        for (int i = 0; i < RUNS; i++) {
+            BoundingBox box = randomBox(random);
+            Point offset = randomPoint(random);
+            MutableBoundingBox mutable = new MutableBoundingBox(box);
+            assertSame(out, mutable.offsetInto(new MutablePoint().set(offset), out));
+            assertEquals(box.offset(offset), out.toBoundingBox());
+            // The source box is left as it was
+            assertEquals(box, mutable.toBoundingBox());
+        }
+    }
+
+    @Test
+    public void combineInPlaceMatchesBoundingBox() {
+        Random random = new Random(3);
+        for (int i = 0; i < RUNS; i++) {
+            BoundingBox first = randomBox(random);
+            BoundingBox second = randomBox(random);
+            Point offset = randomPoint(random);
+            BoundingBox expected = BoundingBox.combine(first, second.offset(offset));
+            MutableBoundingBox combined = new MutableBoundingBox(first);
+            boolean changed = combined.combineInPlace(new MutableBoundingBox(second), new MutablePoint().set(offset));
+            assertEquals(expected, combined.toBoundingBox());
+            assertEquals(!expected.equals(first), changed);
+        }
+    }
+
+    @Test
+    public void combineWithEmptyYieldsOther() {
+        BoundingBox box = new BoundingBox(new Point(-3, 2), new Point(5, 7));
+        MutableBoundingBox combined = new MutableBoundingBox();
+        assertTrue(combined.combineInPlace(new MutableBoundingBox(box), new MutablePoint()));
+        assertEquals(box, combined.toBoundingBox());
+        assertFalse(combined.combineInPlace(new MutableBoundingBox(), new MutablePoint(4, 4)));
+        assertFalse(combined.combineInPlace(new MutableBoundingBox(box), new MutablePoint()));
+        assertEquals(BoundingBox.combine(BoundingBox.empty(), box), combined.toBoundingBox());
+    }
+}
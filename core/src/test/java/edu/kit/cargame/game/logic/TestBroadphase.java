@@ -0,0 +1,212 @@
+package edu.kit.cargame.game.logic;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.common.CollidingGameObject;
+import edu.kit.cargame.game.common.CollisionCategory;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.common.GameObject;
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.object.collectable.CollectableType;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestBroadphase {
+    private static final int TICKS = 3000;
+
+    /**
+     * Plays a game which steers into the road edges, so the player car gets pushed back while collisions are handled.
+     */
+    private static Game createGame() {
+        return createGame(BroadphaseType.HIERARCHY);
+    }
+
+    private static Game createGame(BroadphaseType type) {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 1L, "INVINCIBLE", true,
+            "COLLISION_BROADPHASE", type.name()));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    private static final class Counter extends CollidingGameObject {
+        private int collisions;
+        private float speed;
+
+        Counter(Game game, Point position, CollisionCategory category, CollisionCategory... collidesWith) {
+            this(game.getColliders(), game, position, category, collidesWith);
+        }
+
+        Counter(GameObject parent, Game game, Point position, CollisionCategory category,
+                CollisionCategory... collidesWith) {
+            super(parent, game, position, new BoundingBox(new Point(10, 10)));
+            setCollisionFilter(category, collidesWith);
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            if (speed != 0) {
+                translate(speed, 0);
+            }
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+
+        @Override
+        protected void handleCollision(CollidingGameObject other) {
+            collisions++;
+        }
+    }
+
+    /**
+     * Moves by itself and carries its children along, which do not move by themselves.
+     */
+    private static final class Carrier extends GameObject {
+        private float speed;
+
+        Carrier(Game game, Point position) {
+            super(game.getColliders(), game, position);
+        }
+
+        @Override
+        protected void tick(double timeScale) {
+            if (speed != 0) {
+                translate(speed, 0);
+            }
+        }
+
+        @Override
+        protected boolean isTicked() {
+            return true;
+        }
+    }
+
+    private static List<Integer> play(BroadphaseType type, long seed) {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", seed, "INVINCIBLE", true,
+            "OBSTACLE_AMOUNT", 50, "COLLISION_BROADPHASE", type.name()));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            private int presses;
+
+            @Override
+            public List<ActionTypes> pressed() {
+                presses++;
+                return List.of(presses % 400 < 200 ? ActionTypes.UP : ActionTypes.DOWN);
+            }
+        };
+        Game game = new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+        for (int i = 0; i < TICKS; i++) {
+            game.tick();
+        }
+        List<Integer> outcome = new ArrayList<>();
+        outcome.add(game.getScore());
+        outcome.add(game.getStatistics().getCollisions());
+        for (CollectableType collectableType : CollectableType.values()) {
+            outcome.add(game.getStatistics().getPickups(collectableType));
+        }
+        return outcome;
+    }
+
+    @Test
+    public void everyBroadphaseFindsTheSameCollisions() {
+        for (long seed = 1; seed <= 3; seed++) {
+            List<Integer> expected = play(BroadphaseType.HIERARCHY, seed);
+            assertEquals(expected, play(BroadphaseType.GRID, seed));
+            assertEquals(expected, play(BroadphaseType.SWEEP_AND_PRUNE, seed));
+        }
+    }
+
+    /**
+     * The outcomes of seeded games from before colliding objects lost their wrapper, which held their position.
+     */
+    @Test
+    public void seededGamesKeepTheirOutcome() {
+        assertEquals(List.of(171571, 141, 6, 2, 6, 1, 1), play(BroadphaseType.HIERARCHY, 1));
+        assertEquals(List.of(184044, 142, 10, 3, 6, 0, 2), play(BroadphaseType.HIERARCHY, 2));
+        assertEquals(List.of(199314, 166, 12, 2, 6, 2, 1), play(BroadphaseType.HIERARCHY, 3));
+    }
+
+    @Test
+    public void fromStringIgnoresCase() {
+        assertEquals(BroadphaseType.SWEEP_AND_PRUNE, BroadphaseType.fromString("sweep_and_prune"));
+        assertThrows(IllegalArgumentException.class, () -> BroadphaseType.fromString("QUADTREE"));
+    }
+
+    @Test
+    public void collisionFilterSkipsUnhandledPairs() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Game game = createGame();
+            Point position = new Point(-500, -500);
+            Counter player = new Counter(game, position, CollisionCategory.PLAYER, CollisionCategory.OBSTACLE);
+            Counter obstacle = new Counter(game, position, CollisionCategory.OBSTACLE, CollisionCategory.PLAYER);
+            Counter otherObstacle = new Counter(game, position, CollisionCategory.OBSTACLE, CollisionCategory.PLAYER);
+            game.tick();
+
+            Broadphase broadphase = type.create();
+            broadphase.prepare(game.getColliders());
+            broadphase.collide(obstacle);
+            assertEquals(1, player.collisions, type.name());
+            assertEquals(1, obstacle.collisions, type.name());
+            assertEquals(0, otherObstacle.collisions, type.name());
+        }
+    }
+
+    @Test
+    public void fastObjectsDoNotTunnel() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Game game = createGame(type);
+            Counter bullet = new Counter(game, new Point(-600, -500), CollisionCategory.PLAYER, CollisionCategory.OBSTACLE);
+            Counter wall = new Counter(game, new Point(-550, -500), CollisionCategory.OBSTACLE, CollisionCategory.PLAYER);
+            game.tick();
+
+            // Jumps from well before the wall to well behind it within one tick
+            bullet.speed = 100;
+            game.tick();
+            assertEquals(1, bullet.collisions, type.name());
+            assertEquals(1, wall.collisions, type.name());
+
+            game.tick();
+            assertEquals(1, wall.collisions, type.name());
+        }
+    }
+
+    @Test
+    public void carriedObjectsHitStillObjects() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Game game = createGame(type);
+            Carrier carrier = new Carrier(game, new Point(-600, -500));
+            Counter wall = new Counter(game, new Point(-570, -500), CollisionCategory.OBSTACLE, CollisionCategory.PLAYER);
+            game.tick();
+            Counter carried = new Counter(carrier, game, Point.zero(), CollisionCategory.PLAYER, CollisionCategory.OBSTACLE);
+            game.tick();
+
+            carrier.speed = 5;
+            for (int i = 0; i < 10; i++) {
+                game.tick();
+            }
+            assertEquals(1, carried.collisions, type.name());
+            assertEquals(1, wall.collisions, type.name());
+        }
+    }
+}
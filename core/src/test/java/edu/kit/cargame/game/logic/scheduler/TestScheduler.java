@@ -0,0 +1,81 @@
+package edu.kit.cargame.game.logic.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestScheduler {
+
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 3L, "INVINCIBLE", true,
+            "BASE_TIMESCALE", 1f, "STOPWATCH_SPEED", 0.5f));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    @Test
+    public void eventsDueTogetherRunInScheduleOrder() {
+        Game game = createGame();
+        List<String> ran = new ArrayList<>();
+        game.addScheduledEvent(2.5, () -> ran.add("later"));
+        game.addScheduledEvent(2.25, () -> ran.add("earlier"));
+        game.addScheduledEvent(5, () -> ran.add("last"));
+        game.tick();
+        game.tick();
+        assertEquals(List.of(), ran);
+        game.tick();
+        assertEquals(List.of("later", "earlier"), ran);
+        game.tick();
+        game.tick();
+        assertEquals(List.of("later", "earlier", "last"), ran);
+    }
+
+    @Test
+    public void cancelledEventDoesNotRun() {
+        Game game = createGame();
+        List<String> ran = new ArrayList<>();
+        ScheduleEvent cancelled = game.addScheduledEvent(1, () -> ran.add("cancelled"));
+        ScheduleEvent kept = game.addScheduledEvent(1, () -> ran.add("kept"));
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        game.tick();
+        game.tick();
+        assertEquals(List.of("kept"), ran);
+        assertFalse(kept.isPending());
+        assertFalse(kept.cancel());
+    }
+
+    @Test
+    public void slowdownDelaysEvents() {
+        Game game = createGame();
+        List<String> ran = new ArrayList<>();
+        game.addSlowdown(100);
+        game.addScheduledEvent(2, () -> ran.add("event"));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(List.of(), ran);
+            game.tick();
+        }
+        assertEquals(List.of("event"), ran);
+    }
+}
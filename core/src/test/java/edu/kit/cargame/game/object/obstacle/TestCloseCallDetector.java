@@ -0,0 +1,133 @@
+package edu.kit.cargame.game.object.obstacle;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.geometry.BoundingBox;
+import edu.kit.cargame.game.geometry.Point;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestCloseCallDetector {
+    // Longer than the close call delay, so every started close call is decided
+    private static final int TICKS = 30;
+
+    /**
+     * Creates a game without spawned obstacles or collectables, so only the obstacles of a test come close to the car.
+     */
+    private static Game createGame() {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 3L, "OBSTACLE_AMOUNT", 0));
+        UserInput<ActionTypes> input = new UserInput<>() {
+            @Override
+            public List<ActionTypes> pressed() {
+                return List.of();
+            }
+        };
+        return new Game(input, new CarSettings(CarType.NORMAL, ColorOptions.RED), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    private static final class Block extends Obstacle {
+        Block(Game game, Point position) {
+            super(game.getColliders(), game, position, new BoundingBox(new Point(10, 10)));
+        }
+    }
+
+    /**
+     * Places an obstacle in front of the player car, closer than the close call distance but not touching it.
+     */
+    private static Block besideCar(Game game, float gap) {
+        BoundingBox car = game.getPlayerCar().getGlobalBoundingBox();
+        return new Block(game, new Point(car.topRight().x() + gap, car.bottomLeft().y()));
+    }
+
+    /**
+     * Ticks both games and counts the close calls rewarded in the first one. A higher score speeds the game up,
+     * so after a reward the scores drift apart a little each tick, the rewards are the jumps in the difference.
+     */
+    private static int rewards(Game game, Game reference, int ticks) {
+        int points = game.getConfig().closeCallPoints();
+        int rewards = 0;
+        for (int i = 0; i < ticks; i++) {
+            int gameScore = game.getPlayerCar().getScore();
+            int referenceScore = reference.getPlayerCar().getScore();
+            game.tick();
+            reference.tick();
+            int gained = game.getPlayerCar().getScore() - gameScore;
+            int referenceGained = reference.getPlayerCar().getScore() - referenceScore;
+            rewards += (gained - referenceGained) / points;
+        }
+        return rewards;
+    }
+
+    @Test
+    public void rewardsEachObstacleOnce() {
+        Game game = createGame();
+        Game reference = createGame();
+        rewards(game, reference, 1);
+        float gap = game.getConfig().closeCallDistance() / 2;
+        Block first = besideCar(game, gap);
+        assertEquals(1, rewards(game, reference, TICKS));
+        assertFalse(first.isCloseCallAvailable());
+
+        Block second = besideCar(game, gap);
+        Block third = besideCar(game, gap);
+        assertEquals(2, rewards(game, reference, TICKS));
+        assertFalse(second.isCloseCallAvailable());
+        assertFalse(third.isCloseCallAvailable());
+        assertEquals(reference.getPlayerCar().getLives(), game.getPlayerCar().getLives());
+    }
+
+    @Test
+    public void ignoresObstaclesFurtherAway() {
+        Game game = createGame();
+        Game reference = createGame();
+        rewards(game, reference, 1);
+        Block far = besideCar(game, game.getConfig().closeCallDistance() + 1);
+        assertEquals(0, rewards(game, reference, TICKS));
+        assertTrue(far.isCloseCallAvailable());
+    }
+
+    @Test
+    public void noRewardWhileInvulnerable() {
+        Game game = createGame();
+        Game reference = createGame();
+        rewards(game, reference, 1);
+        game.getPlayerCar().makeInvulnerable(2 * TICKS);
+        reference.getPlayerCar().makeInvulnerable(2 * TICKS);
+        Block block = besideCar(game, game.getConfig().closeCallDistance() / 2);
+        assertEquals(0, rewards(game, reference, TICKS));
+        // The obstacle keeps its close call for when the car is vulnerable again
+        assertTrue(block.isCloseCallAvailable());
+        assertEquals(1, rewards(game, reference, 3 * TICKS));
+        assertFalse(block.isCloseCallAvailable());
+    }
+
+    @Test
+    public void lostLifeCancelsReward() {
+        Game game = createGame();
+        Game reference = createGame();
+        rewards(game, reference, 1);
+        Block block = besideCar(game, game.getConfig().closeCallDistance() / 2);
+        // A new obstacle is found once the broadphase was prepared with it
+        rewards(game, reference, 2);
+        assertFalse(block.isCloseCallAvailable());
+        // Within the close call delay
+        game.getPlayerCar().removeLife();
+        reference.getPlayerCar().removeLife();
+        assertEquals(0, rewards(game, reference, TICKS));
+        assertEquals(reference.getPlayerCar().getLives(), game.getPlayerCar().getLives());
+    }
+}
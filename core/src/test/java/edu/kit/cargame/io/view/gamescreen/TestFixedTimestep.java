@@ -0,0 +1,48 @@
+package edu.kit.cargame.io.view.gamescreen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestFixedTimestep {
+    private static final long TICK = 1000;
+
+    @Test
+    public void keepsTimeNotSimulatedYet() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        assertEquals(0, timestep.advance(600));
+        assertEquals(1, timestep.advance(600));
+        assertEquals(200, timestep.getRemainingNanos());
+        assertEquals(2, timestep.advance(1800));
+        assertEquals(0, timestep.getRemainingNanos());
+    }
+
+    @Test
+    public void catchUpCapDropsBacklog() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        assertEquals(5, timestep.advance(20 * TICK + 300));
+        assertEquals(300, timestep.getRemainingNanos());
+        assertEquals(0, timestep.advance(0));
+        assertEquals(1, timestep.advance(TICK));
+    }
+
+    @Test
+    public void interpolationIsFractionOfTick() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        timestep.advance(2 * TICK);
+        assertEquals(0f, timestep.getInterpolation());
+        timestep.advance(250);
+        assertEquals(0.25f, timestep.getInterpolation());
+        timestep.advance(TICK + 500);
+        assertEquals(0.75f, timestep.getInterpolation());
+    }
+
+    @Test
+    public void resetDropsRemainder() {
+        FixedTimestep timestep = new FixedTimestep(TICK, 5);
+        timestep.advance(900);
+        timestep.reset();
+        assertEquals(0f, timestep.getInterpolation());
+        assertEquals(0, timestep.advance(900));
+    }
+}
@@ -0,0 +1,80 @@
+package edu.kit.cargame.io.view.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestTripleBuffer {
+    private static final int VALUES = 200000;
+
+    @Test
+    public void readerTakesPublishedValue() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        assertFalse(buffer.update());
+        buffer.back()[0] = 1;
+        buffer.publish();
+        assertTrue(buffer.update());
+        assertEquals(1, buffer.front()[0]);
+        assertFalse(buffer.update());
+        assertEquals(1, buffer.front()[0]);
+    }
+
+    @Test
+    public void readerSkipsStaleValues() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        for (int i = 1; i <= 5; i++) {
+            buffer.back()[0] = i;
+            buffer.publish();
+        }
+        assertTrue(buffer.update());
+        assertEquals(5, buffer.front()[0]);
+    }
+
+    @Test
+    public void writerNeverFillsFrontValue() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        for (int i = 0; i < 10; i++) {
+            buffer.publish();
+            if (i % 3 == 0) {
+                buffer.update();
+            }
+            assertNotSame(buffer.front(), buffer.back());
+        }
+    }
+
+    @Test
+    public void handsOverCompleteValuesAcrossThreads() throws InterruptedException {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[2]);
+        AtomicReference<String> error = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= VALUES; i++) {
+                int[] value = buffer.back();
+                value[0] = i;
+                value[1] = -i;
+                buffer.publish();
+            }
+        });
+        writer.start();
+        int last = 0;
+        while (last < VALUES) {
+            if (!buffer.update()) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int[] value = buffer.front();
+            if (value[0] <= last || value[1] != -value[0]) {
+                error.set("Took " + value[0] + ", " + value[1] + " after " + last);
+                break;
+            }
+            last = value[0];
+        }
+        writer.join();
+        assertNull(error.get());
+    }
+}
@@ -0,0 +1,67 @@
+package edu.kit.cargame.game.geometry;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Tests as many boxes per step as the preferred float vector of the CPU has lanes, the rest one after the other.
+ * Only loaded by {@link BatchIntersector#getDefault()} if the jdk.incubator.vector module is present.
+ * Lives in the vector source set, the only one compiled against the incubating module.
+ */
+final class VectorBatchIntersector extends BatchIntersector {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public int intersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                            float queryMinX, float queryMinY, float queryMaxX, float queryMaxY, int[] hits) {
+        int hitCount = 0;
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            long lanes = mask(minX, minY, maxX, maxY, i, queryMinX, queryMinY, queryMaxX, queryMaxY).toLong();
+            while (lanes != 0) {
+                hits[hitCount++] = i + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+            }
+        }
+        for (; i < to; i++) {
+            if (maxY[i] > queryMinY && minY[i] < queryMaxY && maxX[i] > queryMinX && minX[i] < queryMaxX) {
+                hits[hitCount++] = i;
+            }
+        }
+        return hitCount;
+    }
+
+    @Override
+    public boolean anyIntersecting(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int to,
+                                   float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            if (mask(minX, minY, maxX, maxY, i, queryMinX, queryMinY, queryMaxX, queryMaxY).anyTrue()) {
+                return true;
+            }
+        }
+        for (; i < to; i++) {
+            if (maxY[i] > queryMinY && minY[i] < queryMaxY && maxX[i] > queryMinX && minX[i] < queryMaxX) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static VectorMask<Float> mask(float[] minX, float[] minY, float[] maxX, float[] maxY, int offset,
+                                          float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        return FloatVector.fromArray(SPECIES, maxY, offset).compare(VectorOperators.GT, queryMinY)
+            .and(FloatVector.fromArray(SPECIES, minY, offset).compare(VectorOperators.LT, queryMaxY))
+            .and(FloatVector.fromArray(SPECIES, maxX, offset).compare(VectorOperators.GT, queryMinX))
+            .and(FloatVector.fromArray(SPECIES, minX, offset).compare(VectorOperators.LT, queryMaxX));
+    }
+}
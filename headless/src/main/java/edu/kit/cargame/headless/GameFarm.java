@@ -0,0 +1,170 @@
+package edu.kit.cargame.headless;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.replay.Replay;
+import edu.kit.cargame.io.replay.StateHashRecorder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates many independent seeded games in parallel on a work stealing pool.
+ * Every game owns its config, random generator and object pools, so the outcome of a seed
+ * does not depend on the amount of threads or on the other games.
+ */
+public final class GameFarm {
+    /**
+     * The default maximum number of ticks per game.
+     */
+    public static final long DEFAULT_MAX_TICKS = 100_000;
+
+    private GameFarm() {
+        // Utility class
+    }
+
+    /**
+     * Simulates one game for every seed, each for at most {@link #DEFAULT_MAX_TICKS} ticks.
+     *
+     * @param seeds       the seeds of the games
+     * @param config      the config used for every game, its seed gets replaced
+     * @param inputPolicy creates the input of each game
+     * @param threads     the amount of threads to simulate on
+     * @return the outcomes, in the order of the seeds
+     */
+    public static List<GameOutcome> run(List<Long> seeds, Config config, InputPolicy inputPolicy, int threads) {
+        return run(seeds, config, inputPolicy, threads, DEFAULT_MAX_TICKS);
+    }
+
+    /**
+     * Simulates one game for every seed.
+     *
+     * @param seeds       the seeds of the games
+     * @param config      the config used for every game, its seed gets replaced
+     * @param inputPolicy creates the input of each game
+     * @param threads     the amount of threads to simulate on
+     * @param maxTicks    the maximum number of ticks per game, games which are not over by then get stopped
+     * @return the outcomes, in the order of the seeds
+     * @throws IllegalArgumentException if threads is smaller than one
+     */
+    public static List<GameOutcome> run(List<Long> seeds, Config config, InputPolicy inputPolicy, int threads,
+                                        long maxTicks) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed, got " + threads);
+        }
+        long[] seedArray = seeds.stream().mapToLong(Long::longValue).toArray();
+        GameOutcome[] outcomes = new GameOutcome[seedArray.length];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new SimulationTask(seedArray, outcomes, 0, seedArray.length, config, inputPolicy, maxTicks));
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Simulates a single game on the calling thread.
+     *
+     * @param seed        the seed of the game
+     * @param config      the config of the game, its seed gets replaced
+     * @param inputPolicy creates the input of the game
+     * @param maxTicks    the maximum number of ticks, the game gets stopped if it is not over by then
+     * @return the outcome
+     */
+    public static GameOutcome simulate(long seed, Config config, InputPolicy inputPolicy, long maxTicks) {
+        Config seededConfig = config.withOverrides(Map.of("SEED", seed));
+        CarSettings carSettings = new CarSettings(CarType.fromString(config.skipMenusCarName()), ColorOptions.RED);
+        Game game = new Game(inputPolicy.create(seed), carSettings, seededConfig,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+
+        long ticks = 0;
+        while (!game.isGameOver() && ticks < maxTicks) {
+            game.tick();
+            ticks++;
+        }
+        return GameOutcome.of(seed, game, ticks);
+    }
+
+    /**
+     * Simulates a recorded game again on the calling thread, with the recorded input.
+     *
+     * @param replay   the replay of the game
+     * @param maxTicks the maximum number of ticks, the game gets stopped if it is not over by then
+     * @return the outcome, which matches the one of the recorded game if it ran for at least as many ticks
+     */
+    public static GameOutcome simulate(Replay replay, long maxTicks) {
+        return simulate(replay, maxTicks, null);
+    }
+
+    /**
+     * Simulates a recorded game again on the calling thread, with the recorded input,
+     * and records the state hash of every tick.
+     *
+     * @param replay   the replay of the game
+     * @param maxTicks the maximum number of ticks, the game gets stopped if it is not over by then
+     * @param hashes   records the state hashes, or null if they are not needed
+     * @return the outcome, which matches the one of the recorded game if it ran for at least as many ticks
+     */
+    public static GameOutcome simulate(Replay replay, long maxTicks, StateHashRecorder hashes) {
+        Config config = replay.getConfig();
+        Game game = new Game(replay.createInput(), replay.getCarSettings(), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+
+        long tickLimit = Math.min(replay.getTicks(), maxTicks);
+        long ticks = 0;
+        while (!game.isGameOver() && ticks < tickLimit) {
+            game.tick();
+            if (hashes != null) {
+                hashes.record(game);
+            }
+            ticks++;
+        }
+        return GameOutcome.of(config.seed(), game, ticks);
+    }
+
+    /**
+     * Splits the seeds in halves until a single game is left, so idle threads can steal the other halves.
+     */
+    private static final class SimulationTask extends RecursiveAction {
+        private final long[] seeds;
+        private final GameOutcome[] outcomes;
+        private final int from;
+        private final int to;
+        private final Config config;
+        private final InputPolicy inputPolicy;
+        private final long maxTicks;
+
+        SimulationTask(long[] seeds, GameOutcome[] outcomes, int from, int to, Config config, InputPolicy inputPolicy,
+                       long maxTicks) {
+            this.seeds = seeds;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+            this.config = config;
+            this.inputPolicy = inputPolicy;
+            this.maxTicks = maxTicks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                outcomes[from] = simulate(seeds[from], config, inputPolicy, maxTicks);
+                return;
+            }
+            if (to - from < 1) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SimulationTask(seeds, outcomes, from, middle, config, inputPolicy, maxTicks),
+                new SimulationTask(seeds, outcomes, middle, to, config, inputPolicy, maxTicks));
+        }
+    }
+}
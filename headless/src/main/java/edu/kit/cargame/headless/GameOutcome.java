@@ -0,0 +1,53 @@
+package edu.kit.cargame.headless;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.common.GameStatistics;
+import edu.kit.cargame.game.object.collectable.CollectableType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The result of one simulated game.
+ *
+ * @param seed            the seed of the game
+ * @param score           the score at the end of the game
+ * @param ticks           the amount of ticks the game was simulated for
+ * @param gameOver        whether the game ended, otherwise it was stopped at the tick limit
+ * @param collisions      the amount of collisions of the player car with obstacles
+ * @param pickups         the amount of collectables picked up, by type
+ * @param boundsInflation how much larger the collision bounding boxes were than needed at the end of the game,
+ *                        see {@link Game#getBoundsInflation()}
+ */
+public record GameOutcome(long seed, int score, long ticks, boolean gameOver, int collisions,
+                          Map<CollectableType, Integer> pickups, double boundsInflation) {
+
+    /**
+     * Collects the outcome of the given game.
+     *
+     * @param seed  the seed of the game
+     * @param game  the game, after it was simulated
+     * @param ticks the amount of ticks the game was simulated for
+     * @return the outcome
+     */
+    public static GameOutcome of(long seed, Game game, long ticks) {
+        GameStatistics statistics = game.getStatistics();
+        Map<CollectableType, Integer> pickups = new EnumMap<>(CollectableType.class);
+        for (CollectableType type : CollectableType.values()) {
+            pickups.put(type, statistics.getPickups(type));
+        }
+        return new GameOutcome(seed, game.getScore(), ticks, game.isGameOver(), statistics.getCollisions(),
+            Collections.unmodifiableMap(pickups), game.getBoundsInflation());
+    }
+
+    /**
+     * Gets the amount of collectables of the given type which were picked up.
+     *
+     * @param type the type of the collectable
+     * @return the pickups
+     */
+    public int pickups(CollectableType type) {
+        return pickups.getOrDefault(type, 0);
+    }
+}
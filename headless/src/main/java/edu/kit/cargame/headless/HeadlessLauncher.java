@@ -0,0 +1,108 @@
+package edu.kit.cargame.headless;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import edu.kit.cargame.common.logging.Logger;
+import edu.kit.cargame.common.logging.LoggerManagement;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.replay.StateHashLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Launches seeded games without any window, textures or sounds.
+ * Usage: {@code HeadlessLauncher [--games N] [--first-seed S] [--max-ticks T] [--threads N] [--set KEY=VALUE]...}
+ * {@code --set} overrides a config value for all games, e.g. {@code --set COLLECTABLE_CHANCE=0.3}.
+ * With {@code --replay FILE [--repeat N] [--hashes OUT] [--rewind I]} a recorded game is simulated again instead,
+ * N times, optionally writing the state hash of every tick to OUT. With a rewind interval I, the cost of rewind
+ * markers every I ticks and of rewinding the game is measured as well.
+ * {@code --compare FIRST --to SECOND} finds the first tick at which the games of two state hash logs diverged.
+ */
+public class HeadlessLauncher {
+    private static final int DEFAULT_GAMES = 10;
+    private static final long DEFAULT_FIRST_SEED = 1;
+    private static final Logger LOGGER = LoggerManagement.getLogger();
+
+    public static void main(String[] args) {
+        int games = DEFAULT_GAMES;
+        long firstSeed = DEFAULT_FIRST_SEED;
+        long maxTicks = GameFarm.DEFAULT_MAX_TICKS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Map<String, String> overrides = new HashMap<>();
+        Path replay = null;
+        int repetitions = 1;
+        Path hashes = null;
+        int rewindInterval = 0;
+        Path compared = null;
+        Path comparedTo = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[i + 1]);
+                case "--first-seed" -> firstSeed = Long.parseLong(args[i + 1]);
+                case "--max-ticks" -> maxTicks = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--replay" -> replay = Path.of(args[i + 1]);
+                case "--repeat" -> repetitions = Integer.parseInt(args[i + 1]);
+                case "--hashes" -> hashes = Path.of(args[i + 1]);
+                case "--rewind" -> rewindInterval = Integer.parseInt(args[i + 1]);
+                case "--compare" -> compared = Path.of(args[i + 1]);
+                case "--to" -> comparedTo = Path.of(args[i + 1]);
+                case "--set" -> {
+                    String[] override = args[i + 1].split("=", 2);
+                    if (override.length != 2) {
+                        throw new IllegalArgumentException("Expected KEY=VALUE, got: " + args[i + 1]);
+                    }
+                    overrides.put(override[0], override[1]);
+                }
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        if (compared != null || comparedTo != null) {
+            if (compared == null || comparedTo == null) {
+                throw new IllegalArgumentException("--compare and --to have to be given together");
+            }
+            compare(compared, comparedTo);
+            return;
+        }
+
+        if (replay != null) {
+            createApplication(new ReplaySimulation(replay, maxTicks, repetitions, hashes, rewindInterval));
+            return;
+        }
+
+        List<Long> seeds = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            seeds.add(firstSeed + i);
+        }
+        Config config = Config.getConfig().withOverrides(overrides);
+        createApplication(new HeadlessSimulation(config, seeds, maxTicks, threads));
+    }
+
+    private static void compare(Path first, Path second) {
+        try {
+            OptionalLong divergence = StateHashLog.firstDivergence(first, second);
+            if (divergence.isPresent()) {
+                LOGGER.info(String.format("%s and %s diverge at tick %d", first, second, divergence.getAsLong()));
+            } else {
+                LOGGER.info(String.format("%s and %s do not diverge", first, second));
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format("Couldn't compare %s and %s! %s", first, second, e));
+        }
+    }
+
+    private static HeadlessApplication createApplication(ApplicationListener simulation) {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The simulation runs completely inside create, no render loop is needed
+        configuration.updatesPerSecond = -1;
+        return new HeadlessApplication(simulation, configuration);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.kit.cargame.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import edu.kit.cargame.common.logging.Logger;
+import edu.kit.cargame.common.logging.LoggerManagement;
+import edu.kit.cargame.game.object.collectable.CollectableType;
+import edu.kit.cargame.io.config.Config;
+
+import java.util.List;
+
+/**
+ * Runs seeded games without rendering, as fast as possible and in parallel, and logs their results.
+ * Exits the application once all games are done.
+ */
+public class HeadlessSimulation extends ApplicationAdapter {
+    private final Config config;
+    private final List<Long> seeds;
+    private final long maxTicks;
+    private final int threads;
+    private final Logger logger = LoggerManagement.getLogger();
+
+    /**
+     * Instantiates a new headless simulation.
+     *
+     * @param config   the config used for every game, its seed gets replaced
+     * @param seeds    the seeds of the games to simulate
+     * @param maxTicks the maximum number of ticks per game, games which are not over by then get stopped
+     * @param threads  the amount of threads to simulate the games on
+     */
+    public HeadlessSimulation(Config config, List<Long> seeds, long maxTicks, int threads) {
+        this.config = config;
+        this.seeds = seeds;
+        this.maxTicks = maxTicks;
+        this.threads = threads;
+    }
+
+    @Override
+    public void create() {
+        long start = System.nanoTime();
+        List<GameOutcome> outcomes = GameFarm.run(seeds, config, RandomUserInput::new, threads, maxTicks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long totalTicks = 0;
+        for (GameOutcome outcome : outcomes) {
+            logger.info(String.format("Seed %d: %d ticks, score %d, %s, %d collisions, pickups %s, bounds inflation %.3f",
+                outcome.seed(), outcome.ticks(), outcome.score(), outcome.gameOver() ? "game over" : "stopped",
+                outcome.collisions(), outcome.pickups(), outcome.boundsInflation()));
+            totalTicks += outcome.ticks();
+        }
+        logSummary(outcomes, totalTicks, seconds);
+        Gdx.app.exit();
+    }
+
+    private void logSummary(List<GameOutcome> outcomes, long totalTicks, double seconds) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        double games = outcomes.size();
+        StringBuilder pickups = new StringBuilder();
+        for (CollectableType type : CollectableType.values()) {
+            double average = outcomes.stream().mapToInt(outcome -> outcome.pickups(type)).sum() / games;
+            pickups.append(String.format(" %s %.2f", type, average));
+        }
+        logger.info(String.format("Average of %d games: %.0f ticks, score %.0f, %.2f collisions, pickups%s",
+            outcomes.size(), totalTicks / games, outcomes.stream().mapToInt(GameOutcome::score).sum() / games,
+            outcomes.stream().mapToInt(GameOutcome::collisions).sum() / games, pickups));
+        logger.info(String.format("Simulated %d ticks in %.2fs on %d threads, %.0f ticks/s",
+            totalTicks, seconds, threads, totalTicks / seconds));
+    }
+}
@@ -0,0 +1,20 @@
+package edu.kit.cargame.headless;
+
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+/**
+ * Creates the input which steers the player car of one simulated game.
+ * Every game gets its own input, so inputs do not have to be thread safe.
+ */
+@FunctionalInterface
+public interface InputPolicy {
+
+    /**
+     * Creates the input for the game with the given seed.
+     *
+     * @param seed the seed of the game
+     * @return the input
+     */
+    UserInput<ActionTypes> create(long seed);
+}
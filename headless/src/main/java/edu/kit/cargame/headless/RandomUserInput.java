@@ -0,0 +1,47 @@
+package edu.kit.cargame.headless;
+
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.input.UserInput;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A seeded user input, which holds a random steering direction for a random amount of polls.
+ * Used to drive the player car of headless games reproducibly.
+ */
+public class RandomUserInput extends UserInput<ActionTypes> {
+    private static final List<List<ActionTypes>> CHOICES = List.of(
+        List.of(),
+        List.of(ActionTypes.UP),
+        List.of(ActionTypes.DOWN),
+        List.of(ActionTypes.RIGHT),
+        List.of(ActionTypes.LEFT),
+        List.of(ActionTypes.UP, ActionTypes.RIGHT),
+        List.of(ActionTypes.DOWN, ActionTypes.RIGHT)
+    );
+    private static final int MAX_HOLD_POLLS = 30;
+
+    private final Random random;
+    private List<ActionTypes> current = CHOICES.getFirst();
+    private int remainingPolls = 0;
+
+    /**
+     * Instantiates a new random user input.
+     *
+     * @param seed the seed of the input sequence
+     */
+    public RandomUserInput(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public List<ActionTypes> pressed() {
+        if (remainingPolls <= 0) {
+            current = CHOICES.get(random.nextInt(CHOICES.size()));
+            remainingPolls = 1 + random.nextInt(MAX_HOLD_POLLS);
+        }
+        remainingPolls--;
+        return current;
+    }
+}
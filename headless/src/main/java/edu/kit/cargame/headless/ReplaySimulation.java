@@ -0,0 +1,132 @@
+package edu.kit.cargame.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import edu.kit.cargame.common.logging.Logger;
+import edu.kit.cargame.common.logging.LoggerManagement;
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.replay.RecordingUserInput;
+import edu.kit.cargame.io.replay.Replay;
+import edu.kit.cargame.io.replay.RewindBuffer;
+import edu.kit.cargame.io.replay.StateHashRecorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Simulates a recorded game again without rendering, as fast as possible, and logs its result.
+ * Repeating the replay turns a real session into a workload for measuring the tick rate.
+ * Optionally the state hash of every tick of the first repetition is written to a file, see {@link StateHashRecorder}.
+ * Optionally the replay is also simulated with a {@link RewindBuffer}, once without and once with its checkpoint,
+ * logging the cost of its markers and of rewinding by a few seconds at the end.
+ * Exits the application once all repetitions are done.
+ */
+public class ReplaySimulation extends ApplicationAdapter {
+    private static final int REWIND_SECONDS = 3;
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final Path file;
+    private final long maxTicks;
+    private final int repetitions;
+    private final Path hashFile;
+    private final int rewindInterval;
+    private final Logger logger = LoggerManagement.getLogger();
+
+    /**
+     * Instantiates a new replay simulation.
+     *
+     * @param file        the replay file
+     * @param maxTicks    the maximum number of ticks, the game gets stopped if it is not over by then
+     * @param repetitions how often the replay is simulated
+     * @param hashFile    the file the state hashes are written to, or null if they are not needed
+     * @param rewindInterval the amount of ticks between the markers of the rewind buffer, 0 to not measure it
+     */
+    public ReplaySimulation(Path file, long maxTicks, int repetitions, Path hashFile, int rewindInterval) {
+        this.file = file;
+        this.maxTicks = maxTicks;
+        this.repetitions = repetitions;
+        this.hashFile = hashFile;
+        this.rewindInterval = rewindInterval;
+    }
+
+    @Override
+    public void create() {
+        Replay replay;
+        try {
+            replay = Replay.load(file);
+        } catch (IOException e) {
+            logger.error(String.format("Couldn't load the replay %s! %s", file, e));
+            Gdx.app.exit();
+            return;
+        }
+        logger.info(String.format("Replaying %s: seed %d, %d ticks, %d polls", file, replay.getConfig().seed(),
+            replay.getTicks(), replay.getPollCount()));
+        for (int i = 0; i < repetitions; i++) {
+            long start = System.nanoTime();
+            GameOutcome outcome;
+            if (i == 0 && hashFile != null) {
+                outcome = simulateHashed(replay);
+                if (outcome == null) {
+                    break;
+                }
+            } else {
+                outcome = GameFarm.simulate(replay, maxTicks);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            logger.info(String.format("%d ticks, score %d, %s, %d collisions, pickups %s, %.0f ticks/s",
+                outcome.ticks(), outcome.score(), outcome.gameOver() ? "game over" : "stopped", outcome.collisions(),
+                outcome.pickups(), outcome.ticks() / seconds));
+        }
+        if (rewindInterval > 0) {
+            measureRewind(replay, false);
+            measureRewind(replay, true);
+        }
+        Gdx.app.exit();
+    }
+
+    private void measureRewind(Replay replay, boolean withCheckpoint) {
+        Config config = replay.getConfig();
+        RecordingUserInput recorder = new RecordingUserInput(replay.createInput());
+        Game game = new Game(recorder, replay.getCarSettings(), config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+        long rewoundTicks = (long) REWIND_SECONDS * config.tickRate();
+        RewindBuffer rewind = withCheckpoint
+            ? new RewindBuffer(game, recorder, replay.getCarSettings(), rewindInterval,
+            RewindBuffer.DEFAULT_BUDGET_BYTES, rewoundTicks)
+            : new RewindBuffer(game, recorder, replay.getCarSettings(), rewindInterval,
+            RewindBuffer.DEFAULT_BUDGET_BYTES);
+        long tickLimit = Math.min(replay.getTicks(), maxTicks);
+        long start = System.nanoTime();
+        while (!game.isGameOver() && game.getTickCount() < tickLimit) {
+            game.tick();
+            rewind.afterTick();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        String mode = withCheckpoint ? "with a checkpoint" : "without a checkpoint";
+        logger.info(String.format("Rewind buffer %s: %d markers in %d bytes, %.1f bytes and %.2f us per tick, "
+                + "%.0f ticks/s", mode, rewind.getMarkerCount(), rewind.getBytes(), rewind.getBytesPerTick(),
+            rewind.getAverageMarkerNanos() / NANOS_PER_MICRO / rewindInterval, game.getTickCount() / seconds));
+        if (rewind.getMarkerCount() == 0) {
+            return;
+        }
+        Game restored = rewind.rewind(rewoundTicks, replay.createInput());
+        logger.info(String.format("Rewound from tick %d to tick %d in %.1f ms, simulating %d ticks",
+            game.getTickCount(), restored.getTickCount(), rewind.getLastRestoreNanos() / NANOS_PER_MILLI,
+            rewind.getLastRestoreTicks()));
+    }
+
+    private GameOutcome simulateHashed(Replay replay) {
+        try (StateHashRecorder hashes = StateHashRecorder.create(hashFile, replay.getConfig().seed())) {
+            GameOutcome outcome = GameFarm.simulate(replay, maxTicks, hashes);
+            logger.info(String.format("Wrote the state hashes of %d ticks to %s", hashes.getTicks(), hashFile));
+            return outcome;
+        } catch (IOException | UncheckedIOException e) {
+            logger.error(String.format("Couldn't write the state hashes to %s! %s", hashFile, e));
+            return null;
+        }
+    }
+}
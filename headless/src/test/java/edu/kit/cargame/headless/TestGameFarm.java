@@ -0,0 +1,43 @@
+package edu.kit.cargame.headless;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.object.collectable.CollectableType;
+import edu.kit.cargame.io.config.Config;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGameFarm {
+    private static final List<Long> SEEDS = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    private static final long MAX_TICKS = 3000;
+
+    @Test
+    public void outcomesDoNotDependOnThreads() {
+        Config config = Config.defaultConfig();
+        List<GameOutcome> sequential = GameFarm.run(SEEDS, config, RandomUserInput::new, 1, MAX_TICKS);
+        List<GameOutcome> parallel = GameFarm.run(SEEDS, config, RandomUserInput::new, 4, MAX_TICKS);
+
+        assertEquals(sequential, parallel);
+        for (int i = 0; i < SEEDS.size(); i++) {
+            assertEquals(SEEDS.get(i), parallel.get(i).seed());
+            assertEquals(GameFarm.simulate(SEEDS.get(i), config, RandomUserInput::new, MAX_TICKS), parallel.get(i));
+        }
+    }
+
+    @Test
+    public void pickupsAreCounted() {
+        List<GameOutcome> outcomes = GameFarm.run(SEEDS, Config.defaultConfig(), RandomUserInput::new, 2, MAX_TICKS);
+        int coins = outcomes.stream().mapToInt(outcome -> outcome.pickups(CollectableType.COIN)).sum();
+        assertTrue(coins > 0);
+    }
+
+    @Test
+    public void needsAThread() {
+        assertThrows(IllegalArgumentException.class,
+            () -> GameFarm.run(SEEDS, Config.defaultConfig(), RandomUserInput::new, 0));
+    }
+}
@@ -0,0 +1,63 @@
+package edu.kit.cargame.headless;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.replay.RecordingUserInput;
+import edu.kit.cargame.io.replay.Replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestReplay {
+    private static final long MAX_TICKS = 3000;
+
+    private static GameOutcome record(Config config, ByteArrayOutputStream file) throws IOException {
+        CarSettings carSettings = new CarSettings(CarType.SPORT, ColorOptions.BLUE);
+        RecordingUserInput input = new RecordingUserInput(new RandomUserInput(7));
+        Game game = new Game(input, carSettings, config, new MetaData(config.worldHeight(), config.worldWidth()), true);
+        long ticks = 0;
+        while (!game.isGameOver() && ticks < MAX_TICKS) {
+            game.tick();
+            ticks++;
+        }
+        input.toReplay(game, carSettings).write(file);
+        return GameOutcome.of(game.getSeed(), game, ticks);
+    }
+
+    @Test
+    public void replayReproducesTheGame() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        GameOutcome recorded = record(Config.defaultConfig().withOverrides(Map.of("SEED", 5L)), file);
+        Replay replay = Replay.read(new ByteArrayInputStream(file.toByteArray()));
+
+        assertEquals(recorded, GameFarm.simulate(replay, Long.MAX_VALUE));
+        assertEquals(recorded.ticks(), replay.getTicks());
+    }
+
+    @Test
+    public void randomSeedIsRecorded() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        GameOutcome recorded = record(Config.defaultConfig().withOverrides(Map.of("SEED", 0L)), file);
+        Replay replay = Replay.read(new ByteArrayInputStream(file.toByteArray()));
+
+        assertNotEquals(0, replay.getConfig().seed());
+        assertEquals(recorded, GameFarm.simulate(replay, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void rejectsOtherFiles() {
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+}
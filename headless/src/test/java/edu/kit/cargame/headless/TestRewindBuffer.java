@@ -0,0 +1,131 @@
+package edu.kit.cargame.headless;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.replay.RecordingUserInput;
+import edu.kit.cargame.io.replay.RewindBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestRewindBuffer {
+    private static final int TICKS = 600;
+    private static final int INTERVAL = 10;
+    private static final int REWOUND_TICKS = 90;
+    private static final CarSettings CAR_SETTINGS = new CarSettings(CarType.SPORT, ColorOptions.BLUE);
+
+    private Game game;
+    // The state hash after every tick, at the index of the tick
+    private final List<Long> hashes = new ArrayList<>();
+
+    private RewindBuffer simulate(long budgetBytes, boolean withCheckpoint) {
+        Config config = Config.defaultConfig().withOverrides(Map.of("SEED", 11L));
+        RecordingUserInput recorder = new RecordingUserInput(new RandomUserInput(3));
+        game = new Game(recorder, CAR_SETTINGS, config, new MetaData(config.worldHeight(), config.worldWidth()), true);
+        RewindBuffer rewind = withCheckpoint
+            ? new RewindBuffer(game, recorder, CAR_SETTINGS, INTERVAL, budgetBytes, REWOUND_TICKS)
+            : new RewindBuffer(game, recorder, CAR_SETTINGS, INTERVAL, budgetBytes);
+        hashes.clear();
+        hashes.add(game.hashState());
+        while (!game.isGameOver() && game.getTickCount() < TICKS) {
+            game.tick();
+            rewind.afterTick();
+            hashes.add(game.hashState());
+        }
+        return rewind;
+    }
+
+    @Test
+    public void rewindsToTheMarkerBefore() {
+        RewindBuffer rewind = simulate(RewindBuffer.DEFAULT_BUDGET_BYTES, false);
+        long expectedTick = (game.getTickCount() - REWOUND_TICKS) / INTERVAL * INTERVAL;
+
+        Game restored = rewind.rewind(REWOUND_TICKS, new RandomUserInput(5));
+
+        assertEquals(expectedTick, restored.getTickCount());
+        assertEquals(hashes.get((int) expectedTick), restored.hashState());
+        assertEquals(restored, rewind.getGame());
+        // Without a checkpoint, the game is simulated again from its start
+        assertEquals(expectedTick, rewind.getLastRestoreTicks());
+    }
+
+    @Test
+    public void rewindsFromTheCheckpoint() {
+        RewindBuffer rewind = simulate(RewindBuffer.DEFAULT_BUDGET_BYTES, true);
+        Game restored = rewind.rewind(REWOUND_TICKS, new RandomUserInput(5));
+        assertTrue(rewind.getLastRestoreTicks() < INTERVAL);
+        assertEquals(hashes.get((int) restored.getTickCount()), restored.hashState());
+
+        // Further back than the checkpoint, the game is simulated again from its start
+        rewind = simulate(RewindBuffer.DEFAULT_BUDGET_BYTES, true);
+        restored = rewind.rewind(3 * REWOUND_TICKS, new RandomUserInput(5));
+        assertEquals(restored.getTickCount(), rewind.getLastRestoreTicks());
+        assertEquals(hashes.get((int) restored.getTickCount()), restored.hashState());
+    }
+
+    @Test
+    public void restoredGameKeepsTakingMarkers() {
+        for (boolean withCheckpoint : new boolean[]{false, true}) {
+            RewindBuffer rewind = simulate(RewindBuffer.DEFAULT_BUDGET_BYTES, withCheckpoint);
+            Game restored = rewind.rewind(REWOUND_TICKS, new RandomUserInput(5));
+            for (int i = 0; i < 2 * INTERVAL; i++) {
+                restored.tick();
+                rewind.afterTick();
+            }
+            long expectedHash = restored.hashState();
+
+            // The restored game took a marker after its last tick, with input recorded both before and after the rewind
+            Game again = rewind.rewind(0, new RandomUserInput(5));
+
+            assertEquals(restored.getTickCount(), again.getTickCount());
+            assertEquals(expectedHash, again.hashState());
+        }
+    }
+
+    @Test
+    public void staysWithinBudget() {
+        RewindBuffer unbounded = simulate(RewindBuffer.DEFAULT_BUDGET_BYTES, false);
+        long allBytes = unbounded.getBytes();
+        RewindBuffer bounded = simulate(allBytes / 2, false);
+
+        assertTrue(bounded.getBytes() <= allBytes / 2);
+        assertTrue(bounded.getMarkerCount() < unbounded.getMarkerCount());
+        assertTrue(bounded.getBytesPerTick() > 0);
+
+        // Rewinding further than the oldest marker ends up at the oldest one
+        RewindBuffer tiny = simulate(0, false);
+        assertEquals(1, tiny.getMarkerCount());
+        Game restored = tiny.rewind(TICKS, new RandomUserInput(5));
+        assertTrue(restored.getTickCount() > 0);
+        assertEquals(hashes.get((int) restored.getTickCount()), restored.hashState());
+    }
+
+    @Test
+    public void needsMarker() {
+        RewindBuffer rewind = new RewindBuffer(game(), new RecordingUserInput(new RandomUserInput(3)),
+            CAR_SETTINGS, INTERVAL, 0);
+
+        assertThrows(IllegalStateException.class, () -> rewind.rewind(0, new RandomUserInput(5)));
+        assertThrows(IllegalArgumentException.class, () -> new RewindBuffer(game(),
+            new RecordingUserInput(new RandomUserInput(3)), CAR_SETTINGS, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RewindBuffer(game(),
+            new RecordingUserInput(new RandomUserInput(3)), CAR_SETTINGS, INTERVAL, 0, -1));
+    }
+
+    private static Game game() {
+        Config config = Config.defaultConfig();
+        return new Game(new RandomUserInput(3), CAR_SETTINGS, config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+}
@@ -0,0 +1,113 @@
+package edu.kit.cargame.headless;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.cargame.game.common.Game;
+import edu.kit.cargame.game.playercar.CarSettings;
+import edu.kit.cargame.game.playercar.CarType;
+import edu.kit.cargame.game.playercar.ColorOptions;
+import edu.kit.cargame.io.config.Config;
+import edu.kit.cargame.io.config.MetaData;
+import edu.kit.cargame.io.input.ActionTypes;
+import edu.kit.cargame.io.replay.Replay;
+import edu.kit.cargame.io.replay.StateHashLog;
+import edu.kit.cargame.io.replay.StateHashRecorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestStateHashLog {
+    private static final long TICKS = 1000;
+    private static final int SAME_POLLS = 100;
+    private static final CarSettings CAR_SETTINGS = new CarSettings(CarType.SPORT, ColorOptions.BLUE);
+
+    @TempDir
+    private Path directory;
+
+    private static Config config(long seed) {
+        return Config.defaultConfig().withOverrides(Map.of("SEED", seed));
+    }
+
+    private static Game game(long seed) {
+        Config config = config(seed);
+        return new Game(new RandomUserInput(7), CAR_SETTINGS, config,
+            new MetaData(config.worldHeight(), config.worldWidth()), true);
+    }
+
+    // Presses nothing for the first polls, then holds the given action
+    private static Replay replay(ActionTypes heldLater) {
+        byte later = (byte) (1 << heldLater.ordinal());
+        return new Replay(config(5), CAR_SETTINGS, TICKS, new byte[] {0, later},
+            new int[] {SAME_POLLS, (int) TICKS});
+    }
+
+    private Path record(Replay replay, String name) throws IOException {
+        Path file = directory.resolve(name + StateHashLog.FILE_EXTENSION);
+        try (StateHashRecorder hashes = StateHashRecorder.create(file, replay.getConfig().seed())) {
+            GameFarm.simulate(replay, Long.MAX_VALUE, hashes);
+        }
+        return file;
+    }
+
+    @Test
+    public void equalGamesHashAlike() {
+        Game first = game(3);
+        Game second = game(3);
+        for (int i = 0; i < TICKS && !first.isGameOver(); i++) {
+            first.tick();
+            second.tick();
+            assertEquals(first.hashState(), second.hashState());
+        }
+        assertNotEquals(game(3).hashState(), game(4).hashState());
+    }
+
+    @Test
+    public void replaysDoNotDiverge() throws IOException {
+        Path first = record(replay(ActionTypes.UP), "first");
+        Path second = record(replay(ActionTypes.UP), "second");
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        assertEquals(OptionalLong.empty(), StateHashLog.firstDivergence(first, second));
+    }
+
+    @Test
+    public void findsFirstDivergedTick() throws IOException {
+        Path up = record(replay(ActionTypes.UP), "up");
+        Path down = record(replay(ActionTypes.DOWN), "down");
+
+        // The car polls its input once per tick, the first different poll is in the tick after the equal ones
+        assertEquals(OptionalLong.of(SAME_POLLS + 1), StateHashLog.firstDivergence(up, down));
+        assertEquals(OptionalLong.of(SAME_POLLS + 1), StateHashLog.firstDivergence(down, up));
+    }
+
+    @Test
+    public void shorterRunDoesNotCountAsDiverged() throws IOException {
+        Replay replay = replay(ActionTypes.UP);
+        Path full = record(replay, "full");
+        Path shortened = directory.resolve("short" + StateHashLog.FILE_EXTENSION);
+        try (StateHashRecorder hashes = StateHashRecorder.create(shortened, replay.getConfig().seed())) {
+            GameFarm.simulate(replay, SAME_POLLS, hashes);
+        }
+
+        assertEquals(OptionalLong.empty(), StateHashLog.firstDivergence(full, shortened));
+    }
+
+    @Test
+    public void rejectsOtherFiles() throws IOException {
+        Path log = record(replay(ActionTypes.UP), "log");
+        Path other = directory.resolve("other");
+        Files.write(other, List.of("no hashes in here"));
+
+        assertThrows(IOException.class, () -> StateHashLog.firstDivergence(log, other));
+    }
+}